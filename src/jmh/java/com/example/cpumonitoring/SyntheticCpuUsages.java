@@ -0,0 +1,44 @@
+package com.example.cpumonitoring;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력용 분 단위 사용률 (시드 고정)
+ * - 하루 주기의 기본 부하 + 잡음 + 가끔 발생하는 급등
+ */
+public final class SyntheticCpuUsages {
+    public static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private SyntheticCpuUsages() {
+    }
+
+    public static List<CpuUsage> minutes(int days) {
+        int count = days * 24 * 60;
+        SplittableRandom random = new SplittableRandom(42);
+        List<CpuUsage> cpuUsages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cpuUsages.add(new CpuUsage((long) i + 1, usage(random, i), START.plusMinutes(i)));
+        }
+        return cpuUsages;
+    }
+
+    public static double[] values(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = usage(random, i);
+        }
+        return values;
+    }
+
+    private static double usage(SplittableRandom random, int minute) {
+        double daily = 20 + 15 * Math.sin(2 * Math.PI * (minute % 1440) / 1440.0);
+        double spike = random.nextInt(500) == 0 ? 60 : 0;
+        return Math.min(100, Math.max(0, daily + random.nextDouble(-5, 5) + spike));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.SyntheticCpuUsages;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import com.example.cpumonitoring.model.CpuUsageStats;
+import com.example.cpumonitoring.model.UsageHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 분 단위 사용률 -> 시/일 단위 통계 집계 경로
+ * - groupingByHour / groupingByDay : 원본 List 를 groupingBy + TreeMap + DoubleSummaryStatistics 로 묶는 방식 (비교 기준)
+ * - rollupByHour / rollupByDay : 집계 테이블 누적(CpuUsageRollup.accumulate)과 같은 방식
+ * - bucketByHour / bucketByDay : 버킷 번호 계산 + primitive 배열 누적 (CpuUsageBucketAggregator, 한 번 순회)
+ * - step / lttb : /range 다운샘플러, histogram : 백분위수용 사용률 분포
+ */
+@State(Scope.Benchmark)
+public class CpuUsageAggregationBenchmark {
+
+    // 1일, 1주, 30일, 1년
+    @Param({"1", "7", "30", "365"})
+    private int days;
+
+    private List<CpuUsage> cpuUsages;
+    private LocalDateTime end;
+
+    @Setup
+    public void setUp() {
+        cpuUsages = SyntheticCpuUsages.minutes(days);
+        end = cpuUsages.get(cpuUsages.size() - 1).getTimestamp();
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, CpuUsageStats> groupingByHour() {
+        return cpuUsages.stream()
+                .collect(Collectors.groupingBy(cpuUsage -> cpuUsage.getTimestamp().truncatedTo(ChronoUnit.HOURS),
+                        TreeMap::new, Collectors.summarizingDouble(CpuUsage::getCpuUsage)))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toStats(entry.getValue()),
+                        (first, second) -> first, TreeMap::new));
+    }
+
+    @Benchmark
+    public Map<LocalDate, CpuUsageStats> groupingByDay() {
+        return cpuUsages.stream()
+                .collect(Collectors.groupingBy(cpuUsage -> cpuUsage.getTimestamp().toLocalDate(),
+                        TreeMap::new, Collectors.summarizingDouble(CpuUsage::getCpuUsage)))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> toStats(entry.getValue()),
+                        (first, second) -> first, TreeMap::new));
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, CpuUsageStats> rollupByHour() {
+        Map<LocalDateTime, CpuUsageHour> hours = new TreeMap<>();
+        for (CpuUsage cpuUsage : cpuUsages) {
+            hours.computeIfAbsent(cpuUsage.getTimestamp().truncatedTo(ChronoUnit.HOURS), CpuUsageHour::new)
+                    .accumulate(cpuUsage.getCpuUsage());
+        }
+        Map<LocalDateTime, CpuUsageStats> stats = new TreeMap<>();
+        hours.forEach((hour, rollup) -> stats.put(hour, rollup.toStats()));
+        return stats;
+    }
+
+    @Benchmark
+    public Map<LocalDate, CpuUsageStats> rollupByDay() {
+        Map<LocalDate, CpuUsageDay> days = new TreeMap<>();
+        for (CpuUsage cpuUsage : cpuUsages) {
+            days.computeIfAbsent(cpuUsage.getTimestamp().toLocalDate(), CpuUsageDay::new)
+                    .accumulate(cpuUsage.getCpuUsage());
+        }
+        Map<LocalDate, CpuUsageStats> stats = new TreeMap<>();
+        days.forEach((day, rollup) -> stats.put(day, rollup.toStats()));
+        return stats;
+    }
+
+    @Benchmark
+    public Object bucketByHour() {
+        CpuUsageBucketAggregator hours = new CpuUsageBucketAggregator(SyntheticCpuUsages.START, end,
+                Duration.ofHours(1), false);
+        cpuUsages.forEach(hours::add);
+        return hours.toBucketStats();
+    }
+
+    @Benchmark
+    public Object bucketByDay() {
+        CpuUsageBucketAggregator days = new CpuUsageBucketAggregator(SyntheticCpuUsages.START, end,
+                Duration.ofDays(1), false);
+        cpuUsages.forEach(days::add);
+        return days.toBucketStats();
+    }
+
+    @Benchmark
+    public Object stepDownsample() {
+        StepDownsampler downsampler = new StepDownsampler(Duration.ofMinutes(15));
+        cpuUsages.forEach(downsampler);
+        return downsampler.finish();
+    }
+
+    @Benchmark
+    public Object lttbDownsample() {
+        LttbDownsampler downsampler = new LttbDownsampler(SyntheticCpuUsages.START, end, 500);
+        cpuUsages.forEach(downsampler);
+        return downsampler.finish();
+    }
+
+    @Benchmark
+    public double histogramP99() {
+        UsageHistogram histogram = new UsageHistogram();
+        for (CpuUsage cpuUsage : cpuUsages) {
+            histogram.add(cpuUsage.getCpuUsage());
+        }
+        return histogram.quantile(0.99, 0, 100);
+    }
+
+    private static CpuUsageStats toStats(DoubleSummaryStatistics statistics) {
+        double averageUsage = Math.round(statistics.getAverage() * 100.0) / 100.0;
+        return new CpuUsageStats(statistics.getMin(), statistics.getMax(), averageUsage);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.cpumonitoring.model;
+
+import com.example.cpumonitoring.SyntheticCpuUsages;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 분/시/일 단위 조회 응답의 JSON 직렬화 (Spring Boot 기본 ObjectMapper 설정)
+ * - 분 단위 : days x 1440건, 시 단위 : days x 24건, 일 단위 : days 건
+ */
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    // 1일, 1주, 30일, 1년
+    @Param({"1", "7", "30", "365"})
+    private int days;
+
+    private ObjectMapper objectMapper;
+    private CpuUsageMinuteResponse minuteResponse;
+    private CpuUsageHourResponse hourResponse;
+    private CpuUsageDateResponse dayResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<CpuUsage> cpuUsages = SyntheticCpuUsages.minutes(days);
+        LocalDateTime start = SyntheticCpuUsages.START;
+        LocalDateTime end = cpuUsages.get(cpuUsages.size() - 1).getTimestamp();
+
+        Map<LocalDateTime, CpuUsageStats> hours = new TreeMap<>();
+        for (int hour = 0; hour < days * 24; hour++) {
+            hours.put(start.plusHours(hour), new CpuUsageStats(3.12, 87.4, 21.35, 19.75, 52.25, 78.5));
+        }
+        Map<LocalDate, CpuUsageStats> dates = new TreeMap<>();
+        for (int day = 0; day < days; day++) {
+            dates.put(start.toLocalDate().plusDays(day), new CpuUsageStats(1.02, 97.3, 20.41, 19.25, 55.75, 81.5));
+        }
+
+        minuteResponse = new CpuUsageMinuteResponse(cpuUsages, start, end);
+        hourResponse = new CpuUsageHourResponse(hours, start.toLocalDate(), end.toLocalDate());
+        dayResponse = new CpuUsageDateResponse(dates, start.toLocalDate(), end.toLocalDate());
+    }
+
+    @Benchmark
+    public byte[] minuteResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(minuteResponse);
+    }
+
+    @Benchmark
+    public byte[] hourResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hourResponse);
+    }
+
+    @Benchmark
+    public byte[] dayResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dayResponse);
+    }
+}
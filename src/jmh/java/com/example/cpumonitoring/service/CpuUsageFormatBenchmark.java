@@ -0,0 +1,32 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.SyntheticCpuUsages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 수집한 사용률 포맷 (소수점 둘째자리 반올림) - 샘플마다 호출
+ */
+@State(Scope.Benchmark)
+public class CpuUsageFormatBenchmark {
+    private static final int SAMPLES = 1024;
+
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        values = SyntheticCpuUsages.values(SAMPLES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void formatCpuUsage(Blackhole blackhole) {
+        for (double value : values) {
+            blackhole.consume(CpuUsageService.formatCpuUsage(value));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.cpumonitoring.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 컬럼 기반 바이너리 포맷을 읽은 결과 (값 없음은 NaN)
+ */
+@AllArgsConstructor
+@Getter
+public class ColumnarSeries {
+    private byte kind;
+    private long rangeStart;
+    private long rangeEnd;
+    private long[] epochSeconds;
+    private Map<Byte, double[]> columns;
+}
@@ -0,0 +1,36 @@
+package com.example.cpumonitoring.codec;
+
+/**
+ * 시계열 응답의 컬럼 기반 바이너리 포맷 (application/x-cpu-usage-columnar) 상수
+ *
+ * <pre>
+ * magic 'C' 'S' | version | kind | rangeStart | rangeEnd | count | columnCount
+ * timestamps : 첫 시각, 첫 간격, 이후 간격 변화량 (delta-of-delta)
+ * columns    : (tag, count 개의 unsigned short) x columnCount
+ * </pre>
+ * - 시각은 로컬 시각을 UTC 로 간주한 epoch second, 정수는 모두 zigzag varint
+ * - 사용률은 소수점 둘째자리까지 반올림된 값이므로 x100 한 unsigned short (0 ~ 655.34), 값 없음은 0xFFFF
+ */
+public final class ColumnarSeriesFormat {
+    public static final String MEDIA_TYPE = "application/x-cpu-usage-columnar";
+
+    public static final byte MAGIC_0 = 'C';
+    public static final byte MAGIC_1 = 'S';
+    public static final byte VERSION = 1;
+
+    public static final byte KIND_MINUTE = 1;
+    public static final byte KIND_HOUR = 2;
+    public static final byte KIND_DAY = 3;
+
+    public static final byte COLUMN_USAGE = 1;
+    public static final byte COLUMN_MIN = 2;
+    public static final byte COLUMN_MAX = 3;
+    public static final byte COLUMN_AVERAGE = 4;
+
+    static final int SCALE = 100;
+    static final int MISSING = 0xFFFF;
+    static final int MAX_SCALED = MISSING - 1;
+
+    private ColumnarSeriesFormat() {
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.cpumonitoring.codec;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageDateResponse;
+import com.example.cpumonitoring.model.CpuUsageHourResponse;
+import com.example.cpumonitoring.model.CpuUsageMinuteResponse;
+import com.example.cpumonitoring.model.CpuUsageStats;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.cpumonitoring.codec.ColumnarSeriesFormat.*;
+
+/**
+ * 분/시/일 단위 응답을 Accept: application/x-cpu-usage-columnar 요청 시 컬럼 기반 바이너리로 변환
+ * - 응답 전용 (요청 본문 읽기 미지원)
+ */
+public class ColumnarSeriesHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public ColumnarSeriesHttpMessageConverter() {
+        super(MediaType.parseMediaType(MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CpuUsageMinuteResponse.class.isAssignableFrom(clazz)
+                || CpuUsageHourResponse.class.isAssignableFrom(clazz)
+                || CpuUsageDateResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar series payloads are response-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputMessage.getBody());
+        ColumnarSeriesWriter writer = new ColumnarSeriesWriter(out);
+        if (response instanceof CpuUsageMinuteResponse minuteResponse) {
+            writeMinute(writer, minuteResponse);
+        } else if (response instanceof CpuUsageHourResponse hourResponse) {
+            writeHour(writer, hourResponse);
+        } else {
+            writeDay(writer, (CpuUsageDateResponse) response);
+        }
+        out.flush();
+    }
+
+    private static void writeMinute(ColumnarSeriesWriter writer, CpuUsageMinuteResponse response) throws IOException {
+        List<CpuUsage> cpuUsages = response.getCpuUsage();
+        int count = cpuUsages.size();
+        long[] timestamps = new long[count];
+        double[] usages = new double[count];
+        double[] minUsages = new double[count];
+        double[] maxUsages = new double[count];
+        boolean summarized = false;
+        for (int i = 0; i < count; i++) {
+            CpuUsage cpuUsage = cpuUsages.get(i);
+            timestamps[i] = toEpochSecond(cpuUsage.getTimestamp());
+            usages[i] = cpuUsage.getCpuUsage();
+            // 고빈도 수집 모드의 분 단위 최소/최대 (없는 행은 값 없음)
+            minUsages[i] = cpuUsage.getMinUsage() == null ? Double.NaN : cpuUsage.getMinUsage();
+            maxUsages[i] = cpuUsage.getMaxUsage() == null ? Double.NaN : cpuUsage.getMaxUsage();
+            summarized |= cpuUsage.getMinUsage() != null;
+        }
+
+        writer.writeHeader(KIND_MINUTE, toEpochSecond(response.getStartTime()), toEpochSecond(response.getEndTime()),
+                count, summarized ? 3 : 1);
+        writer.writeTimestamps(timestamps, count);
+        writer.writeColumn(COLUMN_USAGE, usages, count);
+        if (summarized) {
+            writer.writeColumn(COLUMN_MIN, minUsages, count);
+            writer.writeColumn(COLUMN_MAX, maxUsages, count);
+        }
+    }
+
+    private static void writeHour(ColumnarSeriesWriter writer, CpuUsageHourResponse response) throws IOException {
+        Map<LocalDateTime, CpuUsageStats> stats = response.getCpuUsage();
+        long[] timestamps = new long[stats.size()];
+        int i = 0;
+        for (LocalDateTime bucket : stats.keySet()) {
+            timestamps[i++] = toEpochSecond(bucket);
+        }
+        writer.writeHeader(KIND_HOUR, toEpochSecond(response.getStartDate()), toEpochSecond(response.getEndDate()),
+                stats.size(), 3);
+        writer.writeTimestamps(timestamps, stats.size());
+        writeStatsColumns(writer, stats.values(), stats.size());
+    }
+
+    private static void writeDay(ColumnarSeriesWriter writer, CpuUsageDateResponse response) throws IOException {
+        Map<LocalDate, CpuUsageStats> stats = response.getCpuUsage();
+        long[] timestamps = new long[stats.size()];
+        int i = 0;
+        for (LocalDate bucket : stats.keySet()) {
+            timestamps[i++] = toEpochSecond(bucket);
+        }
+        writer.writeHeader(KIND_DAY, toEpochSecond(response.getStartDate()), toEpochSecond(response.getEndDate()),
+                stats.size(), 3);
+        writer.writeTimestamps(timestamps, stats.size());
+        writeStatsColumns(writer, stats.values(), stats.size());
+    }
+
+    private static void writeStatsColumns(ColumnarSeriesWriter writer, Iterable<CpuUsageStats> stats, int count) throws IOException {
+        double[] minUsages = new double[count];
+        double[] maxUsages = new double[count];
+        double[] averageUsages = new double[count];
+        int i = 0;
+        for (CpuUsageStats stat : stats) {
+            minUsages[i] = stat.getMinUsage();
+            maxUsages[i] = stat.getMaxUsage();
+            averageUsages[i] = stat.getAverageUsage();
+            i++;
+        }
+        writer.writeColumn(COLUMN_MIN, minUsages, count);
+        writer.writeColumn(COLUMN_MAX, maxUsages, count);
+        writer.writeColumn(COLUMN_AVERAGE, averageUsages, count);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long toEpochSecond(LocalDate date) {
+        return date.toEpochDay() * 86_400L;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.cpumonitoring.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.example.cpumonitoring.codec.ColumnarSeriesFormat.*;
+
+/**
+ * 컬럼 기반 바이너리 포맷 읽기 (Java 클라이언트 및 테스트용)
+ */
+public class ColumnarSeriesReader {
+    private final InputStream in;
+
+    public ColumnarSeriesReader(InputStream in) {
+        this.in = in;
+    }
+
+    public ColumnarSeries read() throws IOException {
+        if (readByte() != MAGIC_0 || readByte() != MAGIC_1) {
+            throw new IOException("Not a columnar series payload");
+        }
+        int version = readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported columnar series version: " + version);
+        }
+        byte kind = (byte) readByte();
+        long rangeStart = unzigzag(readVarLong());
+        long rangeEnd = unzigzag(readVarLong());
+        int count = Math.toIntExact(readVarLong());
+        int columnCount = readByte();
+
+        long[] epochSeconds = new long[count];
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < count; i++) {
+            long value = unzigzag(readVarLong());
+            if (i == 0) {
+                epochSeconds[i] = value;
+            } else {
+                long delta = i == 1 ? value : previousDelta + value;
+                epochSeconds[i] = previous + delta;
+                previousDelta = delta;
+            }
+            previous = epochSeconds[i];
+        }
+
+        Map<Byte, double[]> columns = new LinkedHashMap<>();
+        for (int c = 0; c < columnCount; c++) {
+            byte tag = (byte) readByte();
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                int scaled = (readByte() << 8) | readByte();
+                values[i] = scaled == MISSING ? Double.NaN : scaled / (double) SCALE;
+            }
+            columns.put(tag, values);
+        }
+        return new ColumnarSeries(kind, rangeStart, rangeEnd, epochSeconds, columns);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
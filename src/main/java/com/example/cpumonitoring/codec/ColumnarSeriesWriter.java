@@ -0,0 +1,73 @@
+package com.example.cpumonitoring.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static com.example.cpumonitoring.codec.ColumnarSeriesFormat.*;
+
+/**
+ * 시계열을 컬럼 기반 바이너리 포맷으로 기록 (헤더 → 시각 컬럼 → 값 컬럼 순서)
+ */
+public class ColumnarSeriesWriter {
+    private final OutputStream out;
+
+    public ColumnarSeriesWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeHeader(byte kind, long rangeStart, long rangeEnd, int count, int columnCount) throws IOException {
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION);
+        out.write(kind);
+        writeVarLong(zigzag(rangeStart));
+        writeVarLong(zigzag(rangeEnd));
+        writeVarLong(count);
+        out.write(columnCount);
+    }
+
+    // 일정 간격이면 3번째 값부터 1바이트(0)씩
+    public void writeTimestamps(long[] epochSeconds, int count) throws IOException {
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < count; i++) {
+            long value = epochSeconds[i];
+            if (i == 0) {
+                writeVarLong(zigzag(value));
+            } else {
+                long delta = value - previous;
+                writeVarLong(zigzag(i == 1 ? delta : delta - previousDelta));
+                previousDelta = delta;
+            }
+            previous = value;
+        }
+    }
+
+    // NaN 은 값 없음, 범위 밖 값은 0 ~ 655.34 로 제한
+    public void writeColumn(byte tag, double[] values, int count) throws IOException {
+        out.write(tag);
+        for (int i = 0; i < count; i++) {
+            int scaled;
+            if (Double.isNaN(values[i])) {
+                scaled = MISSING;
+            } else {
+                long rounded = Math.round(values[i] * SCALE);
+                scaled = (int) Math.max(0, Math.min(MAX_SCALED, rounded));
+            }
+            out.write(scaled >>> 8);
+            out.write(scaled);
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
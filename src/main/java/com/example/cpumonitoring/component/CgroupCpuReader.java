@@ -0,0 +1,216 @@
+package com.example.cpumonitoring.component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * cgroup v2 기반 컨테이너 CPU 사용률 계산 (Linux)
+ * - cpu.max, cpu.stat, cpu.pressure 파일을 열어둔 채 매 수집마다 처음부터 다시 읽어 재사용 버퍼로 파싱
+ * - 사용률은 직전 수집 대비 usage_usec 증가분을 할당량(quota / period, 제한 없으면 CPU 수) 기준 백분율로 계산
+ * - throttling(nr_throttled, throttled_usec)과 PSI(cpu.pressure 의 some total)는
+ *   takeStats() 호출 간 증가분으로 계산해 분 단위 저장 시점에 한 번에 가져감
+ * - 첫 수집은 비교할 이전 값이 없으므로 -1 반환
+ */
+public class CgroupCpuReader implements Closeable {
+    private static final byte[] MAX = "max".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] USAGE_USEC = "usage_usec".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NR_THROTTLED = "nr_throttled".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] THROTTLED_USEC = "throttled_usec".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SOME = "some".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TOTAL = "total=".getBytes(StandardCharsets.US_ASCII);
+
+    private final RandomAccessFile cpuMax;
+    private final RandomAccessFile cpuStat;
+    private final RandomAccessFile cpuPressure;
+    private final int availableProcessors;
+    private byte[] buffer = new byte[1024];
+    private int length;
+
+    // 사용률 계산용 직전 값 (read 호출 간)
+    private long previousUsageUsec = -1;
+    private long previousReadNanos;
+
+    // throttling, PSI 계산용 직전 값 (takeStats 호출 간)
+    private long statsNrThrottled = -1;
+    private long statsThrottledUsec;
+    private long statsPressureTotal;
+    private long statsNanos;
+
+    // 마지막으로 읽은 누적값
+    private long nrThrottled;
+    private long throttledUsec;
+    private long pressureTotal = -1;
+
+    public CgroupCpuReader(String cgroupRoot) throws IOException {
+        Path root = Path.of(cgroupRoot);
+        this.cpuMax = openIfExists(root.resolve("cpu.max"));
+        this.cpuStat = new RandomAccessFile(root.resolve("cpu.stat").toFile(), "r");
+        this.cpuPressure = openIfExists(root.resolve("cpu.pressure"));
+        this.availableProcessors = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * cgroup 파일을 다시 읽고 직전 수집 대비 사용률 계산
+     * @return 할당량 대비 CPU 사용률(%), 첫 수집이면 -1
+     */
+    public double read() throws IOException {
+        long now = System.nanoTime();
+        double quotaCores = readQuotaCores();
+
+        readFully(cpuStat);
+        long usageUsec = findValue(USAGE_USEC, 0);
+        nrThrottled = findValue(NR_THROTTLED, 0);
+        throttledUsec = findValue(THROTTLED_USEC, 0);
+
+        if (cpuPressure != null) {
+            readFully(cpuPressure);
+            int some = findLine(SOME);
+            int total = some < 0 ? -1 : indexOf(TOTAL, some);
+            pressureTotal = total < 0 ? -1 : parseLong(total + TOTAL.length);
+        }
+
+        double usage = -1;
+        if (previousUsageUsec >= 0) {
+            double elapsedUsec = (now - previousReadNanos) / 1000.0;
+            if (elapsedUsec > 0) {
+                usage = round((usageUsec - previousUsageUsec) * 100.0 / (elapsedUsec * quotaCores));
+            }
+        }
+        previousUsageUsec = usageUsec;
+        previousReadNanos = now;
+        return usage;
+    }
+
+    /**
+     * 직전 takeStats 호출 이후의 throttling, PSI 증가분
+     * @return 첫 호출이거나 아직 수집 전이면 null
+     */
+    public CgroupCpuStats takeStats() {
+        if (previousUsageUsec < 0) {
+            return null;
+        }
+        long now = previousReadNanos;
+        CgroupCpuStats stats = null;
+        if (statsNrThrottled >= 0) {
+            Double pressure = null;
+            double elapsedUsec = (now - statsNanos) / 1000.0;
+            if (pressureTotal >= 0 && elapsedUsec > 0) {
+                pressure = round((pressureTotal - statsPressureTotal) * 100.0 / elapsedUsec);
+            }
+            stats = new CgroupCpuStats(nrThrottled - statsNrThrottled, throttledUsec - statsThrottledUsec, pressure);
+        }
+        statsNrThrottled = nrThrottled;
+        statsThrottledUsec = throttledUsec;
+        statsPressureTotal = pressureTotal;
+        statsNanos = now;
+        return stats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        cpuStat.close();
+        if (cpuMax != null) {
+            cpuMax.close();
+        }
+        if (cpuPressure != null) {
+            cpuPressure.close();
+        }
+    }
+
+    // cpu.max : "$MAX $PERIOD" (제한 없으면 "max 100000")
+    private double readQuotaCores() throws IOException {
+        if (cpuMax == null) {
+            return availableProcessors;
+        }
+        readFully(cpuMax);
+        if (startsWith(MAX, 0)) {
+            return availableProcessors;
+        }
+        int cursor = 0;
+        long quota = parseLong(cursor);
+        while (cursor < length && buffer[cursor] != ' ') {
+            cursor++;
+        }
+        long period = parseLong(cursor + 1);
+        return quota > 0 && period > 0 ? (double) quota / period : availableProcessors;
+    }
+
+    private void readFully(RandomAccessFile file) throws IOException {
+        file.seek(0);
+        length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = file.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                return;
+            }
+            length += read;
+        }
+    }
+
+    // "key value" 형식의 줄에서 값 찾기
+    private long findValue(byte[] key, long defaultValue) {
+        int line = findLine(key);
+        return line < 0 ? defaultValue : parseLong(line + key.length + 1);
+    }
+
+    // key 로 시작하고 뒤에 공백이 오는 줄의 시작 위치
+    private int findLine(byte[] key) {
+        int position = 0;
+        while (position < length) {
+            if (startsWith(key, position) && position + key.length < length && buffer[position + key.length] == ' ') {
+                return position;
+            }
+            while (position < length && buffer[position] != '\n') {
+                position++;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    // from 부터 같은 줄 안에서 token 위치
+    private int indexOf(byte[] token, int from) {
+        for (int position = from; position < length && buffer[position] != '\n'; position++) {
+            if (startsWith(token, position)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private boolean startsWith(byte[] token, int position) {
+        if (position + token.length > length) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            if (buffer[position + i] != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseLong(int position) {
+        long value = 0;
+        while (position < length && buffer[position] >= '0' && buffer[position] <= '9') {
+            value = value * 10 + (buffer[position++] - '0');
+        }
+        return value;
+    }
+
+    private static RandomAccessFile openIfExists(Path path) throws IOException {
+        return Files.isReadable(path) ? new RandomAccessFile(path.toFile(), "r") : null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수집 구간 동안의 cgroup throttling 및 CPU pressure(PSI)
+ */
+@AllArgsConstructor
+@Getter
+public class CgroupCpuStats {
+    // throttling 된 period 수
+    private long throttledPeriods;
+    // throttling 된 시간 (마이크로초)
+    private long throttledUsec;
+    // 일부 태스크가 CPU 를 기다리며 지연된 시간 비율(%), cpu.pressure 가 없으면 null
+    private Double cpuPressure;
+}
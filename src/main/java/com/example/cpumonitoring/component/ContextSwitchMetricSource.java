@@ -0,0 +1,63 @@
+package com.example.cpumonitoring.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 초당 context switch 수 (/proc/stat 의 ctxt 증가분, Linux)
+@Slf4j
+@Component
+public class ContextSwitchMetricSource implements MetricSource {
+    private final Path procStatPath;
+
+    private long previousSwitches = -1;
+    private long previousNanos;
+
+    public ContextSwitchMetricSource(@Value("${cpumonitoring.collector.proc-stat-path:/proc/stat}") String procStatPath) {
+        this.procStatPath = Path.of(procStatPath);
+    }
+
+    @Override
+    public String getName() {
+        return "system.context.switches";
+    }
+
+    @Override
+    public synchronized double sample() {
+        long switches = readContextSwitches();
+        long now = System.nanoTime();
+        if (switches < 0) {
+            return Double.NaN;
+        }
+
+        double rate = Double.NaN;
+        if (previousSwitches >= 0 && now > previousNanos) {
+            rate = Math.round((switches - previousSwitches) * 1e9 / (now - previousNanos) * 100.0) / 100.0;
+        }
+        previousSwitches = switches;
+        previousNanos = now;
+        return rate;
+    }
+
+    private long readContextSwitches() {
+        if (!Files.isReadable(procStatPath)) {
+            return -1;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(procStatPath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("ctxt ")) {
+                    return Long.parseLong(line.substring(5).trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Failed to read context switches from {}: {}", procStatPath, e.getMessage());
+        }
+        return -1;
+    }
+}
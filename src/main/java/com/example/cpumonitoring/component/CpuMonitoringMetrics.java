@@ -0,0 +1,159 @@
+package com.example.cpumonitoring.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 수집/저장/조회 경로 지표 (actuator /actuator/metrics, /actuator/prometheus)
+ * - cpumonitoring.collect : 수집기 1회 읽기 시간
+ * - cpumonitoring.store.save / .rows : 배치 저장 시간과 배치 건수
+ * - cpumonitoring.store.dropped : write-behind 큐가 가득 차 overflow 정책으로 버린 사용률 건수
+ * - cpumonitoring.ingest / .rows : 에이전트 사용률 수신 요청의 배치 저장 시간과 건수
+ * - cpumonitoring.store.query / .rows (query 태그) : 저장소 조회 시간과 조회 건수
+ * - cpumonitoring.aggregation (stage 태그) : 조회 후 통계 변환, 캐시, 축소 단계별 시간
+ * - cpumonitoring.sample.age : 마지막 사용률 수집 이후 경과 시간 (초, 수집 전 NaN)
+ * - 미터는 생성 시 또는 태그 값별 첫 기록 시 한 번만 등록하고 이후에는 등록한 미터에 바로 기록
+ * - 백분위수와 히스토그램 버킷은 management.metrics.distribution 설정 (application.yml)
+ */
+@Component
+public class CpuMonitoringMetrics {
+    private static final String COLLECT = "cpumonitoring.collect";
+    private static final String STORE_SAVE = "cpumonitoring.store.save";
+    private static final String STORE_DROPPED = "cpumonitoring.store.dropped";
+    private static final String INGEST = "cpumonitoring.ingest";
+    private static final String STORE_QUERY = "cpumonitoring.store.query";
+    private static final String AGGREGATION = "cpumonitoring.aggregation";
+    private static final String SAMPLE_AGE = "cpumonitoring.sample.age";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer collectTimer;
+    private final Timer saveTimer;
+    private final DistributionSummary saveRows;
+    private final Counter droppedSamples;
+    private final Timer ingestTimer;
+    private final DistributionSummary ingestRows;
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> queryRows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    // 마지막 수집 시각 (epoch ms, 수집 전 0)
+    private final AtomicLong lastSampleMillis = new AtomicLong();
+
+    public CpuMonitoringMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.collectTimer = Timer.builder(COLLECT)
+                .description("CPU usage collector read time")
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry);
+        this.saveTimer = Timer.builder(STORE_SAVE)
+                .description("CPU usage batch save time")
+                .register(meterRegistry);
+        this.saveRows = DistributionSummary.builder(STORE_SAVE + ".rows")
+                .description("CPU usage rows per batch save")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.droppedSamples = Counter.builder(STORE_DROPPED)
+                .description("CPU usage samples dropped because the write-behind queue was full")
+                .baseUnit("samples")
+                .register(meterRegistry);
+        this.ingestTimer = Timer.builder(INGEST)
+                .description("Host CPU usage ingest batch save time")
+                .register(meterRegistry);
+        this.ingestRows = DistributionSummary.builder(INGEST + ".rows")
+                .description("Host CPU usage rows per ingest request")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        Gauge.builder(SAMPLE_AGE, this, CpuMonitoringMetrics::getLastSampleAgeSeconds)
+                .description("Seconds since the last CPU usage sample")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T timeCollect(Supplier<T> collect) {
+        return collectTimer.record(collect);
+    }
+
+    public void recordSave(long elapsedNanos, int rows) {
+        saveTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        saveRows.record(rows);
+    }
+
+    public void recordDrop() {
+        droppedSamples.increment();
+    }
+
+    public void recordIngest(long elapsedNanos, int rows) {
+        ingestTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        ingestRows.record(rows);
+    }
+
+    /**
+     * 저장소 조회 시간과 조회 건수 기록
+     * @param query 조회 이름 (query 태그)
+     * @param find 조회
+     * @return 조회 결과
+     */
+    public <T> List<T> timeQuery(String query, Supplier<List<T>> find) {
+        long start = System.nanoTime();
+        List<T> rows = find.get();
+        recordQuery(query, System.nanoTime() - start, rows.size());
+        return rows;
+    }
+
+    public void recordQuery(String query, long elapsedNanos, long rows) {
+        queryTimers.computeIfAbsent(query, key -> Timer.builder(STORE_QUERY)
+                        .description("CPU usage store query time")
+                        .tag("query", key)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        queryRows.computeIfAbsent(query, key -> DistributionSummary.builder(STORE_QUERY + ".rows")
+                        .description("Rows returned per CPU usage store query")
+                        .baseUnit("rows")
+                        .tag("query", key)
+                        .register(meterRegistry))
+                .record(rows);
+    }
+
+    /**
+     * 집계 단계 시간 기록
+     * @param stage 단계 이름 (stage 태그)
+     * @param work 단계 처리
+     * @return 처리 결과
+     */
+    public <T> T timeStage(String stage, Supplier<T> work) {
+        return stageTimer(stage).record(work);
+    }
+
+    public void timeStage(String stage, Runnable work) {
+        stageTimer(stage).record(work);
+    }
+
+    private Timer stageTimer(String stage) {
+        return stageTimers.computeIfAbsent(stage, key -> Timer.builder(AGGREGATION)
+                .description("CPU usage aggregation stage time")
+                .tag("stage", key)
+                .register(meterRegistry));
+    }
+
+    // 사용률 수집 시각 기록 (cpumonitoring.sample.age 기준)
+    public void markSample() {
+        lastSampleMillis.set(System.currentTimeMillis());
+    }
+
+    double getLastSampleAgeSeconds() {
+        long last = lastSampleMillis.get();
+        return last == 0 ? Double.NaN : (System.currentTimeMillis() - last) / 1000.0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.cpumonitoring.component;
+
+import lombok.Getter;
+
+/**
+ * 1분 동안 고빈도로 수집한 사용률의 최소, 최대, 합계, 건수, 마지막 값
+ * - 저장은 평균(합계 / 건수)과 최소/최대/건수, 마지막 값은 분이 끝날 때의 순간 사용률 (분 단위 수집 모드의 값과 같은 의미)
+ */
+@Getter
+public class CpuUsageAccumulator {
+    private double minUsage;
+    private double maxUsage;
+    private double sumUsage;
+    private int sampleCount;
+    private double lastUsage;
+
+    public void add(double cpuUsage) {
+        if (sampleCount == 0) {
+            minUsage = cpuUsage;
+            maxUsage = cpuUsage;
+        } else {
+            minUsage = Math.min(minUsage, cpuUsage);
+            maxUsage = Math.max(maxUsage, cpuUsage);
+        }
+        sumUsage += cpuUsage;
+        sampleCount++;
+        lastUsage = cpuUsage;
+    }
+
+    public double getAverageUsage() {
+        return sampleCount == 0 ? 0 : sumUsage / sampleCount;
+    }
+
+    public boolean isEmpty() {
+        return sampleCount == 0;
+    }
+}
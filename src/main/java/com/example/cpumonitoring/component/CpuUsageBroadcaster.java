@@ -0,0 +1,213 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageStreamStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 새로 수집한 사용률을 SSE 구독자들에게 전달
+ * - 발행 시 한 번만 JSON 직렬화 후 구독자별 버퍼에 넣기만 하고 반환 (DB 조회, 소켓 쓰기 없음)
+ * - 구독자별 버퍼는 크기 고정, 가득 차면 가장 오래된 이벤트를 버림
+ * - 전송은 전용 스레드 풀에서 구독자당 최대 1개 작업으로 처리해 느린 구독자가 다른 구독자를 막지 않음
+ * - 전송 1건이 send-timeout-ms 를 넘겨 막혀 있으면 구독자를 끊고 전송 스레드를 깨워 풀에 돌려줌
+ */
+@Slf4j
+@Component
+public class CpuUsageBroadcaster {
+    private static final String EVENT_NAME = "cpu-usage";
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutNanos;
+    private final ExecutorService dispatcher;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong stalledClients = new AtomicLong();
+
+    public CpuUsageBroadcaster(ObjectMapper objectMapper,
+                               @Value("${cpumonitoring.stream.buffer-size:64}") int bufferSize,
+                               @Value("${cpumonitoring.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                               @Value("${cpumonitoring.stream.dispatch-threads:4}") int dispatchThreads,
+                               @Value("${cpumonitoring.stream.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "cpu-usage-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 새 구독자 등록, 연결 종료/타임아웃/오류 시 자동 해제
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, new DropOldestBuffer<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("SSE subscriber connected ({} connected)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 사용률 1건을 모든 구독자에게 발행
+     * @param cpuUsage 새로 수집한 사용률
+     */
+    public void publish(CpuUsage cpuUsage) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(cpuUsage);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize CPU usage for SSE: {}", e.getMessage());
+            return;
+        }
+        Event event = new Event(publishedEvents.incrementAndGet(), data);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.buffer.offer(event)) {
+                droppedEvents.incrementAndGet();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    public CpuUsageStreamStats getStats() {
+        return new CpuUsageStreamStats(subscribers.size(), publishedEvents.get(), droppedEvents.get(),
+                stalledClients.get());
+    }
+
+    /**
+     * 전송이 send-timeout-ms 넘게 막힌 구독자 정리
+     * - 구독 해제 후 연결을 닫고, 막힌 전송 스레드를 interrupt 해 다른 구독자 전송에 쓰이도록 함
+     */
+    @Scheduled(fixedDelayString = "${cpumonitoring.stream.send-timeout-ms:10000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            synchronized (subscriber) {
+                if (subscriber.sender == null || now - subscriber.sendStartedAt < sendTimeoutNanos
+                        || !subscribers.remove(subscriber)) {
+                    continue;
+                }
+                subscriber.sender.interrupt();
+            }
+            stalledClients.incrementAndGet();
+            subscriber.emitter.complete();
+            log.warn("SSE subscriber dropped: send blocked over {} ms ({} connected)",
+                    TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos), subscribers.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    // 구독자별 전송 작업은 동시에 하나만 실행
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Event event;
+            while (subscribers.contains(subscriber) && (event = subscriber.buffer.poll()) != null) {
+                send(subscriber, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자 : 컨테이너가 오류 콜백으로 emitter 를 정리
+            subscribers.remove(subscriber);
+            log.debug("SSE subscriber disconnected: {}", e.getMessage());
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 작업 종료 직전에 들어온 이벤트 처리
+        if (!subscriber.buffer.isEmpty() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    // 전송 중인 스레드와 시작 시각을 기록해 evictStalledSubscribers 가 막힌 전송을 찾도록 함
+    private void send(Subscriber subscriber, Event event) throws IOException {
+        synchronized (subscriber) {
+            subscriber.sender = Thread.currentThread();
+            subscriber.sendStartedAt = System.nanoTime();
+        }
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.id))
+                    .name(EVENT_NAME)
+                    .data(event.data, MediaType.APPLICATION_JSON));
+        } finally {
+            synchronized (subscriber) {
+                subscriber.sender = null;
+                // 전송이 끝난 뒤 도착한 interrupt 가 다음 구독자 전송으로 넘어가지 않도록 지움
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final DropOldestBuffer<Event> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private Thread sender;
+        private long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, DropOldestBuffer<Event> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Event {
+        private final long id;
+        private final String data;
+
+        private Event(long id, String data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
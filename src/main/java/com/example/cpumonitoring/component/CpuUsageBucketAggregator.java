@@ -0,0 +1,198 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.UsageHistogram;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 고정 폭 시간 버킷별 최소/최대/합계/건수 집계 (한 번 순회)
+ * - 버킷 번호는 epoch 초 나눗셈으로 계산 (행마다 LocalDateTime 버킷 키를 만들지 않음)
+ * - 버킷별 값은 primitive 배열에 누적하므로 할당은 행 수가 아닌 버킷 수에 비례
+ * - 버킷 경계는 폭의 배수 시각 (1시간 -> 정시, 1일 -> 자정, 15분 -> :00, :15 ...)
+ * - 시각은 LocalDateTime 을 UTC 로 환산한 값이므로 버킷 폭은 로컬 시각 기준
+ * - 원본 사용률(add) 과 이미 집계된 시/일 단위 값(merge) 모두 누적 가능
+ */
+public class CpuUsageBucketAggregator {
+    private final long startEpochSecond;
+    private final long widthSeconds;
+    private final double[] minUsages;
+    private final double[] maxUsages;
+    private final double[] sumUsages;
+    private final long[] sampleCounts;
+    // 버킷별 사용률 분포 (분포를 만들지 않으면 null, 버킷의 첫 사용률이 들어올 때 생성)
+    private final UsageHistogram[] histograms;
+
+    /**
+     * @param start 구간 시작 시각 (폭의 배수 시각으로 내림)
+     * @param end 구간 끝 시각 (포함)
+     * @param width 버킷 폭 (1초 이상)
+     * @param withHistograms 버킷별 사용률 분포 생성 여부
+     */
+    public CpuUsageBucketAggregator(LocalDateTime start, LocalDateTime end, Duration width, boolean withHistograms) {
+        this.widthSeconds = width.toSeconds();
+        if (widthSeconds <= 0) {
+            throw new IllegalArgumentException("bucket width must be at least 1 second: " + width);
+        }
+        this.startEpochSecond = Math.floorDiv(start.toEpochSecond(ZoneOffset.UTC), widthSeconds) * widthSeconds;
+        long buckets = end.isBefore(start) ? 0
+                : Math.floorDiv(end.toEpochSecond(ZoneOffset.UTC) - startEpochSecond, widthSeconds) + 1;
+        if (buckets > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("too many buckets: " + buckets);
+        }
+        int bucketCount = (int) buckets;
+        this.minUsages = new double[bucketCount];
+        this.maxUsages = new double[bucketCount];
+        this.sumUsages = new double[bucketCount];
+        this.sampleCounts = new long[bucketCount];
+        this.histograms = withHistograms ? new UsageHistogram[bucketCount] : null;
+    }
+
+    /**
+     * 사용률 한 건 누적 (고빈도 수집 모드의 분 단위 최소/최대가 있으면 버킷 최소/최대에 반영, 합계는 분 평균 기준)
+     * @return 구간 밖이라 버린 경우 false
+     */
+    public boolean add(CpuUsage cpuUsage) {
+        double usage = cpuUsage.getCpuUsage();
+        double min = cpuUsage.getMinUsage() != null ? cpuUsage.getMinUsage() : usage;
+        double max = cpuUsage.getMaxUsage() != null ? cpuUsage.getMaxUsage() : usage;
+        return add(cpuUsage.getTimestamp().toEpochSecond(ZoneOffset.UTC), usage, min, max);
+    }
+
+    public boolean add(long epochSecond, double usage, double min, double max) {
+        int i = indexOf(epochSecond);
+        if (i < 0) {
+            return false;
+        }
+        accumulate(i, min, max, usage, 1);
+        if (histograms != null) {
+            histogram(i).add(usage);
+        }
+        return true;
+    }
+
+    /**
+     * 이미 집계된 값(최소, 최대, 합계, 건수, 분포) 병합 (시/일 단위 집계를 더 넓은 구간으로 합치는 경우)
+     * @param histogram 집계의 사용률 분포 (없으면 null, 분포 건수가 모자란 버킷은 백분위수를 생략하게 됨)
+     * @return 구간 밖이거나 건수가 0 이라 버린 경우 false
+     */
+    public boolean merge(long epochSecond, double min, double max, double sum, long count, UsageHistogram histogram) {
+        int i = indexOf(epochSecond);
+        if (i < 0 || count == 0) {
+            return false;
+        }
+        accumulate(i, min, max, sum, count);
+        if (histograms != null && histogram != null) {
+            histogram(i).merge(histogram);
+        }
+        return true;
+    }
+
+    // 구간 밖이면 -1
+    private int indexOf(long epochSecond) {
+        long offset = epochSecond - startEpochSecond;
+        if (offset < 0) {
+            return -1;
+        }
+        long index = offset / widthSeconds;
+        return index >= sampleCounts.length ? -1 : (int) index;
+    }
+
+    private void accumulate(int i, double min, double max, double sum, long count) {
+        if (sampleCounts[i] == 0) {
+            minUsages[i] = min;
+            maxUsages[i] = max;
+        } else {
+            minUsages[i] = Math.min(minUsages[i], min);
+            maxUsages[i] = Math.max(maxUsages[i], max);
+        }
+        sumUsages[i] += sum;
+        sampleCounts[i] += count;
+    }
+
+    private UsageHistogram histogram(int i) {
+        if (histograms[i] == null) {
+            histograms[i] = new UsageHistogram();
+        }
+        return histograms[i];
+    }
+
+    /**
+     * 사용률이 있는 버킷을 시간 오름차순으로 전달
+     */
+    public void forEachBucket(BucketConsumer consumer) {
+        for (int i = 0; i < sampleCounts.length; i++) {
+            if (sampleCounts[i] == 0) {
+                continue;
+            }
+            consumer.accept(bucketAt(i), minUsages[i], maxUsages[i], sumUsages[i], sampleCounts[i],
+                    histograms == null ? null : histograms[i]);
+        }
+    }
+
+    /**
+     * 사용률이 있는 버킷의 통계 (평균은 반올림하지 않음)
+     */
+    public List<CpuUsageBucketStats> toBucketStats() {
+        List<CpuUsageBucketStats> stats = new ArrayList<>();
+        forEachBucket((bucket, minUsage, maxUsage, sumUsage, sampleCount, histogram) -> {
+            CpuUsageBucketStats bucketStats = new CpuUsageBucketStats(bucket, minUsage, maxUsage,
+                    sumUsage / sampleCount, sumUsage, sampleCount);
+            bucketStats.setHistogram(histogram);
+            stats.add(bucketStats);
+        });
+        return stats;
+    }
+
+    /**
+     * 모든 버킷을 하나로 합친 통계 (버킷은 사용률이 있는 첫 버킷 시각, 사용률이 없으면 null)
+     */
+    public CpuUsageBucketStats total() {
+        int first = -1;
+        double minUsage = 0;
+        double maxUsage = 0;
+        double sumUsage = 0;
+        long sampleCount = 0;
+        UsageHistogram histogram = histograms == null ? null : new UsageHistogram();
+        for (int i = 0; i < sampleCounts.length; i++) {
+            if (sampleCounts[i] == 0) {
+                continue;
+            }
+            if (first < 0) {
+                first = i;
+                minUsage = minUsages[i];
+                maxUsage = maxUsages[i];
+            } else {
+                minUsage = Math.min(minUsage, minUsages[i]);
+                maxUsage = Math.max(maxUsage, maxUsages[i]);
+            }
+            sumUsage += sumUsages[i];
+            sampleCount += sampleCounts[i];
+            if (histogram != null && histograms[i] != null) {
+                histogram.merge(histograms[i]);
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+        CpuUsageBucketStats total = new CpuUsageBucketStats(bucketAt(first), minUsage, maxUsage,
+                sumUsage / sampleCount, sumUsage, sampleCount);
+        total.setHistogram(histogram);
+        return total;
+    }
+
+    private LocalDateTime bucketAt(int i) {
+        return LocalDateTime.ofEpochSecond(startEpochSecond + i * widthSeconds, 0, ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(LocalDateTime bucket, double minUsage, double maxUsage, double sumUsage, long sampleCount,
+                    UsageHistogram histogram);
+    }
+}
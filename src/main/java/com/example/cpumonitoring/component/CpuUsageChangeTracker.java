@@ -0,0 +1,68 @@
+package com.example.cpumonitoring.component;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시 단위/일 단위 집계가 마지막으로 바뀐 시점 (조건부 GET 검증값용)
+ * - ETag 는 요청 구간과 구간 끝으로 제한한 최신 사용률 시각으로 만들어, 이미 끝난 구간은 새 사용률이 쌓여도 그대로 유지
+ * - 최신 사용률 이전 시각에 반영된 사용률(늦은 저장)이나 집계를 다시 계산한 경우에만 리비전 증가 (모든 구간 ETag 변경)
+ * - 프로세스 시작 시각을 함께 사용해 재시작 후 같은 값이 다른 데이터를 가리키지 않도록 함
+ */
+@Component
+public class CpuUsageChangeTracker {
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final AtomicLong revision = new AtomicLong();
+    // HTTP 날짜는 초 단위이므로 초 미만 절삭
+    private volatile long lastModifiedMillis = startedAtMillis / 1000 * 1000;
+    private volatile LocalDateTime latestSampleTimestamp;
+
+    /**
+     * 저장된 사용률이 집계에 반영됨
+     * @param earliestTimestamp 반영된 사용률 중 가장 이른 시각
+     * @param latestTimestamp 반영된 사용률 중 가장 최근 시각
+     */
+    public synchronized void samplesStored(LocalDateTime earliestTimestamp, LocalDateTime latestTimestamp) {
+        LocalDateTime current = latestSampleTimestamp;
+        if (current != null && !earliestTimestamp.isAfter(current)) {
+            // 이미 ETag 를 만든 구간에 늦게 반영된 사용률
+            revision.incrementAndGet();
+        }
+        if (current == null || latestTimestamp.isAfter(current)) {
+            latestSampleTimestamp = latestTimestamp;
+        }
+        lastModifiedMillis = System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    // 집계를 다시 계산하는 등 사용률 저장 외의 변경
+    public void changed() {
+        revision.incrementAndGet();
+        lastModifiedMillis = System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    public LocalDateTime getLatestSampleTimestamp() {
+        return latestSampleTimestamp;
+    }
+
+    /**
+     * 요청 구간과 구간 안의 최신 사용률 시각으로 만든 ETag
+     * @param resource 응답 종류 (hour, day 및 표현 형식)
+     * @param startDate 요청 구간 시작 날짜
+     * @param endDate 요청 구간 끝 날짜
+     */
+    public String eTag(String resource, LocalDate startDate, LocalDate endDate) {
+        LocalDateTime rangeEnd = endDate.atTime(LocalTime.MAX);
+        LocalDateTime latest = latestSampleTimestamp;
+        String newest = latest == null ? "-" : (latest.isAfter(rangeEnd) ? rangeEnd : latest).toString();
+        return "\"" + resource + "-" + startDate + "-" + endDate + "-" + newest + "-"
+                + Long.toString(startedAtMillis, 36) + "." + Long.toString(revision.get(), 36) + "\"";
+    }
+}
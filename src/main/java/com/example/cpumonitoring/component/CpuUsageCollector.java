@@ -2,25 +2,96 @@ package com.example.cpumonitoring.component;
 
 import com.example.cpumonitoring.exception.CpuUsageCollectionException;
 import com.sun.management.OperatingSystemMXBean;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 
+/**
+ * CPU 사용률 수집 (cpumonitoring.collector.type)
+ * - mxbean : OperatingSystemMXBean 의 시스템 전체 사용률
+ * - procstat : /proc/stat 의 직전 수집 대비 전체 및 코어별 사용률 (Linux)
+ * - cgroup : cgroup v2 의 컨테이너 할당량 대비 사용률, throttling, PSI (Linux)
+ */
 @Slf4j
 @Component
 public class CpuUsageCollector {
     private final OperatingSystemMXBean operatingSystemMXBean;
+    private final ProcStatCpuReader procStatCpuReader;
+    private final CgroupCpuReader cgroupCpuReader;
+    private final CpuMonitoringMetrics cpuMonitoringMetrics;
 
-    public CpuUsageCollector() {
+    public CpuUsageCollector(@Value("${cpumonitoring.collector.type:mxbean}") String collectorType,
+                             @Value("${cpumonitoring.collector.proc-stat-path:/proc/stat}") String procStatPath,
+                             @Value("${cpumonitoring.collector.cgroup-root:/sys/fs/cgroup}") String cgroupRoot,
+                             CpuMonitoringMetrics cpuMonitoringMetrics) {
+        this.cpuMonitoringMetrics = cpuMonitoringMetrics;
         this.operatingSystemMXBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        try {
+            this.procStatCpuReader = "procstat".equals(collectorType) ? new ProcStatCpuReader(procStatPath) : null;
+            this.cgroupCpuReader = "cgroup".equals(collectorType) ? new CgroupCpuReader(cgroupRoot) : null;
+        } catch (IOException e) {
+            throw new CpuUsageCollectionException("Failed to open " + collectorType + " CPU usage source", e);
+        }
     }
 
     public Double collectCpuUsage() {
+        return cpuMonitoringMetrics.timeCollect(this::readCpuUsage);
+    }
+
+    private Double readCpuUsage() {
         try {
+            if (procStatCpuReader != null) {
+                synchronized (procStatCpuReader) {
+                    return procStatCpuReader.read();
+                }
+            }
+            if (cgroupCpuReader != null) {
+                synchronized (cgroupCpuReader) {
+                    return cgroupCpuReader.read();
+                }
+            }
             return operatingSystemMXBean.getSystemCpuLoad() * 100;
         } catch (Exception e) {
             throw new CpuUsageCollectionException("Failed to collect CPU usage data", e);
         }
     }
-}
\ No newline at end of file
+
+    // 저장할 수 있는 사용률인지 확인 (수집기가 아직 값을 제공하지 못하면 음수, 읽기 실패 시 null 또는 NaN)
+    public static boolean isValidReading(Double cpuUsage) {
+        return cpuUsage != null && !cpuUsage.isNaN() && cpuUsage >= 0;
+    }
+
+    // 마지막 수집 구간의 코어별 사용률 (procstat 모드가 아니면 null)
+    public double[] getCoreUsages() {
+        if (procStatCpuReader == null) {
+            return null;
+        }
+        synchronized (procStatCpuReader) {
+            return procStatCpuReader.getCoreUsages();
+        }
+    }
+
+    // 직전 호출 이후의 throttling, PSI (cgroup 모드가 아니면 null)
+    public CgroupCpuStats takeCgroupStats() {
+        if (cgroupCpuReader == null) {
+            return null;
+        }
+        synchronized (cgroupCpuReader) {
+            return cgroupCpuReader.takeStats();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (procStatCpuReader != null) {
+            procStatCpuReader.close();
+        }
+        if (cgroupCpuReader != null) {
+            cgroupCpuReader.close();
+        }
+    }
+}
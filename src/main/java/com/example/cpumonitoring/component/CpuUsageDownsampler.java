@@ -0,0 +1,20 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 시간 오름차순 사용률을 한 건씩 받아 한 번에 축소하는 다운샘플러
+ * - 조회 결과 전체를 List 로 만들지 않고 스트림 콜백(accept)으로 처리
+ */
+public interface CpuUsageDownsampler extends Consumer<CpuUsage> {
+
+    /**
+     * 남은 버킷을 처리하고 결과 반환 (accept 이후 한 번만 호출)
+     * @return 시간 오름차순 포인트
+     */
+    List<CpuUsageRangePoint> finish();
+}
@@ -0,0 +1,42 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.storage.PartitionedCpuUsageStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * cpu_monitoring 파티션을 미리 생성하는 작업 (시작 시 + 매일)
+ * - 저장 경로에서 DDL 이 실행되지 않도록 현재 기간부터 cpumonitoring.partitioning.ahead 개 기간 뒤까지 유지
+ * - 기한이 지난 파티션 삭제는 RetentionJob 이 CpuUsageStore.purgeBefore 로 처리
+ */
+@Slf4j
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(name = "cpumonitoring.partitioning.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CpuUsagePartitionMaintenanceJob {
+    private final PartitionedCpuUsageStore partitionedCpuUsageStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${cpumonitoring.partitioning.cron:0 10 0 * * *}")
+    public void maintain() {
+        try {
+            int created = partitionedCpuUsageStore.createAhead(LocalDateTime.now());
+            log.info("CPU usage partition maintenance finished: {} partitions created", created);
+        } catch (Exception e) {
+            log.error("CPU usage partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 분 단위 사용률을 메모리에 보관하는 고정 크기 링 버퍼
+ * - id, 시각(epoch second), 사용률을 병렬 primitive 배열에 저장
+ * - 쓰기는 한 번에 한 스레드(synchronized), 읽기는 락 없이 seqlock 으로 일관된 복사본을 얻음
+ * - 시각은 LocalDateTime 을 UTC 오프셋으로 변환한 값으로, 시간대 변환 없이 정렬/비교 용도로만 사용
+ */
+@Component
+public class CpuUsageRingBuffer {
+    private final int capacity;
+    private final long[] ids;
+    private final long[] epochSeconds;
+    private final double[] usages;
+    // 고빈도 수집 모드의 분 단위 요약 (없으면 sampleCounts 가 0)
+    private final double[] minUsages;
+    private final double[] maxUsages;
+    private final int[] sampleCounts;
+    // procstat 수집 모드의 코어별 사용률 (없으면 null)
+    private final double[][] coreUsages;
+    // cgroup 수집 모드의 throttling, PSI (없으면 throttledPeriods 가 -1, cpuPressures 가 NaN)
+    private final long[] throttledPeriods;
+    private final long[] throttledUsecs;
+    private final double[] cpuPressures;
+
+    // 홀수면 쓰기 중
+    private volatile long sequence;
+    // 지금까지 추가된 전체 건수 (쓰기 구간에서만 변경)
+    private long appended;
+    // 이 시각(포함) 이후의 데이터는 버퍼에 빠짐없이 존재
+    private long coveredFrom = Long.MAX_VALUE;
+
+    // 기본 용량 : 8일 (분 단위 조회 제공 기한이 일주일 전 날짜의 자정부터이므로 최대 8일치)
+    public CpuUsageRingBuffer(@Value("${cpumonitoring.minute-buffer.capacity:11520}") int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.epochSeconds = new long[capacity];
+        this.usages = new double[capacity];
+        this.minUsages = new double[capacity];
+        this.maxUsages = new double[capacity];
+        this.sampleCounts = new int[capacity];
+        this.coreUsages = new double[capacity][];
+        this.throttledPeriods = new long[capacity];
+        this.throttledUsecs = new long[capacity];
+        this.cpuPressures = new double[capacity];
+    }
+
+    /**
+     * DB에서 읽어온 데이터로 버퍼 초기화
+     * @param cpuUsages 시간 오름차순으로 정렬된 사용률
+     * @param loadedFrom 조회한 구간의 시작 시각 (이후 구간은 버퍼로 응답 가능)
+     */
+    public synchronized void load(List<CpuUsage> cpuUsages, LocalDateTime loadedFrom) {
+        beginWrite();
+        appended = 0;
+        coveredFrom = toEpochSecond(loadedFrom);
+        int skip = Math.max(0, cpuUsages.size() - capacity);
+        for (int i = skip; i < cpuUsages.size(); i++) {
+            write(cpuUsages.get(i));
+        }
+        if (skip > 0) {
+            coveredFrom = toEpochSecond(cpuUsages.get(skip - 1).getTimestamp()) + 1;
+        }
+        endWrite();
+    }
+
+    // 새로 저장된 사용률 추가 (가득 찬 경우 가장 오래된 데이터를 덮어씀)
+    public synchronized void append(CpuUsage usage) {
+        beginWrite();
+        if (appended >= capacity) {
+            int oldest = (int) (appended % capacity);
+            coveredFrom = Math.max(coveredFrom, epochSeconds[oldest] + 1);
+        }
+        write(usage);
+        endWrite();
+    }
+
+    /**
+     * 지정한 구간의 사용률 조회
+     * @return 시간 오름차순 사용률 List, 구간 시작이 버퍼 보관 범위 밖이면 null
+     */
+    public List<CpuUsage> findBetween(LocalDateTime start, LocalDateTime end) {
+        long from = toEpochSecond(start) + (start.getNano() > 0 ? 1 : 0);
+        long to = toEpochSecond(end);
+
+        while (true) {
+            long seq = sequence;
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (from < coveredFrom) {
+                VarHandle.loadLoadFence();
+                if (seq == sequence) {
+                    return null;
+                }
+                continue;
+            }
+
+            int size = (int) Math.min(appended, capacity);
+            int head = (int) ((appended - size) % capacity);
+            int lo = lowerBound(head, size, from);
+            int hi = lowerBound(head, size, to + 1);
+            int length = Math.max(0, hi - lo);
+
+            long[] idCopy = new long[length];
+            long[] epochCopy = new long[length];
+            double[] usageCopy = new double[length];
+            double[] minCopy = new double[length];
+            double[] maxCopy = new double[length];
+            int[] countCopy = new int[length];
+            double[][] coreCopy = new double[length][];
+            long[] throttledPeriodCopy = new long[length];
+            long[] throttledUsecCopy = new long[length];
+            double[] pressureCopy = new double[length];
+            for (int i = 0; i < length; i++) {
+                int index = (head + lo + i) % capacity;
+                idCopy[i] = ids[index];
+                epochCopy[i] = epochSeconds[index];
+                usageCopy[i] = usages[index];
+                minCopy[i] = minUsages[index];
+                maxCopy[i] = maxUsages[index];
+                countCopy[i] = sampleCounts[index];
+                coreCopy[i] = coreUsages[index];
+                throttledPeriodCopy[i] = throttledPeriods[index];
+                throttledUsecCopy[i] = throttledUsecs[index];
+                pressureCopy[i] = cpuPressures[index];
+            }
+
+            VarHandle.loadLoadFence();
+            if (seq == sequence) {
+                List<CpuUsage> result = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    CpuUsage usage = new CpuUsage(idCopy[i], usageCopy[i],
+                            LocalDateTime.ofEpochSecond(epochCopy[i], 0, ZoneOffset.UTC));
+                    if (countCopy[i] > 0) {
+                        usage.summarize(minCopy[i], maxCopy[i], countCopy[i]);
+                    }
+                    usage.setCoreUsages(coreCopy[i]);
+                    if (throttledPeriodCopy[i] >= 0) {
+                        usage.setCgroupStats(throttledPeriodCopy[i], throttledUsecCopy[i],
+                                Double.isNaN(pressureCopy[i]) ? null : pressureCopy[i]);
+                    }
+                    result.add(usage);
+                }
+                return result;
+            }
+        }
+    }
+
+    // 논리 인덱스 [0, size) 중 epochSeconds >= target 인 첫 위치
+    private int lowerBound(int head, int size, long target) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochSeconds[(head + mid) % capacity] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void write(CpuUsage usage) {
+        int index = (int) (appended % capacity);
+        ids[index] = usage.getId() == null ? 0 : usage.getId();
+        epochSeconds[index] = toEpochSecond(usage.getTimestamp());
+        usages[index] = usage.getCpuUsage();
+        if (usage.getSampleCount() != null) {
+            minUsages[index] = usage.getMinUsage();
+            maxUsages[index] = usage.getMaxUsage();
+            sampleCounts[index] = usage.getSampleCount();
+        } else {
+            sampleCounts[index] = 0;
+        }
+        coreUsages[index] = usage.getCoreUsages();
+        if (usage.getThrottledPeriods() != null) {
+            throttledPeriods[index] = usage.getThrottledPeriods();
+            throttledUsecs[index] = usage.getThrottledUsec();
+            cpuPressures[index] = usage.getCpuPressure() == null ? Double.NaN : usage.getCpuPressure();
+        } else {
+            throttledPeriods[index] = -1;
+        }
+        appended++;
+    }
+
+    private void beginWrite() {
+        sequence = sequence + 1;
+        VarHandle.storeStoreFence();
+    }
+
+    private void endWrite() {
+        sequence = sequence + 1;
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
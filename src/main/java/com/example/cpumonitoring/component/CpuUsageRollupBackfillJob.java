@@ -0,0 +1,70 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.service.CpuUsageRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 기존 원본 데이터로 시 단위/일 단위 집계 테이블을 채우는 작업
+ * - 일 단위 집계가 없는 날짜와 오늘 날짜만 원본 데이터로 다시 계산
+ * - 날짜마다 별도 트랜잭션으로 처리해 한 번에 메모리에 올리는 데이터는 하루치로 제한
+ * - 시작 시에는 스케쥴러 스레드에서 실행 (업그레이드 후 첫 시작처럼 다시 계산할 날짜가 많아도 시작 완료를 막지 않음)
+ * - 오늘 날짜는 write-behind 저장 스레드를 잠시 멈추고 다시 계산 (저장 스레드가 같은 버킷에 누적한 값을 덮어쓰지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CpuUsageRollupBackfillJob {
+    private final CpuUsageRollupService cpuUsageRollupService;
+    private final CpuUsageWriteBuffer cpuUsageWriteBuffer;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${cpumonitoring.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            taskScheduler.schedule(this::backfillInBackground, Instant.now());
+        }
+    }
+
+    private void backfillInBackground() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.error("CPU usage rollup backfill failed, hour/day queries may miss older data: {}", e.getMessage(), e);
+        }
+    }
+
+    public void backfill() {
+        LocalDate oldestDate = cpuUsageRollupService.findOldestSampleDate();
+        if (oldestDate == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int rebuiltDays = 0;
+        long rebuiltSamples = 0;
+
+        for (LocalDate date = oldestDate; date.isBefore(today); date = date.plusDays(1)) {
+            // 이미 집계된 지난 날짜는 건너뜀
+            if (cpuUsageRollupService.hasDayRollup(date)) {
+                continue;
+            }
+            rebuiltSamples += cpuUsageRollupService.rebuildDay(date);
+            rebuiltDays++;
+        }
+        // 오늘은 저장 스레드가 계속 누적 중이므로 배치 저장 사이에 다시 계산 (이후 배치는 다시 계산한 값에 누적)
+        rebuiltSamples += cpuUsageWriteBuffer.whileWriterPaused(() -> cpuUsageRollupService.rebuildDay(today));
+        rebuiltDays++;
+        log.info("CPU usage rollup backfill finished: {} days, {} samples", rebuiltDays, rebuiltSamples);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.CpuUsageStatsCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 끝난 시 단위/일 단위 버킷의 사용률 통계 캐시
+ * - 버킷이 끝나고 settle-seconds(write-behind 저장 지연 여유)가 지나면 값이 바뀌지 않으므로 용량 초과로 밀려날 때까지 보관
+ * - 진행 중인 버킷은 캐시하지 않고 매번 다시 조회
+ * - 집계를 다시 계산하는 경우(CpuUsageRollupService) 해당 날짜의 버킷을 제거
+ */
+@Component
+public class CpuUsageStatsCache {
+    private final StatsBucketCache<LocalDateTime> hours;
+    private final StatsBucketCache<LocalDate> days;
+    private final long settleSeconds;
+
+    // 기본 용량 : 시 단위 100일치, 일 단위 400일치 (조회 제공 기한 3달 / 1년)
+    public CpuUsageStatsCache(@Value("${cpumonitoring.stats-cache.hour-capacity:2400}") int hourCapacity,
+                              @Value("${cpumonitoring.stats-cache.day-capacity:400}") int dayCapacity,
+                              @Value("${cpumonitoring.stats-cache.settle-seconds:120}") long settleSeconds) {
+        this.hours = new StatsBucketCache<>(hourCapacity);
+        this.days = new StatsBucketCache<>(dayCapacity);
+        this.settleSeconds = settleSeconds;
+    }
+
+    public StatsBucketCache<LocalDateTime> hours() {
+        return hours;
+    }
+
+    public StatsBucketCache<LocalDate> days() {
+        return days;
+    }
+
+    // 시 단위 버킷이 끝나 더 이상 바뀌지 않는지 확인
+    public boolean isClosedHour(LocalDateTime bucket, LocalDateTime now) {
+        return !bucket.plusHours(1).plusSeconds(settleSeconds).isAfter(now);
+    }
+
+    // 일 단위 버킷이 끝나 더 이상 바뀌지 않는지 확인
+    public boolean isClosedDay(LocalDate bucket, LocalDateTime now) {
+        return !bucket.plusDays(1).atStartOfDay().plusSeconds(settleSeconds).isAfter(now);
+    }
+
+    // 특정 날짜의 일 단위 버킷과 시 단위 버킷 24개 제거
+    public void evictDay(LocalDate date) {
+        List<LocalDateTime> hourBuckets = new ArrayList<>(24);
+        for (int hour = 0; hour < 24; hour++) {
+            hourBuckets.add(date.atTime(hour, 0));
+        }
+        hours.evictAll(hourBuckets);
+        days.evictAll(List.of(date));
+    }
+
+    public CpuUsageStatsCacheStats getStats() {
+        return new CpuUsageStatsCacheStats(hours.getStats(), days.getStats());
+    }
+}
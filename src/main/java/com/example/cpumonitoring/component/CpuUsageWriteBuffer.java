@@ -0,0 +1,244 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageIngestStats;
+import com.example.cpumonitoring.service.CpuUsageBatchWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 수집 단계와 저장 단계를 잇는 크기 제한 write-behind 큐
+ * - 수집(add)은 lock-free 큐에 넣기만 하고 DB 를 기다리지 않음 (DB 지연/장애가 수집 주기에 영향 없음)
+ * - 전용 저장 스레드(cpu-usage-writer)가 건수(batch-size)가 차거나 주기(flush-interval-ms)가 되면 배치로 저장
+ * - 저장 대기 건수(재시도 대기 포함)가 용량(capacity)을 넘으면 overflow 정책에 따라 버림
+ *   (DROP_OLDEST 는 backlog 앞부터, backlog 가 비어 있으면 pending 에서 가장 오래된 사용률을 버림)
+ * - 저장에 실패한 사용률은 backlog 에 남아 다음 flush 때 다시 시도 (용량에 포함되므로 장애가 길어져도 늘지 않음)
+ * - 애플리케이션 종료 시 남은 데이터 저장
+ */
+@Slf4j
+@Component
+public class CpuUsageWriteBuffer {
+
+    /**
+     * 큐가 가득 찼을 때의 처리
+     */
+    public enum OverflowPolicy {
+        // 가장 오래된 대기 사용률을 버리고 새 사용률 추가 (최근 데이터 우선)
+        DROP_OLDEST,
+        // 새 사용률을 버림 (이미 수집한 구간 우선)
+        DROP_NEWEST
+    }
+
+    private final CpuUsageBatchWriter cpuUsageBatchWriter;
+    private final CpuUsageRingBuffer cpuUsageRingBuffer;
+    private final int batchSize;
+    private final int capacity;
+    private final int highWatermark;
+    private final OverflowPolicy overflowPolicy;
+    private final long flushIntervalNanos;
+
+    private final ConcurrentLinkedQueue<CpuUsage> pending = new ConcurrentLinkedQueue<>();
+    // 저장되지 않은 건수 (pending + backlog), 용량 확인은 CAS 로 처리
+    private final AtomicInteger queued = new AtomicInteger();
+    // pending 에서 꺼냈지만 아직 저장되지 않은 사용률 (오래된 순), 저장이 성공해야 제거 (backlog 잠금으로 접근)
+    private final Deque<CpuUsage> backlog = new ArrayDeque<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong backpressureEvents = new AtomicLong();
+    private volatile boolean backpressured;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public CpuUsageWriteBuffer(CpuUsageBatchWriter cpuUsageBatchWriter,
+                               CpuUsageRingBuffer cpuUsageRingBuffer,
+                               @Value("${cpumonitoring.write-behind.batch-size:50}") int batchSize,
+                               @Value("${cpumonitoring.write-behind.capacity:10080}") int capacity,
+                               @Value("${cpumonitoring.write-behind.high-watermark:0.8}") double highWatermark,
+                               @Value("${cpumonitoring.write-behind.overflow:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                               @Value("${cpumonitoring.write-behind.flush-interval-ms:10000}") long flushIntervalMs) {
+        if (capacity < batchSize) {
+            throw new IllegalArgumentException("capacity must not be smaller than batch-size: " + capacity);
+        }
+        this.cpuUsageBatchWriter = cpuUsageBatchWriter;
+        this.cpuUsageRingBuffer = cpuUsageRingBuffer;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.highWatermark = (int) Math.ceil(capacity * highWatermark);
+        this.overflowPolicy = overflowPolicy;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "cpu-usage-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * 저장 대기열에 추가 (호출 스레드를 막지 않음)
+     * @param usage 수집한 사용률
+     * @return 버린 사용률 없이 추가했으면 true, overflow 정책으로 버린 경우 false
+     */
+    public boolean add(CpuUsage usage) {
+        int size = reserve();
+        if (size < 0) {
+            return overflow(usage);
+        }
+        pending.add(usage);
+        accepted.incrementAndGet();
+        if (size >= highWatermark && !backpressured) {
+            backpressured = true;
+            backpressureEvents.incrementAndGet();
+            log.warn("CPU usage write-behind queue above high watermark: {}/{}", size, capacity);
+        }
+        // 배치 크기에 도달하거나 high-watermark 를 넘으면 저장 스레드를 바로 깨움
+        if (size >= batchSize || backpressured) {
+            signalWriter();
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        int unsaved = queued.get();
+        if (unsaved > 0) {
+            log.error("{} CPU usage samples could not be persisted before shutdown", unsaved);
+        }
+    }
+
+    /**
+     * 진행 중인 배치 저장이 없을 때 작업 실행 (작업이 끝날 때까지 다음 배치 저장을 미룸, 수집(add)은 막지 않음)
+     * - 원본 데이터로 집계를 다시 계산하는 동안 저장 스레드가 같은 버킷에 누적하지 않도록 사용
+     * @param work 실행할 작업
+     */
+    public synchronized <T> T whileWriterPaused(Supplier<T> work) {
+        return work.get();
+    }
+
+    public synchronized void flush() {
+        List<CpuUsage> batch;
+        synchronized (backlog) {
+            CpuUsage usage;
+            while ((usage = pending.poll()) != null) {
+                backlog.addLast(usage);
+            }
+            if (backlog.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(backlog);
+        }
+
+        try {
+            cpuUsageBatchWriter.writeBatch(batch);
+        } catch (Exception e) {
+            // 실패한 사용률은 backlog 에 그대로 남겨 다음 flush 에서 재시도
+            log.error("Failed to persist {} CPU usage samples, will retry: {}", batch.size(), e.getMessage(), e);
+            failedBatches.incrementAndGet();
+            batch.forEach(CpuUsage::resetId);
+            return;
+        }
+        // 저장 중 DROP_OLDEST 로 backlog 에서 빠진 사용률은 이미 대기 건수에서 교체되었으므로 남은 건수만큼 차감
+        int saved;
+        synchronized (backlog) {
+            saved = backlog.size();
+            backlog.clear();
+        }
+        persisted.addAndGet(batch.size());
+        if (queued.addAndGet(-saved) < highWatermark && backpressured) {
+            backpressured = false;
+            log.info("CPU usage write-behind queue drained below high watermark");
+        }
+        // 커밋된 데이터만 분 단위 조회용 링 버퍼에 추가
+        batch.forEach(cpuUsageRingBuffer::append);
+    }
+
+    public CpuUsageIngestStats getStats() {
+        return new CpuUsageIngestStats(queued.get(), capacity, overflowPolicy.name(), backpressured,
+                accepted.get(), dropped.get(), persisted.get(), failedBatches.get(), backpressureEvents.get());
+    }
+
+    // 용량 이내면 한 칸 확보 후 확보한 뒤의 건수, 가득 찼으면 -1
+    private int reserve() {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= capacity) {
+                return -1;
+            }
+        } while (!queued.compareAndSet(current, current + 1));
+        return current + 1;
+    }
+
+    private boolean overflow(CpuUsage usage) {
+        dropped.incrementAndGet();
+        boolean replaced = overflowPolicy == OverflowPolicy.DROP_OLDEST && evictOldest();
+        if (replaced) {
+            pending.add(usage);
+            accepted.incrementAndGet();
+        }
+        log.warn("CPU usage write-behind queue full ({}), {} sample dropped", capacity, replaced ? "oldest" : "newest");
+        signalWriter();
+        return false;
+    }
+
+    // 가장 오래된 미저장 사용률 제거 : DB 장애 중에는 대부분 backlog 에 있으므로 backlog 앞부터, 비어 있으면 pending
+    // - 저장 중인 배치에 포함된 사용률이면 그 저장이 성공할 경우 저장된 채로 남음
+    private boolean evictOldest() {
+        synchronized (backlog) {
+            if (backlog.pollFirst() != null) {
+                return true;
+            }
+        }
+        return pending.poll() != null;
+    }
+
+    private void signalWriter() {
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("CPU usage writer failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
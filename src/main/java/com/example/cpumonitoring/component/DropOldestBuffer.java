@@ -0,0 +1,39 @@
+package com.example.cpumonitoring.component;
+
+import java.util.ArrayDeque;
+
+/**
+ * 크기가 고정된 FIFO 버퍼, 가득 차면 가장 오래된 항목을 버리고 추가
+ * - SSE 구독자별 전송 대기열 (느린 구독자가 발행자나 다른 구독자를 막지 않도록)
+ */
+class DropOldestBuffer<T> {
+    private final ArrayDeque<T> items;
+    private final int capacity;
+
+    DropOldestBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.items = new ArrayDeque<>(capacity);
+        this.capacity = capacity;
+    }
+
+    // 추가 후 오래된 항목을 버렸으면 true
+    synchronized boolean offer(T item) {
+        boolean dropped = false;
+        if (items.size() == capacity) {
+            items.pollFirst();
+            dropped = true;
+        }
+        items.addLast(item);
+        return dropped;
+    }
+
+    synchronized T poll() {
+        return items.pollFirst();
+    }
+
+    synchronized boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.FleetCpuUsageStats;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 호스트의 (호스트, 시) 단위 값으로 시 단위 전체 호스트 통계 계산 (조회 결과 행을 받는 대로 누적)
+ * - 시각별 호스트 수, 호스트별 시 평균의 평균, 최대, 시 평균이 임계값을 넘은 호스트 수
+ * - 시 번호는 구간 시작 정시 기준 epoch 초 나눗셈으로 계산하고 시 번호별 primitive 배열에 누적 (호스트별 시계열을 모아두지 않음)
+ * - 평균은 소수점 셋째자리에서 반올림
+ */
+public class FleetCpuUsageAggregator {
+    private final LocalDateTime startHour;
+    private final long startEpochSecond;
+    private final double threshold;
+    private final double[] sumOfAverages;
+    private final double[] maxUsages;
+    private final int[] hosts;
+    private final int[] hostsAbove;
+
+    /**
+     * @param start 구간 시작 시각 (정시로 내림)
+     * @param end 구간 끝 시각 (포함)
+     * @param threshold 호스트 시 평균 임계값 (초과 호스트 수)
+     */
+    public FleetCpuUsageAggregator(LocalDateTime start, LocalDateTime end, double threshold) {
+        this.startHour = start.truncatedTo(ChronoUnit.HOURS);
+        this.startEpochSecond = startHour.toEpochSecond(ZoneOffset.UTC);
+        this.threshold = threshold;
+        long hours = end.isBefore(startHour) ? 0 : ChronoUnit.HOURS.between(startHour, end) + 1;
+        if (hours > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("too many hours: " + hours);
+        }
+        int hourCount = (int) hours;
+        this.sumOfAverages = new double[hourCount];
+        this.maxUsages = new double[hourCount];
+        this.hosts = new int[hourCount];
+        this.hostsAbove = new int[hourCount];
+    }
+
+    /**
+     * 호스트 하나의 시 버킷 한 건 누적 (호스트, 시 순서와 무관)
+     * @return 구간 밖이거나 건수가 없어 버린 경우 false
+     */
+    public boolean add(LocalDateTime bucket, double maxUsage, double sumUsage, long sampleCount) {
+        long hour = Math.floorDiv(bucket.toEpochSecond(ZoneOffset.UTC) - startEpochSecond, 3600);
+        if (hour < 0 || hour >= hosts.length || sampleCount == 0) {
+            return false;
+        }
+        int i = (int) hour;
+        double average = sumUsage / sampleCount;
+        sumOfAverages[i] += average;
+        maxUsages[i] = hosts[i] == 0 ? maxUsage : Math.max(maxUsages[i], maxUsage);
+        hosts[i]++;
+        if (average > threshold) {
+            hostsAbove[i]++;
+        }
+        return true;
+    }
+
+    /**
+     * @return 시각별 통계 (사용률을 보낸 호스트가 있는 시각만)
+     */
+    public Map<LocalDateTime, FleetCpuUsageStats> toStats() {
+        Map<LocalDateTime, FleetCpuUsageStats> stats = new TreeMap<>();
+        for (int i = 0; i < hosts.length; i++) {
+            if (hosts[i] == 0) {
+                continue;
+            }
+            double average = Math.round(sumOfAverages[i] / hosts[i] * 100.0) / 100.0;
+            stats.put(startHour.plusHours(i), new FleetCpuUsageStats(hosts[i], average, maxUsages[i], hostsAbove[i]));
+        }
+        return stats;
+    }
+}
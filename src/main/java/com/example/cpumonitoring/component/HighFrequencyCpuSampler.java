@@ -0,0 +1,41 @@
+package com.example.cpumonitoring.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고빈도 수집 모드 (cpumonitoring.sampling.mode: high-frequency)
+ * - interval-ms 주기로 사용률을 수집해 현재 분의 누적기에 반영
+ * - 매 분 저장 시 누적기를 교체하고 끝난 분의 요약만 저장 대상으로 넘김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cpumonitoring.sampling.mode", havingValue = "high-frequency")
+public class HighFrequencyCpuSampler {
+    private final CpuUsageCollector cpuUsageCollector;
+
+    private CpuUsageAccumulator current = new CpuUsageAccumulator();
+
+    @Scheduled(fixedRateString = "${cpumonitoring.sampling.interval-ms:1000}")
+    public void sample() {
+        Double cpuUsage = cpuUsageCollector.collectCpuUsage();
+        // 아직 유효한 값을 주지 않는 경우(음수), 읽지 못한 경우(null, NaN) 제외 (분 최소/최대/합계 보호)
+        if (!CpuUsageCollector.isValidReading(cpuUsage)) {
+            return;
+        }
+        synchronized (this) {
+            current.add(cpuUsage);
+        }
+    }
+
+    // 끝난 분의 누적기를 꺼내고 새 누적기로 교체
+    public synchronized CpuUsageAccumulator drain() {
+        CpuUsageAccumulator finished = current;
+        current = new CpuUsageAccumulator();
+        return finished;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.exception.InvalidIngestRequestException;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 에이전트 사용률 수신 요청 본문 읽기
+ * - JSON 배열을 원소 단위로 읽으며 건수를 세고, 최대 건수를 넘는 순간 나머지 본문을 읽지 않고 거절
+ * - 큰 요청도 최대 건수만큼만 객체를 만들어 메모리 사용량이 max-samples 로 제한됨
+ */
+@Component
+public class HostCpuUsageSampleReader {
+    private final ObjectMapper objectMapper;
+    private final int maxSamples;
+
+    public HostCpuUsageSampleReader(ObjectMapper objectMapper,
+                                    @Value("${cpumonitoring.ingest.max-samples:10000}") int maxSamples) {
+        this.objectMapper = objectMapper;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * @param body 요청 본문 (호스트별 사용률 JSON 배열)
+     * @return 사용률 List (null 원소는 그대로 두어 서비스 검증에서 위치와 함께 거절)
+     */
+    public List<HostCpuUsageSample> read(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidIngestRequestException("Request body must be a JSON array of samples.");
+            }
+            List<HostCpuUsageSample> samples = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new InvalidIngestRequestException("Request body ended before the end of the array.");
+                }
+                if (samples.size() == maxSamples) {
+                    throw new InvalidIngestRequestException("Too many samples in one request (max " + maxSamples + ").");
+                }
+                samples.add(token == JsonToken.VALUE_NULL
+                        ? null : objectMapper.readValue(parser, HostCpuUsageSample.class));
+            }
+            return samples;
+        } catch (JsonProcessingException e) {
+            throw new InvalidIngestRequestException("Malformed request body: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.cpumonitoring.component;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+// 최근 1분 시스템 load average (지원하지 않는 OS 면 수집 안 함)
+@Component
+public class LoadAverageMetricSource implements MetricSource {
+    private final OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+
+    @Override
+    public String getName() {
+        return "system.load.average.1m";
+    }
+
+    @Override
+    public double sample() {
+        double loadAverage = operatingSystemMXBean.getSystemLoadAverage();
+        return loadAverage < 0 ? Double.NaN : loadAverage;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플러 (한 번 순회)
+ * - 첫/마지막 사용률은 항상 포함하고, 구간을 시간 기준 (maxPoints - 2)개 버킷으로 나눠 버킷마다 1건 선택
+ * - 버킷에서는 직전에 선택한 포인트, 다음 버킷의 평균과 만드는 삼각형 넓이가 가장 큰 사용률을 선택 (급등/급락 보존)
+ * - 다음 버킷이 끝나야 선택할 수 있으므로 선택 대기 버킷과 채우는 중인 버킷 두 개만 primitive 배열로 유지
+ */
+public class LttbDownsampler implements CpuUsageDownsampler {
+    private final LocalDateTime start;
+    private final long spanMillis;
+    private final int bucketCount;
+    private final List<CpuUsageRangePoint> points = new ArrayList<>();
+
+    // 마지막으로 선택한 포인트 (삼각형의 첫 꼭짓점)
+    private boolean started;
+    private long selectedOffset;
+    private double selectedValue;
+
+    // 마지막 사용률은 버킷과 별도로 포함하므로 다음 사용률이 들어올 때까지 보류
+    private boolean held;
+    private long heldOffset;
+    private double heldValue;
+
+    private Bucket pending = new Bucket();
+    private Bucket current = new Bucket();
+
+    public LttbDownsampler(LocalDateTime start, LocalDateTime end, int maxPoints) {
+        if (maxPoints < 3) {
+            throw new IllegalArgumentException("maxPoints must be at least 3: " + maxPoints);
+        }
+        this.start = start;
+        this.spanMillis = Duration.between(start, end).toMillis();
+        this.bucketCount = maxPoints - 2;
+    }
+
+    @Override
+    public void accept(CpuUsage cpuUsage) {
+        long offset = Duration.between(start, cpuUsage.getTimestamp()).toMillis();
+        double value = cpuUsage.getCpuUsage();
+        if (!started) {
+            started = true;
+            select(offset, value);
+            return;
+        }
+        if (held) {
+            addToBucket(heldOffset, heldValue);
+        }
+        held = true;
+        heldOffset = offset;
+        heldValue = value;
+    }
+
+    @Override
+    public List<CpuUsageRangePoint> finish() {
+        if (current.size > 0) {
+            closeCurrent();
+        }
+        if (held) {
+            // 마지막 버킷은 마지막 사용률을 세 번째 꼭짓점으로 선택
+            if (pending.size > 0) {
+                selectFrom(pending, heldOffset, heldValue);
+            }
+            select(heldOffset, heldValue);
+        }
+        return points;
+    }
+
+    private void addToBucket(long offset, double value) {
+        int index = bucketOf(offset);
+        if (current.size > 0 && index != current.index) {
+            closeCurrent();
+        }
+        current.index = index;
+        current.add(offset, value);
+    }
+
+    // 채우던 버킷이 끝나면 그 평균으로 대기 버킷에서 1건 선택, 끝난 버킷은 다음 선택 대기
+    private void closeCurrent() {
+        if (pending.size > 0) {
+            selectFrom(pending, current.averageOffset(), current.averageValue());
+        }
+        Bucket closed = current;
+        current = pending;
+        pending = closed;
+        current.clear();
+    }
+
+    private void selectFrom(Bucket bucket, double nextOffset, double nextValue) {
+        int best = 0;
+        double maxArea = -1;
+        for (int i = 0; i < bucket.size; i++) {
+            // 넓이의 2배 (비교만 하므로 1/2 생략)
+            double area = Math.abs((selectedOffset - nextOffset) * (bucket.values[i] - selectedValue)
+                    - (selectedOffset - bucket.offsets[i]) * (nextValue - selectedValue));
+            if (area > maxArea) {
+                maxArea = area;
+                best = i;
+            }
+        }
+        select(bucket.offsets[best], bucket.values[best]);
+    }
+
+    private void select(long offset, double value) {
+        selectedOffset = offset;
+        selectedValue = value;
+        points.add(new CpuUsageRangePoint(start.plus(Duration.ofMillis(offset)), value));
+    }
+
+    private int bucketOf(long offset) {
+        if (spanMillis <= 0) {
+            return 0;
+        }
+        long index = offset * bucketCount / spanMillis;
+        return (int) Math.max(0, Math.min(bucketCount - 1, index));
+    }
+
+    // 버킷 한 개의 시각(구간 시작 기준 ms)과 사용률, 배열은 버킷이 바뀌어도 재사용
+    private static class Bucket {
+        private long[] offsets = new long[16];
+        private double[] values = new double[16];
+        private int size;
+        private int index;
+        private double sumOffset;
+        private double sumValue;
+
+        void add(long offset, double value) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            offsets[size] = offset;
+            values[size] = value;
+            size++;
+            sumOffset += offset;
+            sumValue += value;
+        }
+
+        double averageOffset() {
+            return sumOffset / size;
+        }
+
+        double averageValue() {
+            return sumValue / size;
+        }
+
+        void clear() {
+            size = 0;
+            sumOffset = 0;
+            sumValue = 0;
+        }
+    }
+}
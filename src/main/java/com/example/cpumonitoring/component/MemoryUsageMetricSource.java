@@ -0,0 +1,28 @@
+package com.example.cpumonitoring.component;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+// 시스템 물리 메모리 사용률(%)
+@Component
+public class MemoryUsageMetricSource implements MetricSource {
+    private final OperatingSystemMXBean operatingSystemMXBean =
+            (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    @Override
+    public String getName() {
+        return "system.memory.usage";
+    }
+
+    @Override
+    public double sample() {
+        long total = operatingSystemMXBean.getTotalMemorySize();
+        if (total <= 0) {
+            return Double.NaN;
+        }
+        long used = total - operatingSystemMXBean.getFreeMemorySize();
+        return Math.round(used * 10000.0 / total) / 100.0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.service.MetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 등록된 모든 MetricSource 를 한 스케쥴러 주기에 함께 수집해 한 번에 저장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cpumonitoring.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricSampler {
+    private final List<MetricSource> metricSources;
+    private final MetricService metricService;
+    private final String[] names;
+
+    public MetricSampler(List<MetricSource> metricSources, MetricService metricService) {
+        this.metricSources = metricSources;
+        this.metricService = metricService;
+        this.names = metricSources.stream().map(MetricSource::getName).toArray(String[]::new);
+    }
+
+    @Scheduled(cron = "${cpumonitoring.metrics.cron:0 * * * * *}")
+    public void sample() {
+        LocalDateTime timestamp = LocalDateTime.now().withNano(0);
+        double[] values = new double[names.length];
+        for (int i = 0; i < names.length; i++) {
+            try {
+                values[i] = metricSources.get(i).sample();
+            } catch (Exception e) {
+                log.warn("Failed to sample metric {}: {}", names[i], e.getMessage());
+                values[i] = Double.NaN;
+            }
+        }
+        metricService.saveSnapshot(new MetricSnapshot(timestamp, names, values));
+    }
+}
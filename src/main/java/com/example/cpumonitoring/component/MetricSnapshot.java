@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번의 수집 주기에 함께 수집한 지표 값
+ * - 이름 배열은 수집기에서 공유하고, 값은 names 와 같은 순서의 primitive 배열로 보관
+ */
+@AllArgsConstructor
+@Getter
+public class MetricSnapshot {
+    private LocalDateTime timestamp;
+    private String[] names;
+    private double[] values;
+}
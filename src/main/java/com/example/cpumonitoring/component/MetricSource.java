@@ -0,0 +1,15 @@
+package com.example.cpumonitoring.component;
+
+/**
+ * 수집 지표 SPI
+ * - 구현체를 Spring 빈으로 등록하면 MetricSampler 가 매 주기 다른 지표와 함께 수집해 metric_sample 테이블에 저장
+ * - 새 지표 추가 시 엔티티, 리포지토리를 따로 만들 필요 없이 이름으로 조회/집계 가능
+ */
+public interface MetricSource {
+
+    // 지표 이름 (예: system.load.average.1m), 저장 및 조회 키
+    String getName();
+
+    // 현재 값, 수집할 수 없으면 Double.NaN (저장하지 않음)
+    double sample();
+}
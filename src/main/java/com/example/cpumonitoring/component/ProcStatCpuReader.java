@@ -0,0 +1,157 @@
+package com.example.cpumonitoring.component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+/**
+ * /proc/stat 기반 CPU 사용률 계산 (Linux)
+ * - 파일을 열어둔 채 매 수집마다 처음부터 다시 읽어 재사용 버퍼에 담고, String 생성 없이 바이트 단위로 파싱
+ * - 전체(cpu) 및 코어별(cpuN) user, nice, system, idle, iowait, irq, softirq, steal jiffies 를 읽어
+ *   직전 수집 대비 증가분으로 사용률(%) 계산
+ * - 첫 수집은 비교할 이전 값이 없으므로 -1 반환
+ */
+public class ProcStatCpuReader implements Closeable {
+    private static final int FIELD_COUNT = 8;
+    private static final int IDLE = 3;
+    private static final int IOWAIT = 4;
+
+    private final RandomAccessFile file;
+    private byte[] buffer = new byte[16 * 1024];
+    private final long[] fields = new long[FIELD_COUNT];
+
+    // 인덱스 0 은 전체, i + 1 은 i번 코어
+    private long[] previousBusy = new long[0];
+    private long[] previousTotal = new long[0];
+    private long[] currentBusy = new long[0];
+    private long[] currentTotal = new long[0];
+    private double[] usages = new double[0];
+    private int coreCount;
+    private boolean hasPrevious;
+    private boolean hasUsages;
+
+    public ProcStatCpuReader(String path) throws IOException {
+        this.file = new RandomAccessFile(path, "r");
+    }
+
+    /**
+     * /proc/stat 을 다시 읽고 직전 수집 대비 사용률 갱신
+     * @return 전체 CPU 사용률(%), 첫 수집이면 -1
+     */
+    public double read() throws IOException {
+        int length = readFully();
+        coreCount = 0;
+        int position = 0;
+        while (position < length) {
+            position = parseLine(position, length);
+        }
+
+        boolean ready = hasPrevious;
+        for (int i = 0; i <= coreCount; i++) {
+            long busyDelta = currentBusy[i] - previousBusy[i];
+            long totalDelta = currentTotal[i] - previousTotal[i];
+            usages[i] = !ready || totalDelta <= 0 ? 0 : round(busyDelta * 100.0 / totalDelta);
+            previousBusy[i] = currentBusy[i];
+            previousTotal[i] = currentTotal[i];
+        }
+        hasPrevious = true;
+        hasUsages = ready;
+        return ready ? usages[0] : -1;
+    }
+
+    // 마지막 수집의 코어별 사용률 복사본 (첫 수집 전이면 null)
+    public double[] getCoreUsages() {
+        if (!hasUsages || coreCount == 0) {
+            return null;
+        }
+        return Arrays.copyOfRange(usages, 1, coreCount + 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private int readFully() throws IOException {
+        file.seek(0);
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = file.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                return length;
+            }
+            length += read;
+        }
+    }
+
+    // 한 줄을 파싱하고 다음 줄의 시작 위치 반환
+    private int parseLine(int position, int length) {
+        int lineEnd = position;
+        while (lineEnd < length && buffer[lineEnd] != '\n') {
+            lineEnd++;
+        }
+
+        if (lineEnd - position > 3 && buffer[position] == 'c' && buffer[position + 1] == 'p' && buffer[position + 2] == 'u') {
+            int cursor = position + 3;
+            int slot;
+            if (buffer[cursor] == ' ') {
+                slot = 0;
+            } else {
+                int core = 0;
+                while (cursor < lineEnd && buffer[cursor] >= '0' && buffer[cursor] <= '9') {
+                    core = core * 10 + (buffer[cursor++] - '0');
+                }
+                slot = core + 1;
+            }
+            parseFields(cursor, lineEnd);
+            store(slot);
+        }
+        return lineEnd + 1;
+    }
+
+    private void parseFields(int cursor, int lineEnd) {
+        Arrays.fill(fields, 0);
+        for (int field = 0; field < FIELD_COUNT && cursor < lineEnd; field++) {
+            while (cursor < lineEnd && buffer[cursor] == ' ') {
+                cursor++;
+            }
+            long value = 0;
+            while (cursor < lineEnd && buffer[cursor] >= '0' && buffer[cursor] <= '9') {
+                value = value * 10 + (buffer[cursor++] - '0');
+            }
+            fields[field] = value;
+        }
+    }
+
+    private void store(int slot) {
+        ensureCapacity(slot + 1);
+        long idle = fields[IDLE] + fields[IOWAIT];
+        long total = 0;
+        for (long field : fields) {
+            total += field;
+        }
+        currentBusy[slot] = total - idle;
+        currentTotal[slot] = total;
+        coreCount = Math.max(coreCount, slot);
+    }
+
+    // 코어 수가 늘어난 경우에만 배열 확장
+    private void ensureCapacity(int size) {
+        if (currentTotal.length >= size) {
+            return;
+        }
+        previousBusy = Arrays.copyOf(previousBusy, size);
+        previousTotal = Arrays.copyOf(previousTotal, size);
+        currentBusy = Arrays.copyOf(currentBusy, size);
+        currentTotal = Arrays.copyOf(currentTotal, size);
+        usages = Arrays.copyOf(usages, size);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.cpumonitoring.component;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+// 현재 JVM 프로세스의 CPU 사용률(%)
+@Component
+public class ProcessCpuMetricSource implements MetricSource {
+    private final OperatingSystemMXBean operatingSystemMXBean =
+            (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    @Override
+    public String getName() {
+        return "process.cpu.usage";
+    }
+
+    @Override
+    public double sample() {
+        double load = operatingSystemMXBean.getProcessCpuLoad();
+        return load < 0 ? Double.NaN : Math.round(load * 10000.0) / 100.0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.RetentionReport;
+import com.example.cpumonitoring.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 보관 기한이 지난 데이터 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cpumonitoring.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class RetentionJob {
+    private final RetentionService retentionService;
+
+    @Scheduled(cron = "${cpumonitoring.retention.cron:0 30 3 * * *}")
+    public void purge() {
+        try {
+            RetentionReport report = retentionService.purgeExpired();
+            log.info("Retention purge finished in {} ms: raw={}, hour={}, day={}, metric={}, host={} (total {})",
+                    report.getElapsedMillis(), report.getRawPurged(), report.getHourPurged(),
+                    report.getDayPurged(), report.getMetricPurged(), report.getHostPurged(), report.getTotalPurged());
+        } catch (Exception e) {
+            log.error("Retention purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
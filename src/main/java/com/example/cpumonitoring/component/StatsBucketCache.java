@@ -0,0 +1,105 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.BucketCacheStats;
+import com.example.cpumonitoring.model.CpuUsageStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 버킷(시각/날짜)별 사용률 통계 LRU 캐시
+ * - 값이 Optional.empty() 이면 해당 버킷에 데이터가 없음을 캐시한 것
+ * - 여러 버킷을 한 번의 락으로 조회/저장
+ * - 버킷을 제거할 때마다 세대(generation)를 올리고 버킷별 제거 세대를 기록
+ *   (저장소 조회 전에 받은 세대 이후 제거된 버킷은 저장하지 않음 : 조회와 저장 사이에 늦게 저장된 배치가 커밋된 경우)
+ */
+public class StatsBucketCache<K> {
+    private final int capacity;
+    private final LinkedHashMap<K, Optional<CpuUsageStats>> entries;
+    // 버킷별 마지막 제거 세대 (캐시 용량만큼만 유지, 밀려난 기록의 최대 세대는 prunedGeneration 에 보관)
+    private final LinkedHashMap<K, Long> evictedGenerations;
+    private long generation;
+    private long prunedGeneration;
+    private long hits;
+    private long misses;
+
+    public StatsBucketCache(int capacity) {
+        this.capacity = capacity;
+        // accessOrder = true : 조회할 때마다 가장 최근으로 이동, 용량 초과 시 가장 오래 조회되지 않은 버킷 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Optional<CpuUsageStats>> eldest) {
+                return size() > StatsBucketCache.this.capacity;
+            }
+        };
+        this.evictedGenerations = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                if (size() <= StatsBucketCache.this.capacity) {
+                    return false;
+                }
+                prunedGeneration = Math.max(prunedGeneration, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 버킷 조회
+     * @param keys 조회할 버킷
+     * @return 캐시에 있는 버킷만 담은 Map (없는 버킷은 미포함)
+     */
+    public synchronized Map<K, Optional<CpuUsageStats>> getAll(List<K> keys) {
+        Map<K, Optional<CpuUsageStats>> found = new HashMap<>();
+        for (K key : keys) {
+            Optional<CpuUsageStats> stats = entries.get(key);
+            if (stats != null) {
+                found.put(key, stats);
+            }
+        }
+        hits += found.size();
+        misses += keys.size() - found.size();
+        return found;
+    }
+
+    // 저장소 조회 전에 받아 두었다가 putAll 에 전달
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 저장소에서 조회한 버킷 저장
+     * @param stats 저장할 버킷
+     * @param generationBeforeLoad 저장소 조회 전에 받은 세대 (이후 제거된 버킷은 오래된 값이므로 저장하지 않음)
+     */
+    public synchronized void putAll(Map<K, Optional<CpuUsageStats>> stats, long generationBeforeLoad) {
+        if (prunedGeneration > generationBeforeLoad) {
+            // 제거 기록이 밀려나 버킷별로 판단할 수 없음
+            return;
+        }
+        stats.forEach((key, value) -> {
+            Long evicted = evictedGenerations.get(key);
+            if (evicted == null || evicted <= generationBeforeLoad) {
+                entries.put(key, value);
+            }
+        });
+    }
+
+    public synchronized void evictAll(Collection<K> keys) {
+        generation++;
+        for (K key : keys) {
+            entries.remove(key);
+            // 삽입 순서를 최근 제거 순으로 유지
+            evictedGenerations.remove(key);
+            evictedGenerations.put(key, generation);
+        }
+    }
+
+    public synchronized BucketCacheStats getStats() {
+        return new BucketCacheStats(entries.size(), capacity, hits, misses);
+    }
+}
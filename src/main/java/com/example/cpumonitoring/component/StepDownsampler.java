@@ -0,0 +1,63 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임의 간격(step) 버킷별 최소/최대/평균 다운샘플러
+ * - 버킷 경계는 step 배수 시각 (5분 -> :00, :05 ..., 1시간 -> 정시)
+ * - 진행 중인 버킷 하나의 합계만 유지하고 다음 버킷의 사용률이 들어오면 결과에 추가
+ */
+public class StepDownsampler implements CpuUsageDownsampler {
+    private final long stepSeconds;
+    private final List<CpuUsageRangePoint> points = new ArrayList<>();
+
+    private long bucket = Long.MIN_VALUE;
+    private double minUsage;
+    private double maxUsage;
+    private double sumUsage;
+    private int sampleCount;
+
+    public StepDownsampler(Duration step) {
+        this.stepSeconds = step.toSeconds();
+    }
+
+    @Override
+    public void accept(CpuUsage cpuUsage) {
+        long sampleBucket = Math.floorDiv(cpuUsage.getTimestamp().toEpochSecond(ZoneOffset.UTC), stepSeconds);
+        if (sampleBucket != bucket) {
+            flush();
+            bucket = sampleBucket;
+        }
+        // 고빈도 수집 모드의 분 단위 최소/최대가 있으면 버킷 최소/최대에 반영 (평균은 분 평균 기준)
+        double min = cpuUsage.getMinUsage() != null ? cpuUsage.getMinUsage() : cpuUsage.getCpuUsage();
+        double max = cpuUsage.getMaxUsage() != null ? cpuUsage.getMaxUsage() : cpuUsage.getCpuUsage();
+        minUsage = sampleCount == 0 ? min : Math.min(minUsage, min);
+        maxUsage = sampleCount == 0 ? max : Math.max(maxUsage, max);
+        sumUsage += cpuUsage.getCpuUsage();
+        sampleCount++;
+    }
+
+    @Override
+    public List<CpuUsageRangePoint> finish() {
+        flush();
+        return points;
+    }
+
+    private void flush() {
+        if (sampleCount == 0) {
+            return;
+        }
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(bucket * stepSeconds, 0, ZoneOffset.UTC);
+        double averageUsage = Math.round(sumUsage / sampleCount * 100.0) / 100.0;
+        points.add(new CpuUsageRangePoint(timestamp, averageUsage, minUsage, maxUsage, sampleCount));
+        sumUsage = 0;
+        sampleCount = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.HostCpuUsageRank;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 호스트별 구간 합계(DB GROUP BY host_id 결과 행)로 구간 평균 사용률 상위 N 호스트 선택
+ * - 크기 N 의 최소 힙만 유지하므로 전체 호스트를 모아두거나 정렬하지 않음
+ * - 전체 호스트 수와 구간 평균이 임계값을 넘은 호스트 수를 함께 셈
+ * - 평균은 소수점 셋째자리에서 반올림
+ */
+public class TopHostsSelector {
+    // 구간 평균 오름차순, 같으면 호스트 역순 (힙의 맨 앞이 가장 먼저 밀려날 호스트)
+    private static final Comparator<HostCpuUsageRank> RANK_ORDER = Comparator
+            .comparingDouble(HostCpuUsageRank::getAverageUsage)
+            .thenComparing(HostCpuUsageRank::getHostId, Comparator.reverseOrder());
+
+    private final int limit;
+    private final double threshold;
+    private final PriorityQueue<HostCpuUsageRank> heap;
+    private int hosts;
+    private int hostsAbove;
+
+    /**
+     * @param limit 상위 호스트 수 (1 이상)
+     * @param threshold 구간 평균 임계값 (초과 호스트 수)
+     */
+    public TopHostsSelector(int limit, double threshold) {
+        this.limit = limit;
+        this.threshold = threshold;
+        this.heap = new PriorityQueue<>(limit + 1, RANK_ORDER);
+    }
+
+    // 호스트 하나의 구간 최대/합계/건수
+    public void add(String hostId, double maxUsage, double sumUsage, long sampleCount) {
+        if (sampleCount == 0) {
+            return;
+        }
+        double average = sumUsage / sampleCount;
+        hosts++;
+        if (average > threshold) {
+            hostsAbove++;
+        }
+        HostCpuUsageRank rank = new HostCpuUsageRank(hostId, Math.round(average * 100.0) / 100.0, maxUsage, sampleCount);
+        if (heap.size() < limit) {
+            heap.add(rank);
+        } else if (RANK_ORDER.compare(rank, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(rank);
+        }
+    }
+
+    public TopHosts toTopHosts() {
+        List<HostCpuUsageRank> ranks = new ArrayList<>(heap);
+        ranks.sort(RANK_ORDER.reversed());
+        return new TopHosts(ranks, hosts, hostsAbove);
+    }
+
+    @Getter
+    public static class TopHosts {
+        // 구간 평균 내림차순
+        private final List<HostCpuUsageRank> ranks;
+        private final int hosts;
+        private final int hostsAbove;
+
+        TopHosts(List<HostCpuUsageRank> ranks, int hosts, int hostsAbove) {
+            this.ranks = ranks;
+            this.hosts = hosts;
+            this.hostsAbove = hostsAbove;
+        }
+    }
+}
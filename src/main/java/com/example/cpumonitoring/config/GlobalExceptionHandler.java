@@ -2,6 +2,9 @@ package com.example.cpumonitoring.config;
 
 import com.example.cpumonitoring.exception.CpuUsageCollectionException;
 import com.example.cpumonitoring.exception.InvalidDateTimeRangeException;
+import com.example.cpumonitoring.exception.InvalidIngestRequestException;
+import com.example.cpumonitoring.exception.InvalidRangeParameterException;
+import com.example.cpumonitoring.exception.UnknownMetricException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -34,4 +37,19 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleInvalidDateRangeException(InvalidDateTimeRangeException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidRangeParameterException.class)
+    public ResponseEntity<String> handleInvalidRangeParameterException(InvalidRangeParameterException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidIngestRequestException.class)
+    public ResponseEntity<String> handleInvalidIngestRequestException(InvalidIngestRequestException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UnknownMetricException.class)
+    public ResponseEntity<String> handleUnknownMetricException(UnknownMetricException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.config;
+
+import com.example.cpumonitoring.codec.ColumnarSeriesHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // JSON 변환기 뒤에 추가 : Accept 미지정(*/*) 요청은 기존처럼 JSON 응답
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ColumnarSeriesHttpMessageConverter());
+    }
+}
@@ -1,18 +1,39 @@
 package com.example.cpumonitoring.controller;
 
+import com.example.cpumonitoring.codec.ColumnarSeriesFormat;
+import com.example.cpumonitoring.component.CpuUsageBroadcaster;
+import com.example.cpumonitoring.component.CpuUsageChangeTracker;
+import com.example.cpumonitoring.component.CpuUsageStatsCache;
+import com.example.cpumonitoring.component.CpuUsageWriteBuffer;
 import com.example.cpumonitoring.controller.docs.CpuMonitoringControllerDocs;
 import com.example.cpumonitoring.model.CpuUsageDateResponse;
 import com.example.cpumonitoring.model.CpuUsageMinuteResponse;
 import com.example.cpumonitoring.model.CpuUsageHourResponse;
+import com.example.cpumonitoring.model.CpuUsageIngestStats;
+import com.example.cpumonitoring.model.CpuUsageRangeResponse;
+import com.example.cpumonitoring.model.CpuUsageStatsCacheStats;
+import com.example.cpumonitoring.model.CpuUsageStreamStats;
+import com.example.cpumonitoring.model.CpuUsageSummaryResponse;
+import com.example.cpumonitoring.model.DownsampleMode;
 import com.example.cpumonitoring.service.CpuMonitoringService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -21,7 +42,14 @@ import java.time.LocalDateTime;
 @RequestMapping("/api/cpumonitoring")
 public class CpuMonitoringController implements CpuMonitoringControllerDocs {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CpuMonitoringService cpuMonitoringService;
+    private final CpuUsageBroadcaster cpuUsageBroadcaster;
+    private final CpuUsageStatsCache cpuUsageStatsCache;
+    private final CpuUsageChangeTracker cpuUsageChangeTracker;
+    private final CpuUsageWriteBuffer cpuUsageWriteBuffer;
+    private final ObjectMapper objectMapper;
 
     /**
      * 지정한 시간 구간의 분 단위 CPU 사용률 조회
@@ -37,21 +65,80 @@ public class CpuMonitoringController implements CpuMonitoringControllerDocs {
         return ResponseEntity.ok(cpuUsages);
     }
 
+    /**
+     * 지정한 시간 구간의 분 단위 CPU 사용률을 NDJSON(한 줄에 1건)으로 스트리밍
+     * - 전체 List 를 만들지 않고 조회하는 즉시 응답에 기록하므로 구간 크기와 무관하게 메모리 사용량 일정
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     * @return 사용률 스트림
+     */
+    @GetMapping(value = "/minute/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamCpuUsageByMinute(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        // 잘못된 구간은 응답 시작 전에 400 으로 처리
+        LocalDateTime adjustedStartTime = cpuMonitoringService.adjustMinuteRange(startTime, endTime);
+
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                cpuMonitoringService.forEachCpuUsageByMinute(adjustedStartTime, endTime, cpuUsage -> {
+                    try {
+                        writer.write(cpuUsage);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 지정한 시간 구간의 CPU 사용률을 임의 간격(step) 또는 최대 포인트 수(maxPoints)로 축소해 조회 (차트용)
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     * @param step 버킷 간격 (5m, 15m, 1h 또는 ISO-8601 PT5M)
+     * @param maxPoints 최대 포인트 수
+     * @param mode 축소 방식 (AVERAGE, LTTB)
+     * @return 축소한 사용률 List
+     */
+    @GetMapping("/range")
+    public ResponseEntity<CpuUsageRangeResponse> getCpuUsageRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @RequestParam(required = false) String step,
+            @RequestParam(required = false) Integer maxPoints,
+            @RequestParam(defaultValue = "AVERAGE") DownsampleMode mode) {
+        CpuUsageRangeResponse cpuUsages = cpuMonitoringService.getCpuUsageRange(startTime, endTime, step, maxPoints, mode);
+        return ResponseEntity.ok(cpuUsages);
+    }
+
     /**
      * 특정 날짜의 시 단위 CPU 사용률 최소/최대/평균 조회
+     * - 집계가 바뀌지 않았으면 (If-None-Match / If-Modified-Since) 조회 없이 304 Not Modified
      * @param date 조회할 날짜
      * @return 사용률 List
      */
     @GetMapping("/hour")
     public ResponseEntity<CpuUsageHourResponse> getCpuUsageStatsByHour(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        String eTag = cpuUsageChangeTracker.eTag(resourceOf("hour", webRequest), startDate, endDate);
+        long lastModified = cpuUsageChangeTracker.getLastModifiedMillis();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
         CpuUsageHourResponse cpuUsageStatsByHour = cpuMonitoringService.getCpuUsageStatsByHour(startDate, endDate);
-        return ResponseEntity.ok(cpuUsageStatsByHour);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).varyBy(HttpHeaders.ACCEPT).body(cpuUsageStatsByHour);
     }
 
     /**
      * 지정한 구간의 일 단위 CPU 사용률 최소/최대/평균 조회
+     * - 집계가 바뀌지 않았으면 (If-None-Match / If-Modified-Since) 조회 없이 304 Not Modified
      * @param startDate 구간 시작 날짜
      * @param endDate 구간 끝 날짜
      * @return 사용률 List
@@ -59,9 +146,78 @@ public class CpuMonitoringController implements CpuMonitoringControllerDocs {
     @GetMapping("/day")
     public ResponseEntity<CpuUsageDateResponse> getCpuUsageStatsByDay(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        String eTag = cpuUsageChangeTracker.eTag(resourceOf("day", webRequest), startDate, endDate);
+        long lastModified = cpuUsageChangeTracker.getLastModifiedMillis();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
         CpuUsageDateResponse cpuUsageStatsByDay = cpuMonitoringService.getCpuUsageStatsByDay(startDate, endDate);
-        return ResponseEntity.ok(cpuUsageStatsByDay);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).varyBy(HttpHeaders.ACCEPT).body(cpuUsageStatsByDay);
+    }
+
+    /**
+     * 지정한 구간 전체의 CPU 사용률 최소/최대/평균/백분위수(p50, p95, p99) 조회
+     * - 집계가 바뀌지 않았으면 (If-None-Match / If-Modified-Since) 조회 없이 304 Not Modified
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @return 구간 요약 통계
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<CpuUsageSummaryResponse> getCpuUsageSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        String eTag = cpuUsageChangeTracker.eTag("summary", startDate, endDate);
+        long lastModified = cpuUsageChangeTracker.getLastModifiedMillis();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+        CpuUsageSummaryResponse summary = cpuMonitoringService.getCpuUsageSummary(startDate, endDate);
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(summary);
+    }
+
+    /**
+     * 새로 수집한 CPU 사용률을 실시간으로 전달하는 SSE 스트림 구독
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCpuUsage() {
+        return cpuUsageBroadcaster.subscribe();
+    }
+
+    /**
+     * SSE 스트림 접속자 수, 발행/버려진 이벤트 수 조회
+     * @return 스트림 통계
+     */
+    @GetMapping("/stream/stats")
+    public ResponseEntity<CpuUsageStreamStats> getStreamStats() {
+        return ResponseEntity.ok(cpuUsageBroadcaster.getStats());
+    }
+
+    /**
+     * 시 단위/일 단위 통계 캐시의 크기와 적중/실패 버킷 수 조회
+     * @return 캐시 통계
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CpuUsageStatsCacheStats> getCacheStats() {
+        return ResponseEntity.ok(cpuUsageStatsCache.getStats());
+    }
+
+    /**
+     * write-behind 저장 대기열의 건수와 추가/버림/저장/실패 건수 조회
+     * @return 저장 대기열 통계
+     */
+    @GetMapping("/ingest/stats")
+    public ResponseEntity<CpuUsageIngestStats> getIngestStats() {
+        return ResponseEntity.ok(cpuUsageWriteBuffer.getStats());
+    }
+
+    // 응답 형식(JSON / 컬럼 기반 바이너리)마다 다른 ETag 사용
+    private static String resourceOf(String resource, WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(ColumnarSeriesFormat.MEDIA_TYPE) ? resource + "-columnar" : resource;
     }
 
-}
\ No newline at end of file
+}
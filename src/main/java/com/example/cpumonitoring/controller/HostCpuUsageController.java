@@ -0,0 +1,107 @@
+package com.example.cpumonitoring.controller;
+
+import com.example.cpumonitoring.component.HostCpuUsageSampleReader;
+import com.example.cpumonitoring.controller.docs.HostCpuUsageControllerDocs;
+import com.example.cpumonitoring.model.FleetCpuUsageHourResponse;
+import com.example.cpumonitoring.model.FleetCpuUsageTopResponse;
+import com.example.cpumonitoring.model.HostCpuUsageHourResponse;
+import com.example.cpumonitoring.model.HostCpuUsageIngestResponse;
+import com.example.cpumonitoring.model.HostCpuUsageMinuteResponse;
+import com.example.cpumonitoring.service.HostCpuUsageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cpumonitoring")
+public class HostCpuUsageController implements HostCpuUsageControllerDocs {
+
+    private final HostCpuUsageService hostCpuUsageService;
+    private final HostCpuUsageSampleReader hostCpuUsageSampleReader;
+
+    /**
+     * 에이전트가 보낸 여러 호스트의 사용률을 한 번에 저장
+     * - 본문을 원소 단위로 읽어 최대 건수를 넘으면 나머지를 읽지 않고 거절
+     * @param body 호스트별 사용률 배열 (JSON)
+     * @return 저장 건수와 호스트 수
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<HostCpuUsageIngestResponse> ingest(InputStream body) throws IOException {
+        return ResponseEntity.ok(hostCpuUsageService.ingest(hostCpuUsageSampleReader.read(body)));
+    }
+
+    /**
+     * 호스트의 분 단위 사용률 조회
+     * @param hostId 호스트 식별자
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     * @return 사용률 List
+     */
+    @GetMapping("/hosts/{hostId}/minute")
+    public ResponseEntity<HostCpuUsageMinuteResponse> getHostCpuUsageByMinute(
+            @PathVariable String hostId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
+        return ResponseEntity.ok(hostCpuUsageService.getCpuUsageByMinute(hostId, startTime, endTime));
+    }
+
+    /**
+     * 호스트의 시 단위 사용률 최소/최대/평균 조회
+     * @param hostId 호스트 식별자
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @return 시각별 통계
+     */
+    @GetMapping("/hosts/{hostId}/hour")
+    public ResponseEntity<HostCpuUsageHourResponse> getHostCpuUsageStatsByHour(
+            @PathVariable String hostId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(hostCpuUsageService.getCpuUsageStatsByHour(hostId, startDate, endDate));
+    }
+
+    /**
+     * 전체 호스트의 시 단위 사용률 조회
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @param threshold 호스트 시 평균 임계값
+     * @return 시각별 전체 호스트 통계
+     */
+    @GetMapping("/fleet/hour")
+    public ResponseEntity<FleetCpuUsageHourResponse> getFleetCpuUsageByHour(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "80") double threshold) {
+        return ResponseEntity.ok(hostCpuUsageService.getFleetCpuUsageByHour(startDate, endDate, threshold));
+    }
+
+    /**
+     * 구간 평균 사용률 상위 호스트 조회
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @param limit 상위 호스트 수
+     * @param threshold 구간 평균 임계값
+     * @return 상위 호스트와 임계값을 넘은 호스트 수
+     */
+    @GetMapping("/fleet/top")
+    public ResponseEntity<FleetCpuUsageTopResponse> getTopHosts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "80") double threshold) {
+        return ResponseEntity.ok(hostCpuUsageService.getTopHosts(startDate, endDate, limit, threshold));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.cpumonitoring.controller;
+
+import com.example.cpumonitoring.controller.docs.MetricControllerDocs;
+import com.example.cpumonitoring.model.MetricStatsResponse;
+import com.example.cpumonitoring.service.MetricService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cpumonitoring/metrics")
+public class MetricController implements MetricControllerDocs {
+
+    private final MetricService metricService;
+
+    /**
+     * 수집 중인 지표 이름 목록 조회
+     * @return 지표 이름 List
+     */
+    @GetMapping
+    public ResponseEntity<List<String>> getMetricNames() {
+        return ResponseEntity.ok(metricService.getMetricNames());
+    }
+
+    /**
+     * 지정한 구간의 시 단위 지표 최소/최대/평균 조회
+     * @param metric 지표 이름
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @return 시각별 통계
+     */
+    @GetMapping("/{metric}/hour")
+    public ResponseEntity<MetricStatsResponse<LocalDateTime>> getMetricStatsByHour(
+            @PathVariable String metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(metricService.getMetricStatsByHour(metric, startDate, endDate));
+    }
+
+    /**
+     * 지정한 구간의 일 단위 지표 최소/최대/평균 조회
+     * @param metric 지표 이름
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @return 날짜별 통계
+     */
+    @GetMapping("/{metric}/day")
+    public ResponseEntity<MetricStatsResponse<LocalDate>> getMetricStatsByDay(
+            @PathVariable String metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(metricService.getMetricStatsByDay(metric, startDate, endDate));
+    }
+
+}
@@ -2,7 +2,13 @@ package com.example.cpumonitoring.controller.docs;
 
 import com.example.cpumonitoring.model.CpuUsageDateResponse;
 import com.example.cpumonitoring.model.CpuUsageHourResponse;
+import com.example.cpumonitoring.model.CpuUsageIngestStats;
 import com.example.cpumonitoring.model.CpuUsageMinuteResponse;
+import com.example.cpumonitoring.model.CpuUsageRangeResponse;
+import com.example.cpumonitoring.model.CpuUsageStatsCacheStats;
+import com.example.cpumonitoring.model.CpuUsageStreamStats;
+import com.example.cpumonitoring.model.CpuUsageSummaryResponse;
+import com.example.cpumonitoring.model.DownsampleMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -12,9 +18,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -71,6 +81,84 @@ public interface CpuMonitoringControllerDocs {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime);
 
+    @Operation(summary = "Stream CPU Usage by Minute", description = "지정한 시간 구간의 분 단위 CPU 사용률을 NDJSON(한 줄에 1건)으로 스트리밍")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/x-ndjson", examples = {
+                            @ExampleObject(
+                                    value = "{\"id\":1,\"cpuUsage\":4.67,\"timestamp\":\"2024-05-26T06:11:16\"}\n" +
+                                            "{\"id\":2,\"cpuUsage\":9.41,\"timestamp\":\"2024-05-26T06:12:00\"}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request (분 단위 조회와 동일)")
+    })
+    @Parameters({
+            @Parameter(name = "startTime", description = "Start datetime of the range", example = "2024-05-20T00:00:00"),
+            @Parameter(name = "endTime", description = "End datetime of the range", example = "2024-05-20T00:10:00")
+    })
+    @GetMapping(value = "/minute/stream", produces = "application/x-ndjson")
+    ResponseEntity<StreamingResponseBody> streamCpuUsageByMinute(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime);
+
+    @Operation(summary = "Get CPU Usage by range", description = "지정한 시간 구간의 CPU 사용률을 임의 간격(step) 또는 최대 포인트 수(maxPoints)로 축소해 조회 (AVERAGE : 버킷별 최소/최대/평균, LTTB : 급등/급락을 보존하며 maxPoints 개 이하로 축소)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    name = "AVERAGE (step=5m)",
+                                    value = "{" +
+                                            "\"cpuUsage\": [" +
+                                            "{\"timestamp\": \"2024-05-26T06:10:00\", \"cpuUsage\": 6.61, \"minUsage\": 3.31, \"maxUsage\": 9.41, \"sampleCount\": 5}," +
+                                            "{\"timestamp\": \"2024-05-26T06:15:00\", \"cpuUsage\": 11.92, \"minUsage\": 5.78, \"maxUsage\": 21.4, \"sampleCount\": 3}" +
+                                            "]," +
+                                            "\"startTime\": \"2024-05-26T06:10:00\"," +
+                                            "\"endTime\": \"2024-05-26T06:20:00\"," +
+                                            "\"mode\": \"AVERAGE\"," +
+                                            "\"step\": \"PT5M\"" +
+                                            "}"
+                            ),
+                            @ExampleObject(
+                                    name = "LTTB (maxPoints=3)",
+                                    value = "{" +
+                                            "\"cpuUsage\": [" +
+                                            "{\"timestamp\": \"2024-05-26T06:11:00\", \"cpuUsage\": 4.67}," +
+                                            "{\"timestamp\": \"2024-05-26T06:20:00\", \"cpuUsage\": 21.4}," +
+                                            "{\"timestamp\": \"2024-05-26T06:22:00\", \"cpuUsage\": 9.83}" +
+                                            "]," +
+                                            "\"startTime\": \"2024-05-26T06:10:00\"," +
+                                            "\"endTime\": \"2024-05-26T06:25:00\"," +
+                                            "\"mode\": \"LTTB\"," +
+                                            "\"maxPoints\": 3" +
+                                            "}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(name = "step, maxPoints 모두 없는 경우", value = "step or maxPoints is required."),
+                            @ExampleObject(name = "step 이 1분 미만인 경우", value = "step must be at least 1 minute."),
+                            @ExampleObject(name = "LTTB 모드에 maxPoints 가 없거나 3 미만인 경우", value = "maxPoints of at least 3 is required for LTTB mode."),
+                            @ExampleObject(name = "LTTB 모드에 step 을 지정한 경우", value = "step cannot be used with LTTB mode, use maxPoints instead.")
+                    })
+            })
+    })
+    @Parameters({
+            @Parameter(name = "startTime", description = "Start datetime of the range", example = "2024-05-20T00:00:00"),
+            @Parameter(name = "endTime", description = "End datetime of the range", example = "2024-05-27T00:00:00"),
+            @Parameter(name = "step", description = "Bucket width (5m, 15m, 1h or ISO-8601 PT5M), AVERAGE mode only", example = "15m"),
+            @Parameter(name = "maxPoints", description = "Maximum number of points", example = "500"),
+            @Parameter(name = "mode", description = "AVERAGE or LTTB", example = "AVERAGE")
+    })
+    @GetMapping("/range")
+    ResponseEntity<CpuUsageRangeResponse> getCpuUsageRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @RequestParam(required = false) String step,
+            @RequestParam(required = false) Integer maxPoints,
+            @RequestParam(defaultValue = "AVERAGE") DownsampleMode mode);
+
     @Operation(summary = "Get CPU Usage by Hour", description = "특정 날짜의 시 단위 CPU 사용률 최소/최대/평균 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "success", content = {
@@ -104,6 +192,7 @@ public interface CpuMonitoringControllerDocs {
                             )
                     })
             }),
+            @ApiResponse(responseCode = "304", description = "변경 없음 : If-None-Match(ETag) / If-Modified-Since 가 현재 집계와 같은 경우", content = @Content),
             @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
                     @Content(mediaType = "application/json", examples = {
                             @ExampleObject(
@@ -128,7 +217,8 @@ public interface CpuMonitoringControllerDocs {
     @GetMapping("/hour")
     ResponseEntity<CpuUsageHourResponse> getCpuUsageStatsByHour(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) WebRequest webRequest);
 
     @Operation(summary = "Get CPU Usage by Day", description = "지정한 구간의 일 단위 CPU 사용률 최소/최대/평균 조회")
     @ApiResponses(value = {
@@ -154,6 +244,7 @@ public interface CpuMonitoringControllerDocs {
                             )
                     })
             }),
+            @ApiResponse(responseCode = "304", description = "변경 없음 : If-None-Match(ETag) / If-Modified-Since 가 현재 집계와 같은 경우", content = @Content),
             @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
                     @Content(mediaType = "application/json", examples = {
                             @ExampleObject(
@@ -178,5 +269,86 @@ public interface CpuMonitoringControllerDocs {
     @GetMapping("/day")
     ResponseEntity<CpuUsageDateResponse> getCpuUsageStatsByDay(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(summary = "Get CPU Usage summary", description = "지정한 구간 전체의 CPU 사용률 최소/최대/평균/백분위수(p50, p95, p99) 조회 (일 단위 집계의 사용률 분포 병합)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    value = "{" +
+                                            "\"cpuUsage\": {" +
+                                            "\"minUsage\": 2.99," +
+                                            "\"maxUsage\": 77.34," +
+                                            "\"averageUsage\": 12.14," +
+                                            "\"p50\": 9.62," +
+                                            "\"p95\": 31.25," +
+                                            "\"p99\": 58.71" +
+                                            "}," +
+                                            "\"sampleCount\": 2880," +
+                                            "\"startDate\": \"2024-05-26\"," +
+                                            "\"endDate\": \"2024-05-27\"" +
+                                            "}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "304", description = "변경 없음 : If-None-Match(ETag) / If-Modified-Since 가 현재 집계와 같은 경우", content = @Content),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request (일 단위 조회와 동일)")
+    })
+    @Parameters({
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-20"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-21")
+    })
+    @GetMapping("/summary")
+    ResponseEntity<CpuUsageSummaryResponse> getCpuUsageSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(summary = "Subscribe live CPU Usage", description = "새로 수집한 CPU 사용률을 SSE(event: cpu-usage)로 실시간 전달")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "text/event-stream", examples = {
+                            @ExampleObject(value = "id:1\nevent:cpu-usage\ndata:{\"id\":null,\"cpuUsage\":4.67,\"timestamp\":\"2024-05-26T06:11:00\"}\n\n")
+                    })
+            })
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamCpuUsage();
+
+    @Operation(summary = "Get live stream stats", description = "SSE 스트림 접속자 수, 발행/버려진 이벤트 수, 전송이 막혀 끊은 구독자 수 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "{\"connectedClients\": 120, \"publishedEvents\": 1440, \"droppedEvents\": 3, \"stalledClients\": 1}")
+                    })
+            })
+    })
+    @GetMapping("/stream/stats")
+    ResponseEntity<CpuUsageStreamStats> getStreamStats();
+
+    @Operation(summary = "Get stats cache stats", description = "시 단위/일 단위 통계 캐시의 크기, 적중/실패 버킷 수, 적중률 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "{\"hour\": {\"size\": 2184, \"capacity\": 2400, \"hits\": 91200, \"misses\": 2210, \"hitRatio\": 0.976},"
+                                    + " \"day\": {\"size\": 366, \"capacity\": 400, \"hits\": 14600, \"misses\": 380, \"hitRatio\": 0.975}}")
+                    })
+            })
+    })
+    @GetMapping("/cache/stats")
+    ResponseEntity<CpuUsageStatsCacheStats> getCacheStats();
+
+    @Operation(summary = "Get ingest queue stats", description = "write-behind 저장 대기열의 건수, 용량, overflow 정책, 추가/버림/저장 건수와 실패 배치 수 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "{\"queued\": 12, \"capacity\": 10080, \"overflowPolicy\": \"DROP_OLDEST\", \"backpressured\": false,"
+                                    + " \"accepted\": 1452, \"dropped\": 0, \"persisted\": 1440, \"failedBatches\": 2, \"backpressureEvents\": 0}")
+                    })
+            })
+    })
+    @GetMapping("/ingest/stats")
+    ResponseEntity<CpuUsageIngestStats> getIngestStats();
 }
@@ -0,0 +1,176 @@
+package com.example.cpumonitoring.controller.docs;
+
+import com.example.cpumonitoring.model.FleetCpuUsageHourResponse;
+import com.example.cpumonitoring.model.FleetCpuUsageTopResponse;
+import com.example.cpumonitoring.model.HostCpuUsageHourResponse;
+import com.example.cpumonitoring.model.HostCpuUsageIngestResponse;
+import com.example.cpumonitoring.model.HostCpuUsageMinuteResponse;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Tag(name = "Host CPU Usage API", description = "API for CPU usage sent by agents on other hosts")
+public interface HostCpuUsageControllerDocs {
+
+    @Operation(summary = "Ingest host CPU usage", description = "에이전트가 보낸 여러 호스트의 사용률을 한 번의 배치로 저장 (같은 호스트/시각은 덮어씀)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "{\"accepted\": 3, \"hosts\": 2}")
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(name = "빈 요청", value = "At least one sample is required."),
+                            @ExampleObject(name = "잘못된 사용률", value = "samples[1].cpuUsage must be between 0 and 100."),
+                            @ExampleObject(name = "최대 건수 초과", value = "Too many samples in one request (max 10000).")
+                    })
+            })
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = {
+            @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = HostCpuUsageSample.class)), examples = {
+                    @ExampleObject(value = "[" +
+                            "{\"hostId\": \"web-01\", \"timestamp\": \"2024-05-26T06:00:00\", \"cpuUsage\": 12.5}," +
+                            "{\"hostId\": \"web-01\", \"timestamp\": \"2024-05-26T06:01:00\", \"cpuUsage\": 14.02}," +
+                            "{\"hostId\": \"db-01\", \"timestamp\": \"2024-05-26T06:00:00\", \"cpuUsage\": 63.1}" +
+                            "]")
+            })
+    })
+    @PostMapping("/ingest")
+    ResponseEntity<HostCpuUsageIngestResponse> ingest(@Parameter(hidden = true) InputStream body) throws IOException;
+
+    @Operation(summary = "Get host CPU usage by Minute", description = "호스트의 분 단위 사용률 조회 (최근 1주)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    value = "{" +
+                                            "\"hostId\": \"web-01\"," +
+                                            "\"cpuUsage\": [" +
+                                            "{\"timestamp\": \"2024-05-26T06:00:00\", \"cpuUsage\": 12.5}," +
+                                            "{\"timestamp\": \"2024-05-26T06:01:00\", \"cpuUsage\": 14.02}" +
+                                            "]," +
+                                            "\"startTime\": \"2024-05-26T06:00:00\"," +
+                                            "\"endTime\": \"2024-05-26T06:01:00\"" +
+                                            "}"
+                            )
+                    })
+            })
+    })
+    @Parameters({
+            @Parameter(name = "hostId", description = "Host identifier", example = "web-01"),
+            @Parameter(name = "startTime", description = "Start time of the range", example = "2024-05-26T06:00:00"),
+            @Parameter(name = "endTime", description = "End time of the range", example = "2024-05-26T07:00:00")
+    })
+    @GetMapping("/hosts/{hostId}/minute")
+    ResponseEntity<HostCpuUsageMinuteResponse> getHostCpuUsageByMinute(
+            @PathVariable String hostId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime);
+
+    @Operation(summary = "Get host CPU usage by Hour", description = "호스트의 시 단위 사용률 최소/최대/평균 조회 (최근 3개월)")
+    @Parameters({
+            @Parameter(name = "hostId", description = "Host identifier", example = "web-01"),
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-20"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-21")
+    })
+    @GetMapping("/hosts/{hostId}/hour")
+    ResponseEntity<HostCpuUsageHourResponse> getHostCpuUsageStatsByHour(
+            @PathVariable String hostId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+
+    @Operation(summary = "Get fleet CPU usage by Hour",
+            description = "전체 호스트의 시 단위 사용률 조회 (최근 3개월) : 호스트 수, 호스트별 시 평균의 평균, 최대, 시 평균이 임계값을 넘은 호스트 수")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    value = "{" +
+                                            "\"cpuUsage\": {" +
+                                            "\"2024-05-26T06:00:00\": {\"hosts\": 120, \"averageUsage\": 23.41, \"maxUsage\": 97.3, \"hostsAbove\": 4}," +
+                                            "\"2024-05-26T07:00:00\": {\"hosts\": 121, \"averageUsage\": 25.08, \"maxUsage\": 88.12, \"hostsAbove\": 2}" +
+                                            "}," +
+                                            "\"threshold\": 80.0," +
+                                            "\"startDate\": \"2024-05-26\"," +
+                                            "\"endDate\": \"2024-05-26\"" +
+                                            "}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(name = "잘못된 임계값", value = "threshold must be between 0 and 100.")
+                    })
+            })
+    })
+    @Parameters({
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-26"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-26"),
+            @Parameter(name = "threshold", description = "Hourly average threshold (0-100)", example = "80")
+    })
+    @GetMapping("/fleet/hour")
+    ResponseEntity<FleetCpuUsageHourResponse> getFleetCpuUsageByHour(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "80") double threshold);
+
+    @Operation(summary = "Get top hosts by CPU usage",
+            description = "구간 평균 사용률 상위 호스트 조회 (최근 3개월, 호스트 단위 DB GROUP BY 한 번), 전체 호스트 수와 구간 평균이 임계값을 넘은 호스트 수 포함")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    value = "{" +
+                                            "\"topHosts\": [" +
+                                            "{\"hostId\": \"db-01\", \"averageUsage\": 71.2, \"maxUsage\": 99.1, \"sampleCount\": 1440}," +
+                                            "{\"hostId\": \"web-07\", \"averageUsage\": 55.03, \"maxUsage\": 92.4, \"sampleCount\": 1438}" +
+                                            "]," +
+                                            "\"hosts\": 120," +
+                                            "\"hostsAbove\": 3," +
+                                            "\"threshold\": 50.0," +
+                                            "\"startDate\": \"2024-05-26\"," +
+                                            "\"endDate\": \"2024-05-26\"" +
+                                            "}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(name = "잘못된 호스트 수", value = "limit must be between 1 and 100.")
+                    })
+            })
+    })
+    @Parameters({
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-26"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-26"),
+            @Parameter(name = "limit", description = "Number of hosts (1-100)", example = "10"),
+            @Parameter(name = "threshold", description = "Range average threshold (0-100)", example = "50")
+    })
+    @GetMapping("/fleet/top")
+    ResponseEntity<FleetCpuUsageTopResponse> getTopHosts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "80") double threshold);
+}
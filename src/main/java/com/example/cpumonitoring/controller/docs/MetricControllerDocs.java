@@ -0,0 +1,88 @@
+package com.example.cpumonitoring.controller.docs;
+
+import com.example.cpumonitoring.model.MetricStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "Metric API", description = "API for system metrics collected by registered metric sources")
+public interface MetricControllerDocs {
+
+    @Operation(summary = "List metrics", description = "수집 중인 지표 이름 목록 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "[\"process.cpu.usage\", \"system.context.switches\", \"system.load.average.1m\", \"system.memory.usage\"]")
+                    })
+            })
+    })
+    @GetMapping
+    ResponseEntity<List<String>> getMetricNames();
+
+    @Operation(summary = "Get metric stats by Hour", description = "지정한 구간의 시 단위 지표 최소/최대/평균 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "success", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    value = "{" +
+                                            "\"metric\": \"system.load.average.1m\"," +
+                                            "\"stats\": {" +
+                                            "\"2024-05-26T06:00:00\": {\"minValue\": 0.42, \"maxValue\": 1.87, \"averageValue\": 0.93, \"sampleCount\": 60}" +
+                                            "}," +
+                                            "\"startDate\": \"2024-05-26\"," +
+                                            "\"endDate\": \"2024-05-26\"" +
+                                            "}"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "400", description = "실패 : 400 Bad Request", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(
+                                    name = "시작 날짜가 종료 날짜보다 뒤인 경우",
+                                    value = "startDate(startTime) cannot be after endDate(endTime)"
+                            )
+                    })
+            }),
+            @ApiResponse(responseCode = "404", description = "실패 : 등록되지 않은 지표", content = {
+                    @Content(mediaType = "application/json", examples = {
+                            @ExampleObject(value = "Unknown metric: system.disk.usage")
+                    })
+            })
+    })
+    @Parameters({
+            @Parameter(name = "metric", description = "Metric name", example = "system.load.average.1m"),
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-20"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-21")
+    })
+    @GetMapping("/{metric}/hour")
+    ResponseEntity<MetricStatsResponse<LocalDateTime>> getMetricStatsByHour(
+            @PathVariable String metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+
+    @Operation(summary = "Get metric stats by Day", description = "지정한 구간의 일 단위 지표 최소/최대/평균 조회")
+    @Parameters({
+            @Parameter(name = "metric", description = "Metric name", example = "system.memory.usage"),
+            @Parameter(name = "startDate", description = "Start date of the range", example = "2024-05-01"),
+            @Parameter(name = "endDate", description = "End date of the range", example = "2024-05-21")
+    })
+    @GetMapping("/{metric}/day")
+    ResponseEntity<MetricStatsResponse<LocalDate>> getMetricStatsByDay(
+            @PathVariable String metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+}
@@ -0,0 +1,39 @@
+package com.example.cpumonitoring.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 코어별 사용률 배열을 쉼표로 구분한 문자열 컬럼으로 저장 (예: "12.5,3.25,100.0")
+ */
+@Converter
+public class CoreUsagesConverter implements AttributeConverter<double[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(double[] coreUsages) {
+        if (coreUsages == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(coreUsages.length * 6);
+        for (int i = 0; i < coreUsages.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(coreUsages[i]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public double[] convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return null;
+        }
+        String[] values = column.split(",");
+        double[] coreUsages = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            coreUsages[i] = Double.parseDouble(values[i]);
+        }
+        return coreUsages;
+    }
+}
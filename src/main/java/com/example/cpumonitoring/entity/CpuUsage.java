@@ -1,21 +1,23 @@
 package com.example.cpumonitoring.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "cpu_monitoring")
+@Table(name = "cpu_monitoring", indexes = @Index(name = "idx_cpu_monitoring_timestamp", columnList = "timestamp"))
 public class CpuUsage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 JDBC 배치 insert 가 불가하므로 pooled 시퀀스 사용 (DB 시퀀스 INCREMENT BY 와 allocationSize 일치 필요)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cpu_monitoring_seq")
+    @SequenceGenerator(name = "cpu_monitoring_seq", sequenceName = "cpu_monitoring_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -23,8 +25,66 @@ public class CpuUsage {
 
     private LocalDateTime timestamp;
 
+    // 고빈도 수집 모드에서만 저장되는 분 단위 요약 (cpuUsage 는 분 평균)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double minUsage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double maxUsage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer sampleCount;
+
+    // procstat 수집 모드에서만 저장되는 코어별 사용률
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Convert(converter = CoreUsagesConverter.class)
+    private double[] coreUsages;
+
+    // cgroup 수집 모드에서만 저장되는 저장 구간 동안의 throttling 및 CPU pressure(%)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long throttledPeriods;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long throttledUsec;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double cpuPressure;
+
     public CpuUsage(double cpuUsage, LocalDateTime timestamp) {
         this.cpuUsage = cpuUsage;
         this.timestamp = timestamp;
     }
+
+    public CpuUsage(Long id, double cpuUsage, LocalDateTime timestamp) {
+        this.id = id;
+        this.cpuUsage = cpuUsage;
+        this.timestamp = timestamp;
+    }
+
+    // 1분 동안 수집한 값들의 최소, 최대, 건수 설정
+    public void summarize(double minUsage, double maxUsage, int sampleCount) {
+        this.minUsage = minUsage;
+        this.maxUsage = maxUsage;
+        this.sampleCount = sampleCount;
+    }
+
+    public void setCoreUsages(double[] coreUsages) {
+        this.coreUsages = coreUsages;
+    }
+
+    public void setCgroupStats(Long throttledPeriods, Long throttledUsec, Double cpuPressure) {
+        this.throttledPeriods = throttledPeriods;
+        this.throttledUsec = throttledUsec;
+        this.cpuPressure = cpuPressure;
+    }
+
+    // JPA 외 저장소(embedded)에서 저장 시 id 할당
+    public void assignId(Long id) {
+        this.id = id;
+    }
+
+    // 저장 실패로 롤백된 경우 할당된 시퀀스 id 를 비워 다시 insert 되도록 함
+    public void resetId() {
+        this.id = null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.cpumonitoring.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cpu_monitoring_day")
+public class CpuUsageDay extends CpuUsageRollup {
+
+    // 일 단위 버킷 날짜
+    @Id
+    @Column(name = "bucket")
+    private LocalDate bucket;
+
+    public CpuUsageDay(LocalDate bucket) {
+        this.bucket = bucket;
+    }
+}
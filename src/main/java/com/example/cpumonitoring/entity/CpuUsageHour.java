@@ -0,0 +1,26 @@
+package com.example.cpumonitoring.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cpu_monitoring_hour")
+public class CpuUsageHour extends CpuUsageRollup {
+
+    // 시 단위 버킷 시작 시각 (분, 초 절삭)
+    @Id
+    @Column(name = "bucket")
+    private LocalDateTime bucket;
+
+    public CpuUsageHour(LocalDateTime bucket) {
+        this.bucket = bucket;
+    }
+}
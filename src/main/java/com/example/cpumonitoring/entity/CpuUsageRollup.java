@@ -0,0 +1,81 @@
+package com.example.cpumonitoring.entity;
+
+import com.example.cpumonitoring.model.CpuUsageStats;
+import com.example.cpumonitoring.model.UsageHistogram;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@MappedSuperclass
+public abstract class CpuUsageRollup {
+
+    private double minUsage;
+
+    private double maxUsage;
+
+    private double sumUsage;
+
+    private long sampleCount;
+
+    // 백분위수 계산용 사용률 분포 (히스토그램 도입 전 집계는 null)
+    @Convert(converter = UsageHistogramConverter.class)
+    @Column(name = "histogram")
+    private UsageHistogram histogram;
+
+    // 수집된 사용률 한 건을 버킷 집계에 반영
+    public void accumulate(double cpuUsage) {
+        if (sampleCount == 0) {
+            minUsage = cpuUsage;
+            maxUsage = cpuUsage;
+        } else {
+            minUsage = Math.min(minUsage, cpuUsage);
+            maxUsage = Math.max(maxUsage, cpuUsage);
+        }
+        sumUsage += cpuUsage;
+        sampleCount++;
+        addToHistogram(cpuUsage);
+    }
+
+    // 사용률 한 건을 분포에만 반영 (최소/최대/합계는 merge 로 반영하는 경우)
+    public void addToHistogram(double cpuUsage) {
+        if (histogram == null) {
+            histogram = new UsageHistogram();
+        }
+        histogram.add(cpuUsage);
+    }
+
+    // 다른 버킷의 분포를 병합 (변경 감지를 위해 새 객체로 교체)
+    public void mergeHistogram(UsageHistogram other) {
+        if (other == null || other.isEmpty()) {
+            return;
+        }
+        UsageHistogram merged = histogram == null ? new UsageHistogram() : histogram.copy();
+        merged.merge(other);
+        histogram = merged;
+    }
+
+    // 이미 집계된 값(최소, 최대, 합계, 건수)을 버킷 집계에 병합
+    public void merge(double min, double max, double sum, long count) {
+        if (count == 0) {
+            return;
+        }
+        if (sampleCount == 0) {
+            minUsage = min;
+            maxUsage = max;
+        } else {
+            minUsage = Math.min(minUsage, min);
+            maxUsage = Math.max(maxUsage, max);
+        }
+        sumUsage += sum;
+        sampleCount += count;
+    }
+
+    // 버킷의 최소, 최대, 평균값 (평균은 소수점 셋째자리에서 반올림), 분포가 모든 건수를 담고 있으면 p50/p95/p99 포함
+    public CpuUsageStats toStats() {
+        return CpuUsageStats.of(minUsage, maxUsage, sumUsage, sampleCount, histogram);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.cpumonitoring.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * MetricSource 로 수집한 지표 값 (지표 이름 + 값 + 시각)
+ * - 지표 종류와 무관하게 한 테이블에 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "metric_sample", indexes = @Index(name = "idx_metric_sample_metric_timestamp", columnList = "metric, timestamp"))
+public class MetricSample {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metric_sample_seq")
+    @SequenceGenerator(name = "metric_sample_seq", sequenceName = "metric_sample_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "metric", nullable = false, length = 100)
+    private String metric;
+
+    @Column(name = "metric_value")
+    private double value;
+
+    @Column(name = "timestamp")
+    private LocalDateTime timestamp;
+
+    public MetricSample(String metric, double value, LocalDateTime timestamp) {
+        this.metric = metric;
+        this.value = value;
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.cpumonitoring.entity;
+
+import com.example.cpumonitoring.model.UsageHistogram;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 사용률 히스토그램을 압축 바이너리 컬럼으로 저장 (비어 있는 구간은 생략)
+ */
+@Converter
+public class UsageHistogramConverter implements AttributeConverter<UsageHistogram, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(UsageHistogram histogram) {
+        return histogram == null ? null : histogram.encode();
+    }
+
+    @Override
+    public UsageHistogram convertToEntityAttribute(byte[] column) {
+        return column == null || column.length == 0 ? null : UsageHistogram.decode(column);
+    }
+}
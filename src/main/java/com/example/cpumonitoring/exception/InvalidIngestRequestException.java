@@ -0,0 +1,7 @@
+package com.example.cpumonitoring.exception;
+
+public class InvalidIngestRequestException extends RuntimeException {
+    public InvalidIngestRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cpumonitoring.exception;
+
+public class InvalidRangeParameterException extends RuntimeException {
+    public InvalidRangeParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.cpumonitoring.exception;
+
+public class UnknownMetricException extends RuntimeException {
+    public UnknownMetricException(String metric) {
+        super("Unknown metric: " + metric);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class BucketCacheStats {
+    private int size;
+    private int capacity;
+    private long hits;
+    private long misses;
+
+    // 조회한 버킷 중 캐시에서 찾은 비율
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cpumonitoring.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+public class CpuUsageBucketStats {
+    private LocalDateTime bucket;
+    private double minUsage;
+    private double maxUsage;
+    private double averageUsage;
+    private double sumUsage;
+    private long sampleCount;
+    // 버킷의 사용률 분포 (저장소가 제공하는 경우)
+    @Setter
+    private UsageHistogram histogram;
+
+    public CpuUsageBucketStats(LocalDateTime bucket, double minUsage, double maxUsage, double averageUsage,
+                               double sumUsage, long sampleCount) {
+        this.bucket = bucket;
+        this.minUsage = minUsage;
+        this.maxUsage = maxUsage;
+        this.averageUsage = averageUsage;
+        this.sumUsage = sumUsage;
+        this.sampleCount = sampleCount;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageIngestStats {
+    // 저장 대기 건수 (재시도 대기 포함) / 용량
+    private int queued;
+    private int capacity;
+    private String overflowPolicy;
+    // high-watermark 초과 여부 (저장 단계가 수집을 따라가지 못하는 상태)
+    private boolean backpressured;
+    private long accepted;
+    private long dropped;
+    private long persisted;
+    private long failedBatches;
+    private long backpressureEvents;
+
+}
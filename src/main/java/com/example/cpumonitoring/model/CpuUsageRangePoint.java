@@ -0,0 +1,30 @@
+package com.example.cpumonitoring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageRangePoint {
+    private LocalDateTime timestamp;
+    private double cpuUsage;
+
+    // AVERAGE 모드에서만 포함되는 버킷의 최소/최대/건수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double minUsage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double maxUsage;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer sampleCount;
+
+    public CpuUsageRangePoint(LocalDateTime timestamp, double cpuUsage) {
+        this(timestamp, cpuUsage, null, null, null);
+    }
+
+}
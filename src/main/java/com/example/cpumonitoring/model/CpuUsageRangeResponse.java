@@ -0,0 +1,28 @@
+package com.example.cpumonitoring.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageRangeResponse {
+    private List<CpuUsageRangePoint> cpuUsage;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private DownsampleMode mode;
+
+    // AVERAGE 모드의 버킷 간격
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Duration step;
+
+    // LTTB 모드의 최대 포인트 수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer maxPoints;
+
+}
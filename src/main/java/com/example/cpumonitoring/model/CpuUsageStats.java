@@ -1,7 +1,7 @@
 package com.example.cpumonitoring.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.Getter;
 
 
@@ -12,4 +12,32 @@ public class CpuUsageStats {
     private double maxUsage;
     private double averageUsage;
 
-}
\ No newline at end of file
+    // 사용률 분포(UsageHistogram)로 구한 백분위수 근사값, 분포가 없는 집계는 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double p50;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double p95;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double p99;
+
+    public CpuUsageStats(double minUsage, double maxUsage, double averageUsage) {
+        this(minUsage, maxUsage, averageUsage, null, null, null);
+    }
+
+    // 최소, 최대, 합계, 건수로 만든 통계 (평균은 소수점 셋째자리에서 반올림), 분포가 모든 건수를 담고 있으면 p50/p95/p99 포함
+    public static CpuUsageStats of(double minUsage, double maxUsage, double sumUsage, long sampleCount,
+                                   UsageHistogram histogram) {
+        double averageUsage = Math.round(sumUsage / sampleCount * 100.0) / 100.0;
+        // 분포 도입 전 집계와 섞인 버킷은 일부 건수만의 백분위수가 되므로 생략
+        if (histogram == null || histogram.getTotal() != sampleCount) {
+            return new CpuUsageStats(minUsage, maxUsage, averageUsage);
+        }
+        return new CpuUsageStats(minUsage, maxUsage, averageUsage,
+                histogram.quantile(0.50, minUsage, maxUsage),
+                histogram.quantile(0.95, minUsage, maxUsage),
+                histogram.quantile(0.99, minUsage, maxUsage));
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageStatsCacheStats {
+    private BucketCacheStats hour;
+    private BucketCacheStats day;
+
+}
@@ -0,0 +1,15 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageStreamStats {
+    private int connectedClients;
+    private long publishedEvents;
+    private long droppedEvents;
+    private long stalledClients;
+
+}
@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+
+@AllArgsConstructor
+@Getter
+public class CpuUsageSummaryResponse {
+    // 구간 전체의 최소/최대/평균/백분위수 (데이터가 없으면 null)
+    private CpuUsageStats cpuUsage;
+    private long sampleCount;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
@@ -0,0 +1,11 @@
+package com.example.cpumonitoring.model;
+
+/**
+ * 구간 조회 다운샘플링 방식
+ */
+public enum DownsampleMode {
+    // step 간격 버킷별 최소/최대/평균
+    AVERAGE,
+    // Largest-Triangle-Three-Buckets : 급등/급락 지점을 보존하면서 최대 maxPoints 개로 축소
+    LTTB
+}
@@ -0,0 +1,19 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+
+@AllArgsConstructor
+@Getter
+public class FleetCpuUsageHourResponse {
+    private Map<LocalDateTime, FleetCpuUsageStats> cpuUsage;
+    private double threshold;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
@@ -0,0 +1,19 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class FleetCpuUsageStats {
+    // 사용률을 보낸 호스트 수
+    private int hosts;
+    // 호스트별 시 평균의 평균
+    private double averageUsage;
+    // 호스트별 시 최대의 최대
+    private double maxUsage;
+    // 시 평균이 임계값을 넘은 호스트 수
+    private int hostsAbove;
+
+}
@@ -0,0 +1,23 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+
+@AllArgsConstructor
+@Getter
+public class FleetCpuUsageTopResponse {
+    // 구간 평균 사용률 내림차순 상위 호스트
+    private List<HostCpuUsageRank> topHosts;
+    // 구간에 사용률을 보낸 호스트 수
+    private int hosts;
+    // 구간 평균이 임계값을 넘은 호스트 수
+    private int hostsAbove;
+    private double threshold;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
@@ -0,0 +1,19 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+
+@AllArgsConstructor
+@Getter
+public class HostCpuUsageHourResponse {
+    private String hostId;
+    private Map<LocalDateTime, CpuUsageStats> cpuUsage;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
@@ -0,0 +1,14 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class HostCpuUsageIngestResponse {
+    // 저장한 사용률 건수 (같은 호스트/시각은 마지막 값으로 덮어씀)
+    private int accepted;
+    private int hosts;
+
+}
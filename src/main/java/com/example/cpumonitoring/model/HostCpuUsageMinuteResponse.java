@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@AllArgsConstructor
+@Getter
+public class HostCpuUsageMinuteResponse {
+    private String hostId;
+    private List<CpuUsageRangePoint> cpuUsage;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+}
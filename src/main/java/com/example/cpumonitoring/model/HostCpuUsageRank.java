@@ -0,0 +1,16 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class HostCpuUsageRank {
+    private String hostId;
+    // 구간 전체 사용률 평균
+    private double averageUsage;
+    private double maxUsage;
+    private long sampleCount;
+
+}
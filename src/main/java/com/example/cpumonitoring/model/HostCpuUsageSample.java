@@ -0,0 +1,20 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class HostCpuUsageSample {
+    // 에이전트가 보내는 호스트 식별자 (최대 100자)
+    private String hostId;
+    // 수집 시각 (서버와 같은 로컬 시각 기준)
+    private LocalDateTime timestamp;
+    private Double cpuUsage;
+
+}
@@ -0,0 +1,18 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+
+@AllArgsConstructor
+@Getter
+public class MetricBucketStats {
+    private LocalDateTime bucket;
+    private double minValue;
+    private double maxValue;
+    private double averageValue;
+    private long sampleCount;
+
+}
@@ -0,0 +1,15 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class MetricStats {
+    private double minValue;
+    private double maxValue;
+    private double averageValue;
+    private long sampleCount;
+
+}
@@ -0,0 +1,19 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+
+// 시 단위는 LocalDateTime, 일 단위는 LocalDate 버킷
+@AllArgsConstructor
+@Getter
+public class MetricStatsResponse<T> {
+    private String metric;
+    private Map<T, MetricStats> stats;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+}
@@ -0,0 +1,20 @@
+package com.example.cpumonitoring.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+@AllArgsConstructor
+@Getter
+public class RetentionReport {
+    private long rawPurged;
+    private long hourPurged;
+    private long dayPurged;
+    private long metricPurged;
+    private long hostPurged;
+    private long elapsedMillis;
+
+    public long getTotalPurged() {
+        return rawPurged + hourPurged + dayPurged + metricPurged + hostPurged;
+    }
+}
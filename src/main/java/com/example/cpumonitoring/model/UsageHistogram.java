@@ -0,0 +1,154 @@
+package com.example.cpumonitoring.model;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * CPU 사용률(0 ~ 100%) 분포를 고정 구간으로 세는 병합 가능한 히스토그램
+ * - 0.5% 폭의 200개 구간 (100% 는 마지막 구간), 크기가 데이터 양과 무관
+ * - 같은 구간 정의이므로 시 단위 → 일 단위 → 임의 구간으로 구간별 건수를 더하기만 하면 병합
+ * - 백분위수는 구간 안에서 선형 보간한 근사값 (오차 최대 0.5%p)
+ */
+public class UsageHistogram {
+    public static final int BINS = 200;
+    public static final double BIN_WIDTH = 100.0 / BINS;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final long[] counts;
+    private long total;
+
+    public UsageHistogram() {
+        this(new long[BINS]);
+    }
+
+    private UsageHistogram(long[] counts) {
+        this.counts = counts;
+        for (long count : counts) {
+            total += count;
+        }
+    }
+
+    // 사용률이 속한 구간 번호 (범위 밖의 값은 양 끝 구간)
+    public static int binOf(double usage) {
+        int bin = (int) (usage / BIN_WIDTH);
+        return Math.max(0, Math.min(BINS - 1, bin));
+    }
+
+    public void add(double usage) {
+        add(binOf(usage), 1);
+    }
+
+    public void add(int bin, long count) {
+        counts[bin] += count;
+        total += count;
+    }
+
+    public void merge(UsageHistogram other) {
+        if (other == null) {
+            return;
+        }
+        for (int i = 0; i < BINS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public UsageHistogram copy() {
+        return new UsageHistogram(counts.clone());
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * 백분위수 근사값
+     * @param quantile 0 ~ 1 (예: 0.95)
+     * @param min 실제 최소값 (결과 하한)
+     * @param max 실제 최대값 (결과 상한)
+     * @return 소수점 둘째자리까지 반올림한 값, 데이터가 없으면 NaN
+     */
+    public double quantile(double quantile, double min, double max) {
+        if (total == 0) {
+            return Double.NaN;
+        }
+        double rank = quantile * total;
+        long cumulative = 0;
+        int bin = 0;
+        while (bin < BINS - 1 && cumulative + counts[bin] < rank) {
+            cumulative += counts[bin];
+            bin++;
+        }
+        double fraction = counts[bin] == 0 ? 0 : (rank - cumulative) / counts[bin];
+        double value = (bin + fraction) * BIN_WIDTH;
+        value = Math.max(min, Math.min(max, value));
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * DB 컬럼용 압축 형식 : 버전 1바이트 + (이전 구간과의 간격, 건수) varint 쌍, 건수가 0인 구간은 생략
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+        int previous = -1;
+        for (int i = 0; i < BINS; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            writeVarLong(out, i - previous);
+            writeVarLong(out, counts[i]);
+            previous = i;
+        }
+        return out.toByteArray();
+    }
+
+    public static UsageHistogram decode(byte[] bytes) {
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported histogram format: " + bytes[0]);
+        }
+        long[] counts = new long[BINS];
+        int[] position = {1};
+        int bin = -1;
+        while (position[0] < bytes.length) {
+            bin += (int) readVarLong(bytes, position);
+            counts[bin] = readVarLong(bytes, position);
+        }
+        return new UsageHistogram(counts);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UsageHistogram other && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
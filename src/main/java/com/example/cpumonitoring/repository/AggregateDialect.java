@@ -0,0 +1,68 @@
+package com.example.cpumonitoring.repository;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * DB 종류별 SQL 차이 (집계 쿼리의 시/일 버킷 표현식, 건수 제한 삭제, 시퀀스 다음 값)
+ */
+enum AggregateDialect {
+    H2("DATE_TRUNC('HOUR', timestamp)", "CAST(timestamp AS DATE)",
+            "DELETE FROM %1$s WHERE %2$s < ? FETCH FIRST ? ROWS ONLY", "SELECT NEXT VALUE FOR %s"),
+    MARIADB("CAST(DATE_FORMAT(timestamp, '%Y-%m-%d %H:00:00') AS DATETIME)", "DATE(timestamp)",
+            "DELETE FROM %1$s WHERE %2$s < ? ORDER BY %2$s LIMIT ?", "SELECT NEXTVAL(%s)");
+
+    private final String hourBucket;
+    private final String dayBucket;
+    private final String deleteChunk;
+    private final String sequenceNextValue;
+
+    AggregateDialect(String hourBucket, String dayBucket, String deleteChunk, String sequenceNextValue) {
+        this.hourBucket = hourBucket;
+        this.dayBucket = dayBucket;
+        this.deleteChunk = deleteChunk;
+        this.sequenceNextValue = sequenceNextValue;
+    }
+
+    String getHourBucket() {
+        return hourBucket;
+    }
+
+    String getDayBucket() {
+        return dayBucket;
+    }
+
+    // 기준 시각 이전 행을 최대 ?건 삭제 (테이블, 시각 컬럼)
+    String getDeleteChunk(String table, String column) {
+        return String.format(deleteChunk, table, column);
+    }
+
+    // 시퀀스의 다음 값 조회
+    String getSequenceNextValue(String sequence) {
+        return String.format(sequenceNextValue, sequence);
+    }
+
+    // 연결 메타데이터의 DB 제품명으로 판별
+    static AggregateDialect detect(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return from(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to detect database product", e);
+        }
+    }
+
+    static AggregateDialect from(String productName) {
+        String name = productName.toLowerCase();
+        if (name.contains("h2")) {
+            return H2;
+        }
+        if (name.contains("mariadb") || name.contains("mysql")) {
+            return MARIADB;
+        }
+        throw new IllegalStateException("Unsupported database for aggregate queries: " + productName);
+    }
+}
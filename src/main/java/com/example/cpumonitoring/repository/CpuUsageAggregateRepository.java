@@ -0,0 +1,17 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원본 데이터(cpu_monitoring)를 DB에서 시/일 단위로 그룹핑해 버킷당 1건만 가져오는 조회
+ */
+public interface CpuUsageAggregateRepository {
+
+    List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end);
+
+    List<CpuUsageBucketStats> aggregateByDay(LocalDateTime start, LocalDateTime end);
+
+}
@@ -0,0 +1,92 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.UsageHistogram;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CpuUsageAggregateRepositoryImpl implements CpuUsageAggregateRepository {
+    // 버킷 표현식, 테이블
+    static final String AGGREGATE_SQL =
+            "SELECT %1$s AS bucket, MIN(COALESCE(min_usage, cpu_usage)) AS min_usage," +
+            " MAX(COALESCE(max_usage, cpu_usage)) AS max_usage," +
+            " AVG(cpu_usage) AS average_usage, SUM(cpu_usage) AS sum_usage, COUNT(*) AS sample_count" +
+            " FROM %2$s WHERE timestamp BETWEEN ? AND ?" +
+            " GROUP BY %1$s ORDER BY bucket";
+
+    // UsageHistogram 구간 번호 (0.5% 폭, 범위 밖의 값은 양 끝 구간)
+    private static final String HISTOGRAM_BIN = String.format("LEAST(GREATEST(FLOOR(cpu_usage / %s), 0), %d)",
+            UsageHistogram.BIN_WIDTH, UsageHistogram.BINS - 1);
+
+    // 버킷 표현식, 테이블 : 버킷별 히스토그램 구간 건수
+    static final String HISTOGRAM_SQL =
+            "SELECT %1$s AS bucket, " + HISTOGRAM_BIN + " AS bin, COUNT(*) AS bin_count" +
+            " FROM %2$s WHERE timestamp BETWEEN ? AND ?" +
+            " GROUP BY %1$s, " + HISTOGRAM_BIN;
+
+    static final RowMapper<CpuUsageBucketStats> HOUR_ROW_MAPPER = (rs, rowNum) -> new CpuUsageBucketStats(
+            rs.getObject("bucket", LocalDateTime.class),
+            rs.getDouble("min_usage"),
+            rs.getDouble("max_usage"),
+            rs.getDouble("average_usage"),
+            rs.getDouble("sum_usage"),
+            rs.getLong("sample_count"));
+
+    private static final RowMapper<CpuUsageBucketStats> DAY_ROW_MAPPER = (rs, rowNum) -> new CpuUsageBucketStats(
+            rs.getObject("bucket", LocalDate.class).atStartOfDay(),
+            rs.getDouble("min_usage"),
+            rs.getDouble("max_usage"),
+            rs.getDouble("average_usage"),
+            rs.getDouble("sum_usage"),
+            rs.getLong("sample_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    private volatile AggregateDialect dialect;
+
+    @Override
+    public List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end) {
+        String sql = String.format(AGGREGATE_SQL, dialect().getHourBucket(), "cpu_monitoring");
+        List<CpuUsageBucketStats> stats = jdbcTemplate.query(sql, HOUR_ROW_MAPPER, start, end);
+        attachHourHistograms(jdbcTemplate, String.format(HISTOGRAM_SQL, dialect().getHourBucket(), "cpu_monitoring"),
+                stats, start, end);
+        return stats;
+    }
+
+    @Override
+    public List<CpuUsageBucketStats> aggregateByDay(LocalDateTime start, LocalDateTime end) {
+        String sql = String.format(AGGREGATE_SQL, dialect().getDayBucket(), "cpu_monitoring");
+        return jdbcTemplate.query(sql, DAY_ROW_MAPPER, start, end);
+    }
+
+    // 버킷별 구간 건수(버킷당 최대 200행)로 히스토그램을 만들어 시 단위 통계에 연결
+    static void attachHourHistograms(JdbcTemplate jdbcTemplate, String histogramSql, List<CpuUsageBucketStats> stats,
+                                     LocalDateTime start, LocalDateTime end) {
+        Map<LocalDateTime, UsageHistogram> histograms = new HashMap<>();
+        jdbcTemplate.query(histogramSql, (RowCallbackHandler) rs -> histograms
+                .computeIfAbsent(rs.getObject("bucket", LocalDateTime.class), bucket -> new UsageHistogram())
+                .add(rs.getInt("bin"), rs.getLong("bin_count")), start, end);
+        stats.forEach(bucketStats -> bucketStats.setHistogram(histograms.get(bucketStats.getBucket())));
+    }
+
+    // 첫 조회 시점에 DB 종류를 확인해 버킷 표현식 선택
+    private AggregateDialect dialect() {
+        AggregateDialect current = dialect;
+        if (current == null) {
+            current = AggregateDialect.detect(dataSource);
+            dialect = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CpuUsageDayRepository extends JpaRepository<CpuUsageDay, LocalDate> {
+
+    List<CpuUsageDay> findByBucketBetweenOrderByBucket(LocalDate start, LocalDate end);
+
+}
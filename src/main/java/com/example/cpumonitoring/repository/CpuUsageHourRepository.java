@@ -0,0 +1,16 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CpuUsageHourRepository extends JpaRepository<CpuUsageHour, LocalDateTime> {
+
+    List<CpuUsageHour> findByBucketBetweenOrderByBucket(LocalDateTime start, LocalDateTime end);
+
+    Optional<CpuUsageHour> findFirstByOrderByBucketAsc();
+
+}
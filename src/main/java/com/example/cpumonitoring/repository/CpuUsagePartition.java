@@ -0,0 +1,25 @@
+package com.example.cpumonitoring.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * cpu_monitoring 의 기간 파티션 (MariaDB RANGE 파티션 / H2 기간별 테이블)
+ */
+@Getter
+@AllArgsConstructor
+public class CpuUsagePartition {
+    private String name;
+    // 파티션 범위 [start, end)
+    private LocalDateTime start;
+    private LocalDateTime end;
+    // DB 통계 기준 대략적인 행 수 (삭제 건수 보고용)
+    private long estimatedRows;
+
+    // 조회 구간 [start, end] 와 겹치는지 확인
+    public boolean overlaps(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        return !start.isAfter(rangeEnd) && end.isAfter(rangeStart);
+    }
+}
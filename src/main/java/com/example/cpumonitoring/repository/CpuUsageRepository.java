@@ -5,9 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface CpuUsageRepository extends JpaRepository<CpuUsage, Long> {
+public interface CpuUsageRepository extends JpaRepository<CpuUsage, Long>, CpuUsageAggregateRepository,
+        CpuUsageStreamingRepository {
 
     List<CpuUsage> findByTimestampBetween(LocalDateTime start, LocalDateTime end);
 
-}
\ No newline at end of file
+    List<CpuUsage> findByTimestampBetweenOrderByTimestampAsc(LocalDateTime start, LocalDateTime end);
+
+    Optional<CpuUsage> findFirstByOrderByTimestampAsc();
+
+}
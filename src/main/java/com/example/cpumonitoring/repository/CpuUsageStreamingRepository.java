@@ -0,0 +1,15 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 구간 사용률을 JDBC 커서로 한 행씩 읽는 스트림 조회
+ * - 반환된 Stream 은 커넥션을 점유하므로 반드시 close (try-with-resources)
+ */
+public interface CpuUsageStreamingRepository {
+
+    Stream<CpuUsage> streamByTimestampBetween(LocalDateTime start, LocalDateTime end);
+}
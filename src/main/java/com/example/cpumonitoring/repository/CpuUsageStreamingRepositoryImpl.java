@@ -0,0 +1,66 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.CoreUsagesConverter;
+import com.example.cpumonitoring.entity.CpuUsage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public class CpuUsageStreamingRepositoryImpl implements CpuUsageStreamingRepository {
+    private static final String STREAM_SQL =
+            "SELECT id, cpu_usage, timestamp, min_usage, max_usage, sample_count, core_usages," +
+            " throttled_periods, throttled_usec, cpu_pressure" +
+            " FROM cpu_monitoring WHERE timestamp BETWEEN ? AND ? ORDER BY timestamp";
+
+    private static final CoreUsagesConverter CORE_USAGES_CONVERTER = new CoreUsagesConverter();
+
+    // 영속성 컨텍스트를 거치지 않고 행마다 분리된 엔티티 생성
+    static final RowMapper<CpuUsage> ROW_MAPPER = (rs, rowNum) -> {
+        CpuUsage cpuUsage = new CpuUsage(rs.getLong("id"), rs.getDouble("cpu_usage"),
+                rs.getObject("timestamp", LocalDateTime.class));
+        Double minUsage = getNullableDouble(rs, "min_usage");
+        if (minUsage != null) {
+            cpuUsage.summarize(minUsage, rs.getDouble("max_usage"), rs.getInt("sample_count"));
+        }
+        cpuUsage.setCoreUsages(CORE_USAGES_CONVERTER.convertToEntityAttribute(rs.getString("core_usages")));
+        Long throttledPeriods = rs.getObject("throttled_periods", Long.class);
+        if (throttledPeriods != null) {
+            cpuUsage.setCgroupStats(throttledPeriods, rs.getObject("throttled_usec", Long.class),
+                    getNullableDouble(rs, "cpu_pressure"));
+        }
+        return cpuUsage;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public CpuUsageStreamingRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                           @Value("${cpumonitoring.minute-stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<CpuUsage> streamByTimestampBetween(LocalDateTime start, LocalDateTime end) {
+        // forward-only, read-only 커서 + fetch size : 드라이버가 전체 결과를 메모리에 올리지 않고 fetchSize 건씩 가져옴
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, start);
+            statement.setObject(2, end);
+            return statement;
+        }, ROW_MAPPER);
+    }
+
+    private static Double getNullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
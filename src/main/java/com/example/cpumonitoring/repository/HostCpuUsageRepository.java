@@ -0,0 +1,134 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 에이전트가 보낸 호스트별 사용률 (host_cpu_usage)
+ * - 기본 키 (host_id, timestamp) : 호스트별 구간 조회는 기본 키 범위 스캔, 에이전트가 같은 시각을 다시 보내면 덮어씀
+ * - 시각 인덱스 : 보관 기한 삭제, 전체 호스트 구간 집계
+ * - 전체 호스트 집계 결과 행은 통계 객체로 만들지 않고 호출자가 넘긴 consumer 로 바로 전달
+ * - 이 인스턴스가 직접 수집하는 사용률(cpu_monitoring)과 시/일 단위 집계에는 섞이지 않음
+ */
+@Repository
+public class HostCpuUsageRepository {
+    private static final String H2_UPSERT_SQL =
+            "MERGE INTO host_cpu_usage (host_id, timestamp, cpu_usage) KEY (host_id, timestamp) VALUES (?, ?, ?)";
+    private static final String MARIADB_UPSERT_SQL =
+            "INSERT INTO host_cpu_usage (host_id, timestamp, cpu_usage) VALUES (?, ?, ?)" +
+            " ON DUPLICATE KEY UPDATE cpu_usage = VALUES(cpu_usage)";
+    private static final String SELECT_SQL =
+            "SELECT timestamp, cpu_usage FROM host_cpu_usage" +
+            " WHERE host_id = ? AND timestamp BETWEEN ? AND ? ORDER BY timestamp";
+    // 시 버킷 표현식
+    private static final String AGGREGATE_SQL =
+            "SELECT %1$s AS bucket, MIN(cpu_usage) AS min_usage, MAX(cpu_usage) AS max_usage," +
+            " AVG(cpu_usage) AS average_usage, SUM(cpu_usage) AS sum_usage, COUNT(*) AS sample_count" +
+            " FROM host_cpu_usage WHERE host_id = ? AND timestamp BETWEEN ? AND ?" +
+            " GROUP BY %1$s ORDER BY bucket";
+    // 전체 호스트 (호스트, 시) 단위 집계 (행 순서 무관)
+    private static final String FLEET_HOUR_SQL =
+            "SELECT %1$s AS bucket, MAX(cpu_usage) AS max_usage, SUM(cpu_usage) AS sum_usage," +
+            " COUNT(*) AS sample_count FROM host_cpu_usage WHERE timestamp BETWEEN ? AND ?" +
+            " GROUP BY host_id, %1$s";
+    // 전체 호스트 호스트 단위 구간 집계 (호스트당 1행)
+    private static final String FLEET_HOST_SQL =
+            "SELECT host_id, MAX(cpu_usage) AS max_usage, SUM(cpu_usage) AS sum_usage, COUNT(*) AS sample_count" +
+            " FROM host_cpu_usage WHERE timestamp BETWEEN ? AND ? GROUP BY host_id";
+
+    private static final RowMapper<CpuUsageRangePoint> POINT_ROW_MAPPER = (rs, rowNum) -> new CpuUsageRangePoint(
+            rs.getObject("timestamp", LocalDateTime.class),
+            rs.getDouble("cpu_usage"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    private volatile AggregateDialect dialect;
+
+    public HostCpuUsageRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    // 요청 하나의 사용률을 한 번의 JDBC 배치로 저장 (호스트/시각이 같은 행은 덮어씀)
+    public void upsertAll(List<HostCpuUsageSample> samples) {
+        String sql = dialect() == AggregateDialect.H2 ? H2_UPSERT_SQL : MARIADB_UPSERT_SQL;
+        jdbcTemplate.batchUpdate(sql, samples, samples.size(), (ps, sample) -> {
+            ps.setString(1, sample.getHostId());
+            ps.setObject(2, sample.getTimestamp());
+            ps.setDouble(3, sample.getCpuUsage());
+        });
+    }
+
+    // 호스트의 구간 사용률 (시각 오름차순)
+    public List<CpuUsageRangePoint> findBetween(String hostId, LocalDateTime start, LocalDateTime end) {
+        return jdbcTemplate.query(SELECT_SQL, POINT_ROW_MAPPER, hostId, start, end);
+    }
+
+    // 호스트의 구간 사용률 시 단위 최소/최대/평균/합계/건수
+    public List<CpuUsageBucketStats> aggregateByHour(String hostId, LocalDateTime start, LocalDateTime end) {
+        String sql = String.format(AGGREGATE_SQL, dialect().getHourBucket());
+        return jdbcTemplate.query(sql, CpuUsageAggregateRepositoryImpl.HOUR_ROW_MAPPER, hostId, start, end);
+    }
+
+    /**
+     * 전체 호스트의 구간 사용률 (호스트, 시) 단위 최대/합계/건수 (호스트마다 조회하지 않고 한 번의 GROUP BY)
+     * @return 결과 행 수
+     */
+    public long forEachHostHour(LocalDateTime start, LocalDateTime end, HostHourConsumer consumer) {
+        String sql = String.format(FLEET_HOUR_SQL, dialect().getHourBucket());
+        long[] rows = new long[1];
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            consumer.accept(rs.getObject("bucket", LocalDateTime.class),
+                    rs.getDouble("max_usage"),
+                    rs.getDouble("sum_usage"),
+                    rs.getLong("sample_count"));
+            rows[0]++;
+        }, start, end);
+        return rows[0];
+    }
+
+    /**
+     * 전체 호스트의 구간 사용률 호스트 단위 최대/합계/건수 (GROUP BY host_id, 호스트당 1행)
+     * @return 결과 행 수 (호스트 수)
+     */
+    public long forEachHost(LocalDateTime start, LocalDateTime end, HostConsumer consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(FLEET_HOST_SQL, (RowCallbackHandler) rs -> {
+            consumer.accept(rs.getString("host_id"),
+                    rs.getDouble("max_usage"),
+                    rs.getDouble("sum_usage"),
+                    rs.getLong("sample_count"));
+            rows[0]++;
+        }, start, end);
+        return rows[0];
+    }
+
+    private AggregateDialect dialect() {
+        AggregateDialect current = dialect;
+        if (current == null) {
+            current = AggregateDialect.detect(dataSource);
+            dialect = current;
+        }
+        return current;
+    }
+
+    @FunctionalInterface
+    public interface HostHourConsumer {
+        void accept(LocalDateTime bucket, double maxUsage, double sumUsage, long sampleCount);
+    }
+
+    @FunctionalInterface
+    public interface HostConsumer {
+        void accept(String hostId, double maxUsage, double sumUsage, long sampleCount);
+    }
+}
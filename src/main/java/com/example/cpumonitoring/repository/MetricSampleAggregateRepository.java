@@ -0,0 +1,16 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.model.MetricBucketStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지표 이름별 시/일 단위 집계 (DB 에서 GROUP BY 로 처리)
+ */
+public interface MetricSampleAggregateRepository {
+
+    List<MetricBucketStats> aggregateByHour(String metric, LocalDateTime start, LocalDateTime end);
+
+    List<MetricBucketStats> aggregateByDay(String metric, LocalDateTime start, LocalDateTime end);
+}
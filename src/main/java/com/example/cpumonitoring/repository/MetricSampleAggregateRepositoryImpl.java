@@ -0,0 +1,61 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.model.MetricBucketStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MetricSampleAggregateRepositoryImpl implements MetricSampleAggregateRepository {
+    // (metric, timestamp) 인덱스 범위 스캔
+    private static final String AGGREGATE_SQL =
+            "SELECT %1$s AS bucket, MIN(metric_value) AS min_value, MAX(metric_value) AS max_value," +
+            " AVG(metric_value) AS average_value, COUNT(*) AS sample_count" +
+            " FROM metric_sample WHERE metric = ? AND timestamp BETWEEN ? AND ?" +
+            " GROUP BY %1$s ORDER BY bucket";
+
+    private static final RowMapper<MetricBucketStats> HOUR_ROW_MAPPER = (rs, rowNum) -> new MetricBucketStats(
+            rs.getObject("bucket", LocalDateTime.class),
+            rs.getDouble("min_value"),
+            rs.getDouble("max_value"),
+            rs.getDouble("average_value"),
+            rs.getLong("sample_count"));
+
+    private static final RowMapper<MetricBucketStats> DAY_ROW_MAPPER = (rs, rowNum) -> new MetricBucketStats(
+            rs.getObject("bucket", LocalDate.class).atStartOfDay(),
+            rs.getDouble("min_value"),
+            rs.getDouble("max_value"),
+            rs.getDouble("average_value"),
+            rs.getLong("sample_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    private volatile AggregateDialect dialect;
+
+    @Override
+    public List<MetricBucketStats> aggregateByHour(String metric, LocalDateTime start, LocalDateTime end) {
+        String sql = String.format(AGGREGATE_SQL, dialect().getHourBucket());
+        return jdbcTemplate.query(sql, HOUR_ROW_MAPPER, metric, start, end);
+    }
+
+    @Override
+    public List<MetricBucketStats> aggregateByDay(String metric, LocalDateTime start, LocalDateTime end) {
+        String sql = String.format(AGGREGATE_SQL, dialect().getDayBucket());
+        return jdbcTemplate.query(sql, DAY_ROW_MAPPER, metric, start, end);
+    }
+
+    private AggregateDialect dialect() {
+        AggregateDialect current = dialect;
+        if (current == null) {
+            current = AggregateDialect.detect(dataSource);
+            dialect = current;
+        }
+        return current;
+    }
+}
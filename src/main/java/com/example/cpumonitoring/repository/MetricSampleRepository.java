@@ -0,0 +1,7 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.MetricSample;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MetricSampleRepository extends JpaRepository<MetricSample, Long>, MetricSampleAggregateRepository {
+}
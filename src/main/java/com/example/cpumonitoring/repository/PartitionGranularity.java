@@ -0,0 +1,67 @@
+package com.example.cpumonitoring.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * cpu_monitoring 파티션 단위 (파티션 이름 : p + 시작 날짜, 일 단위 p20240527 / 월 단위 p202405)
+ */
+public enum PartitionGranularity {
+    DAY("yyyyMMdd"),
+    MONTH("yyyyMM");
+
+    private final String namePattern;
+    private final DateTimeFormatter nameFormatter;
+
+    PartitionGranularity(String namePattern) {
+        this.namePattern = namePattern;
+        this.nameFormatter = DateTimeFormatter.ofPattern(namePattern);
+    }
+
+    // 시각이 속한 파티션의 시작 시각
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        LocalDateTime startOfDay = timestamp.toLocalDate().atStartOfDay();
+        return this == DAY ? startOfDay : startOfDay.withDayOfMonth(1);
+    }
+
+    // 다음 파티션의 시작 시각 (= 이 파티션의 끝, 미포함)
+    public LocalDateTime next(LocalDateTime start) {
+        return this == DAY ? start.plusDays(1) : start.plusMonths(1);
+    }
+
+    // 시각이 속한 파티션
+    public CpuUsagePartition partitionOf(LocalDateTime timestamp) {
+        LocalDateTime start = truncate(timestamp);
+        return new CpuUsagePartition("p" + nameFormatter.format(start), start, next(start), 0);
+    }
+
+    /**
+     * 파티션 이름으로 범위 복원
+     * @param name 파티션 이름 (p20240527, p202405)
+     * @param estimatedRows 파티션의 대략적인 행 수
+     * @return 파티션 이름 형식이 아니면 null
+     */
+    public static CpuUsagePartition parse(String name, long estimatedRows) {
+        if (name.length() < 2 || name.charAt(0) != 'p') {
+            return null;
+        }
+        String digits = name.substring(1);
+        try {
+            for (PartitionGranularity granularity : values()) {
+                if (digits.length() != granularity.namePattern.length()) {
+                    continue;
+                }
+                LocalDateTime start = granularity == DAY
+                        ? LocalDate.parse(digits, granularity.nameFormatter).atStartOfDay()
+                        : YearMonth.parse(digits, granularity.nameFormatter).atDay(1).atStartOfDay();
+                return new CpuUsagePartition(name, start, granularity.next(start), estimatedRows);
+            }
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.cpumonitoring.repository;
+
+import com.example.cpumonitoring.entity.CoreUsagesConverter;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 기간 파티션으로 나눈 cpu_monitoring 접근 (파티션 저장 모드)
+ * - MariaDB : cpu_monitoring 을 TO_DAYS(timestamp) 기준 RANGE 파티션으로 나누고, 행 배치와 구간 조회 시 파티션 선택(pruning)은 DB 가 처리
+ * - H2 : 파티션마다 cpu_monitoring_p20240527 같은 테이블을 만들고, 저장/조회 시 구간과 겹치는 테이블로 직접 라우팅
+ * - 파티션 삭제는 행 단위 DELETE 없이 DROP PARTITION / DROP TABLE
+ */
+@Repository
+public class PartitionedCpuUsageRepository {
+    private static final String TABLE = "cpu_monitoring";
+    private static final String SEQUENCE = "cpu_monitoring_seq";
+    // CpuUsage 의 @SequenceGenerator allocationSize 와 동일 (시퀀스 값 1개당 id 50개)
+    private static final int ALLOCATION_SIZE = 50;
+    // MariaDB 에서 아직 만들지 않은 기간의 행을 받는 마지막 파티션
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private static final String COLUMNS = "id, cpu_usage, timestamp, min_usage, max_usage, sample_count, core_usages," +
+            " throttled_periods, throttled_usec, cpu_pressure";
+    private static final String INSERT_SQL = "INSERT INTO %s (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT " + COLUMNS + " FROM %s WHERE timestamp BETWEEN ? AND ? ORDER BY timestamp";
+    private static final String OLDEST_SQL = "SELECT MIN(timestamp) FROM %s";
+
+    private static final String H2_PARTITIONS_SQL =
+            "SELECT TABLE_NAME, ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES" +
+            " WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME LIKE 'CPU\\_MONITORING\\_P%' ESCAPE '\\'";
+    private static final String H2_CREATE_SQL = "CREATE TABLE IF NOT EXISTS %1$s AS SELECT * FROM " + TABLE + " WITH NO DATA";
+    private static final String H2_CREATE_INDEX_SQL = "CREATE INDEX IF NOT EXISTS idx_%1$s_timestamp ON %1$s (timestamp)";
+    private static final String H2_DROP_SQL = "DROP TABLE IF EXISTS %s";
+
+    private static final String MARIADB_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME, TABLE_ROWS FROM information_schema.PARTITIONS" +
+            " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + TABLE + "' AND PARTITION_NAME IS NOT NULL";
+    // 비어 있는 p_future 를 새 파티션과 p_future 로 나눔 (데이터 이동 없음)
+    private static final String MARIADB_CREATE_SQL = "ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION +
+            " INTO (PARTITION %s VALUES LESS THAN (TO_DAYS('%s')), PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)";
+    private static final String MARIADB_DROP_SQL = "ALTER TABLE " + TABLE + " DROP PARTITION %s";
+
+    private static final CoreUsagesConverter CORE_USAGES_CONVERTER = new CoreUsagesConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final int fetchSize;
+
+    private volatile AggregateDialect dialect;
+
+    // 시퀀스에서 받은 id 구간 [nextId, maxId]
+    private long nextId = 1;
+    private long maxId = 0;
+
+    public PartitionedCpuUsageRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                         @Value("${cpumonitoring.minute-stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 행을 파티션 테이블로 직접 라우팅해야 하는지 (H2)
+     * MariaDB 는 DB 가 파티션 키로 행을 배치하므로 파티션이 없어도 p_future 에 저장됨
+     */
+    public boolean routesByTable() {
+        return dialect() == AggregateDialect.H2;
+    }
+
+    // 현재 존재하는 파티션 (시작 시각 순)
+    public List<CpuUsagePartition> findPartitions() {
+        boolean h2 = dialect() == AggregateDialect.H2;
+        List<CpuUsagePartition> partitions = jdbcTemplate.query(h2 ? H2_PARTITIONS_SQL : MARIADB_PARTITIONS_SQL, (rs, rowNum) -> {
+            String name = rs.getString(1);
+            String partitionName = h2 ? name.substring(TABLE.length() + 1).toLowerCase() : name;
+            return PartitionGranularity.parse(partitionName, rs.getLong(2));
+        });
+        return partitions.stream()
+                .filter(Objects::nonNull)
+                .sorted((a, b) -> a.getStart().compareTo(b.getStart()))
+                .toList();
+    }
+
+    /**
+     * 파티션 생성 (DDL, 진행 중인 트랜잭션이 있으면 커밋됨)
+     * MariaDB 는 마지막 파티션 다음 기간에만 만들 수 있음
+     */
+    public void createPartition(CpuUsagePartition partition) {
+        if (dialect() == AggregateDialect.H2) {
+            String table = tableOf(partition);
+            jdbcTemplate.execute(String.format(H2_CREATE_SQL, table));
+            jdbcTemplate.execute(String.format(H2_CREATE_INDEX_SQL, table));
+        } else {
+            jdbcTemplate.execute(String.format(MARIADB_CREATE_SQL, partition.getName(), partition.getEnd().toLocalDate()));
+        }
+    }
+
+    // 파티션 삭제 : 행 수와 무관하게 파일/메타데이터만 제거
+    public void dropPartition(CpuUsagePartition partition) {
+        if (dialect() == AggregateDialect.H2) {
+            jdbcTemplate.execute(String.format(H2_DROP_SQL, tableOf(partition)));
+        } else {
+            jdbcTemplate.execute(String.format(MARIADB_DROP_SQL, partition.getName()));
+        }
+    }
+
+    // 한 파티션에 속한 행을 JDBC 배치 insert (id 는 cpu_monitoring_seq 에서 할당)
+    public void insertAll(CpuUsagePartition partition, List<CpuUsage> cpuUsages) {
+        for (CpuUsage cpuUsage : cpuUsages) {
+            cpuUsage.assignId(allocateId());
+        }
+        String table = dialect() == AggregateDialect.H2 ? tableOf(partition) : TABLE;
+        jdbcTemplate.batchUpdate(String.format(INSERT_SQL, table), cpuUsages, cpuUsages.size(), (ps, cpuUsage) -> {
+            ps.setLong(1, cpuUsage.getId());
+            ps.setDouble(2, cpuUsage.getCpuUsage());
+            ps.setObject(3, cpuUsage.getTimestamp());
+            ps.setObject(4, cpuUsage.getMinUsage(), Types.DOUBLE);
+            ps.setObject(5, cpuUsage.getMaxUsage(), Types.DOUBLE);
+            ps.setObject(6, cpuUsage.getSampleCount(), Types.INTEGER);
+            ps.setString(7, CORE_USAGES_CONVERTER.convertToDatabaseColumn(cpuUsage.getCoreUsages()));
+            ps.setObject(8, cpuUsage.getThrottledPeriods(), Types.BIGINT);
+            ps.setObject(9, cpuUsage.getThrottledUsec(), Types.BIGINT);
+            ps.setObject(10, cpuUsage.getCpuPressure(), Types.DOUBLE);
+        });
+    }
+
+    // 구간과 겹치는 파티션만 시각 순으로 조회
+    public List<CpuUsage> findBetween(List<CpuUsagePartition> partitions, LocalDateTime start, LocalDateTime end) {
+        List<CpuUsage> cpuUsages = new ArrayList<>();
+        for (String table : tablesOf(partitions)) {
+            cpuUsages.addAll(jdbcTemplate.query(String.format(SELECT_SQL, table),
+                    CpuUsageStreamingRepositoryImpl.ROW_MAPPER, start, end));
+        }
+        return cpuUsages;
+    }
+
+    // 파티션마다 forward-only 커서로 차례대로 읽음 (앞 파티션을 다 읽은 뒤 다음 파티션 조회)
+    public Stream<CpuUsage> streamBetween(List<CpuUsagePartition> partitions, LocalDateTime start, LocalDateTime end) {
+        return tablesOf(partitions).stream().flatMap(table -> jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    String.format(SELECT_SQL, table), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, start);
+            statement.setObject(2, end);
+            return statement;
+        }, CpuUsageStreamingRepositoryImpl.ROW_MAPPER));
+    }
+
+    // 오래된 파티션부터 확인해 첫 번째로 데이터가 있는 파티션의 최소 시각
+    public Optional<LocalDateTime> findOldestTimestamp(List<CpuUsagePartition> partitions) {
+        for (String table : tablesOf(partitions)) {
+            LocalDateTime oldest = jdbcTemplate.queryForObject(String.format(OLDEST_SQL, table), LocalDateTime.class);
+            if (oldest != null) {
+                return Optional.of(oldest);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 시 단위 버킷은 파티션 경계(일/월)를 넘지 않으므로 파티션별 결과를 이어 붙임
+    public List<CpuUsageBucketStats> aggregateByHour(List<CpuUsagePartition> partitions, LocalDateTime start, LocalDateTime end) {
+        List<CpuUsageBucketStats> stats = new ArrayList<>();
+        for (String table : tablesOf(partitions)) {
+            String sql = String.format(CpuUsageAggregateRepositoryImpl.AGGREGATE_SQL, dialect().getHourBucket(), table);
+            List<CpuUsageBucketStats> partitionStats = jdbcTemplate.query(sql, CpuUsageAggregateRepositoryImpl.HOUR_ROW_MAPPER, start, end);
+            CpuUsageAggregateRepositoryImpl.attachHourHistograms(jdbcTemplate,
+                    String.format(CpuUsageAggregateRepositoryImpl.HISTOGRAM_SQL, dialect().getHourBucket(), table),
+                    partitionStats, start, end);
+            stats.addAll(partitionStats);
+        }
+        return stats;
+    }
+
+    // H2 는 파티션별 테이블, MariaDB 는 파티션 테이블 하나 (WHERE 조건으로 DB 가 파티션 선택)
+    private List<String> tablesOf(List<CpuUsagePartition> partitions) {
+        if (dialect() == AggregateDialect.H2) {
+            return partitions.stream().map(PartitionedCpuUsageRepository::tableOf).toList();
+        }
+        return List.of(TABLE);
+    }
+
+    private static String tableOf(CpuUsagePartition partition) {
+        return TABLE + "_" + partition.getName();
+    }
+
+    // Hibernate pooled 최적화와 같은 방식 : 시퀀스 값 v 로 (v - 50, v] 구간 사용
+    private synchronized long allocateId() {
+        if (nextId > maxId) {
+            Long value = jdbcTemplate.queryForObject(dialect().getSequenceNextValue(SEQUENCE), Long.class);
+            maxId = Objects.requireNonNull(value);
+            nextId = Math.max(maxId - ALLOCATION_SIZE + 1, 1);
+        }
+        return nextId++;
+    }
+
+    private AggregateDialect dialect() {
+        AggregateDialect current = dialect;
+        if (current == null) {
+            current = AggregateDialect.detect(dataSource);
+            dialect = current;
+        }
+        return current;
+    }
+}
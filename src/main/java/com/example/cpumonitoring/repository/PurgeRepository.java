@@ -0,0 +1,46 @@
+package com.example.cpumonitoring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * 보관 기한이 지난 행을 정해진 건수씩 나눠 삭제
+ * - 시각 컬럼 인덱스 범위로 한 번에 chunkSize 건만 삭제하고 문장마다 커밋 (잠금 시간, undo log 최소화)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurgeRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    private volatile AggregateDialect dialect;
+
+    /**
+     * @param target 삭제할 테이블
+     * @param cutoff 이 시각(날짜) 이전 행 삭제
+     * @param chunkSize 한 문장에서 삭제할 최대 건수
+     * @return 삭제한 전체 건수
+     */
+    public long deleteBefore(PurgeTarget target, Object cutoff, int chunkSize) {
+        String sql = dialect().getDeleteChunk(target.getTable(), target.getColumn());
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, cutoff, chunkSize);
+            purged += deleted;
+        } while (deleted == chunkSize);
+        return purged;
+    }
+
+    private AggregateDialect dialect() {
+        AggregateDialect current = dialect;
+        if (current == null) {
+            current = AggregateDialect.detect(dataSource);
+            dialect = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cpumonitoring.repository;
+
+/**
+ * 보관 기한이 지난 행을 삭제하는 테이블과 기준 시각 컬럼
+ */
+public enum PurgeTarget {
+    CPU_USAGE("cpu_monitoring", "timestamp"),
+    CPU_USAGE_HOUR("cpu_monitoring_hour", "bucket"),
+    CPU_USAGE_DAY("cpu_monitoring_day", "bucket"),
+    METRIC_SAMPLE("metric_sample", "timestamp"),
+    HOST_CPU_USAGE("host_cpu_usage", "timestamp");
+
+    private final String table;
+    private final String column;
+
+    PurgeTarget(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -1,34 +1,72 @@
 package com.example.cpumonitoring.service;
 
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.component.CpuUsageBucketAggregator;
+import com.example.cpumonitoring.component.CpuUsageDownsampler;
+import com.example.cpumonitoring.component.CpuUsageRingBuffer;
+import com.example.cpumonitoring.component.CpuUsageStatsCache;
+import com.example.cpumonitoring.component.LttbDownsampler;
+import com.example.cpumonitoring.component.StatsBucketCache;
+import com.example.cpumonitoring.component.StepDownsampler;
 import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import com.example.cpumonitoring.entity.CpuUsageRollup;
 import com.example.cpumonitoring.exception.InvalidDateTimeRangeException;
+import com.example.cpumonitoring.exception.InvalidRangeParameterException;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
 import com.example.cpumonitoring.model.CpuUsageDateResponse;
 import com.example.cpumonitoring.model.CpuUsageMinuteResponse;
 import com.example.cpumonitoring.model.CpuUsageHourResponse;
+import com.example.cpumonitoring.model.CpuUsageRangeResponse;
 import com.example.cpumonitoring.model.CpuUsageStats;
-import com.example.cpumonitoring.repository.CpuUsageRepository;
+import com.example.cpumonitoring.model.CpuUsageSummaryResponse;
+import com.example.cpumonitoring.model.DownsampleMode;
+import com.example.cpumonitoring.repository.CpuUsageDayRepository;
+import com.example.cpumonitoring.repository.CpuUsageHourRepository;
+import com.example.cpumonitoring.storage.CpuUsageStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
-import java.util.DoubleSummaryStatistics;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CpuMonitoringService {
-    private final CpuUsageRepository cpuUsageRepository;
+    // 구간 조회 step 약식 표기 (예: 30s, 5m, 15m, 1h, 1d)
+    private static final Pattern SHORT_STEP = Pattern.compile("(\\d+)([smhd])");
+    private static final Duration MIN_STEP = Duration.ofMinutes(1);
+
+    private final CpuUsageStore cpuUsageStore;
+    private final CpuUsageHourRepository cpuUsageHourRepository;
+    private final CpuUsageDayRepository cpuUsageDayRepository;
+    private final CpuUsageRingBuffer cpuUsageRingBuffer;
+    private final CpuUsageStatsCache cpuUsageStatsCache;
+    private final CpuMonitoringMetrics cpuMonitoringMetrics;
 
     /**
      * 지정한 시간 구간의 분 단위 CPU 사용률 조회
@@ -37,6 +75,29 @@ public class CpuMonitoringService {
      * @return 사용률 List
      */
     public CpuUsageMinuteResponse getCpuUsageByMinute(LocalDateTime startTime, LocalDateTime endTime) {
+        startTime = adjustMinuteRange(startTime, endTime);
+
+        // 최근 데이터는 메모리 링 버퍼에서 응답, 버퍼 보관 범위 밖인 경우에만 DB 조회
+        List<CpuUsage> cpuUsages = cpuUsageRingBuffer.findBetween(startTime, endTime);
+        if (cpuUsages == null) {
+            LocalDateTime from = startTime;
+            cpuUsages = cpuMonitoringMetrics.timeQuery("minute", () -> cpuUsageStore.findBetween(from, endTime));
+        }
+
+        return new CpuUsageMinuteResponse(cpuUsages, startTime, endTime);
+    }
+
+    /**
+     * 분 단위 조회 구간 검증 및 제공 기한에 맞춘 시작 시각 조절
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     * @return 조절된 시작 시각
+     */
+    public LocalDateTime adjustMinuteRange(LocalDateTime startTime, LocalDateTime endTime) {
+        return adjustMinuteStart(startTime, endTime);
+    }
+
+    static LocalDateTime adjustMinuteStart(LocalDateTime startTime, LocalDateTime endTime) {
         // 시작 시간이 종료 시간보다 뒷 시간인 경우
         if (startTime.isAfter(endTime)) {
             throw new InvalidDateTimeRangeException();
@@ -49,11 +110,109 @@ public class CpuMonitoringService {
         LocalDateTime providedLimit = LocalDateTime.now().minusWeeks(1).with(LocalTime.MIN);
 
         // 구간이 기한 초과시 자동 조절
-        startTime = startTime.isBefore(providedLimit) ? providedLimit : startTime;
+        return startTime.isBefore(providedLimit) ? providedLimit : startTime;
+    }
 
-        List<CpuUsage> cpuUsages = cpuUsageRepository.findByTimestampBetween(startTime, endTime);
+    /**
+     * 분 단위 CPU 사용률을 한 건씩 전달 (스트리밍 응답용)
+     * - 링 버퍼 범위 밖이면 전체 List 를 만들지 않고 저장소(DB 커서, 세그먼트 블록)에서 읽는 즉시 전달
+     * @param startTime 구간 시작 시각 (adjustMinuteRange 로 조절된 값)
+     * @param endTime 구간 끝 시각
+     * @param action 사용률 한 건을 처리할 콜백
+     */
+    @Transactional(readOnly = true)
+    public void forEachCpuUsageByMinute(LocalDateTime startTime, LocalDateTime endTime, Consumer<CpuUsage> action) {
+        List<CpuUsage> buffered = cpuUsageRingBuffer.findBetween(startTime, endTime);
+        if (buffered != null) {
+            buffered.forEach(action);
+            return;
+        }
+        // 조회 시간에는 행마다 호출하는 콜백(응답 기록, 축소) 시간이 포함됨
+        long start = System.nanoTime();
+        long[] rows = new long[1];
+        try (Stream<CpuUsage> cpuUsages = cpuUsageStore.streamBetween(startTime, endTime)) {
+            cpuUsages.forEach(cpuUsage -> {
+                rows[0]++;
+                action.accept(cpuUsage);
+            });
+        }
+        cpuMonitoringMetrics.recordQuery("minute.stream", System.nanoTime() - start, rows[0]);
+    }
 
-        return new CpuUsageMinuteResponse(cpuUsages, startTime, endTime);
+    /**
+     * 지정한 시간 구간의 CPU 사용률을 임의 간격(step) 또는 최대 포인트 수(maxPoints)로 축소해 조회
+     * - 분 단위 데이터를 시간 순으로 한 번만 순회하며 축소 (조회 결과 전체를 List 로 만들지 않음)
+     * - AVERAGE : step 간격 버킷별 최소/최대/평균, step 이 없으면 maxPoints 개 이하가 되는 분 단위 간격 사용
+     * - LTTB : 급등/급락 지점을 보존하면서 maxPoints 개 이하로 축소 (step 은 사용할 수 없음)
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     * @param step 버킷 간격 (5m, 1h 또는 ISO-8601 PT5M)
+     * @param maxPoints 최대 포인트 수
+     * @param mode 축소 방식
+     * @return 축소한 사용률 List
+     */
+    @Transactional(readOnly = true)
+    public CpuUsageRangeResponse getCpuUsageRange(LocalDateTime startTime, LocalDateTime endTime,
+                                                  String step, Integer maxPoints, DownsampleMode mode) {
+        startTime = adjustMinuteRange(startTime, endTime);
+
+        CpuUsageDownsampler downsampler;
+        Duration stepDuration = null;
+        if (mode == DownsampleMode.LTTB) {
+            if (step != null) {
+                throw new InvalidRangeParameterException("step cannot be used with LTTB mode, use maxPoints instead.");
+            }
+            if (maxPoints == null || maxPoints < 3) {
+                throw new InvalidRangeParameterException("maxPoints of at least 3 is required for LTTB mode.");
+            }
+            downsampler = new LttbDownsampler(startTime, endTime, maxPoints);
+        } else {
+            stepDuration = resolveStep(startTime, endTime, step, maxPoints);
+            downsampler = new StepDownsampler(stepDuration);
+        }
+
+        forEachCpuUsageByMinute(startTime, endTime, downsampler);
+
+        return new CpuUsageRangeResponse(cpuMonitoringMetrics.timeStage("range.finish", downsampler::finish),
+                startTime, endTime, mode, stepDuration,
+                mode == DownsampleMode.LTTB ? maxPoints : null);
+    }
+
+    // step 이 있으면 그대로, 없으면 구간을 maxPoints 개 이하로 나누는 분 단위 간격 (최소 1분)
+    // - 버킷 경계를 step 배수 시각에 맞추면 양 끝이 잘려 버킷이 1개 늘 수 있으므로 (maxPoints - 1)개로 나눔
+    static Duration resolveStep(LocalDateTime startTime, LocalDateTime endTime, String step, Integer maxPoints) {
+        if (step != null) {
+            Duration parsed = parseStep(step);
+            if (parsed.compareTo(MIN_STEP) < 0) {
+                throw new InvalidRangeParameterException("step must be at least 1 minute.");
+            }
+            return parsed;
+        }
+        if (maxPoints == null || maxPoints < 1) {
+            throw new InvalidRangeParameterException("step or maxPoints is required.");
+        }
+        long rangeMinutes = Duration.between(startTime, endTime).toMinutes() + 1;
+        long divisor = Math.max(1, maxPoints - 1);
+        long stepMinutes = Math.max(1, (rangeMinutes + divisor - 1) / divisor);
+        return Duration.ofMinutes(stepMinutes);
+    }
+
+    static Duration parseStep(String step) {
+        Matcher matcher = SHORT_STEP.matcher(step.trim());
+        try {
+            if (!matcher.matches()) {
+                return Duration.parse(step.trim());
+            }
+            long amount = Long.parseLong(matcher.group(1));
+            return switch (matcher.group(2)) {
+                case "s" -> Duration.ofSeconds(amount);
+                case "m" -> Duration.ofMinutes(amount);
+                case "h" -> Duration.ofHours(amount);
+                default -> Duration.ofDays(amount);
+            };
+        } catch (RuntimeException e) {
+            throw new InvalidRangeParameterException("Invalid parameter: step");
+        }
     }
 
     /**
@@ -69,20 +228,17 @@ public class CpuMonitoringService {
         LocalDateTime startOfDay = adjustedStartDate.atStartOfDay();
         LocalDateTime endOfDay = endDate.atTime(LocalTime.MAX);
 
-        List<CpuUsage> cpuUsages = cpuUsageRepository.findByTimestampBetween(startOfDay, endOfDay);
-
-        Map<LocalDateTime, CpuUsageStats> returnCpuUsages = cpuUsages.stream()
-                .collect(Collectors.groupingBy(
-                        usage -> usage.getTimestamp()
-                                .withMinute(0)
-                                .withSecond(0)
-                                .withNano(0),
-                        TreeMap::new, // 시간 오름차순 정렬
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                this::calculateUsageStats
-                        )
-                ));
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime bucket = startOfDay; bucket.isBefore(endOfDay); bucket = bucket.plusHours(1)) {
+            buckets.add(bucket);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 캐시에 없는 버킷만 시 단위 집계 테이블에서 조회 (버킷당 1건)
+        Map<LocalDateTime, CpuUsageStats> returnCpuUsages = loadBuckets("hour", buckets, cpuUsageStatsCache.hours(),
+                bucket -> cpuUsageStatsCache.isClosedHour(bucket, now),
+                (from, to) -> cpuUsageHourRepository.findByBucketBetweenOrderByBucket(from, to),
+                CpuUsageHour::getBucket);
         return new CpuUsageHourResponse(returnCpuUsages, adjustedStartDate,endDate);
     }
 
@@ -96,25 +252,108 @@ public class CpuMonitoringService {
         validateDateRange(startDate, endDate);
         LocalDate adjustedStartDate = adjustDate(startDate, 1, ChronoUnit.YEARS);
 
-        List<CpuUsage> cpuUsages = cpuUsageRepository.findByTimestampBetween(
-                adjustedStartDate.atStartOfDay(),
-                endDate.plusDays(1).atStartOfDay().minusNanos(1)
-        );
-
-        Map<LocalDate, CpuUsageStats> returnCpuUsages = cpuUsages.stream()
-                .collect(Collectors.groupingBy(
-                        usage -> usage.getTimestamp().toLocalDate(),
-                        TreeMap::new, // 날짜 정렬
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                this::calculateUsageStats
-                        )
-                ));
+        List<LocalDate> buckets = adjustedStartDate.isAfter(endDate)
+                ? List.of() : adjustedStartDate.datesUntil(endDate.plusDays(1)).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 캐시에 없는 버킷만 일 단위 집계 테이블에서 조회 (버킷당 1건)
+        Map<LocalDate, CpuUsageStats> returnCpuUsages = loadBuckets("day", buckets, cpuUsageStatsCache.days(),
+                bucket -> cpuUsageStatsCache.isClosedDay(bucket, now),
+                (from, to) -> cpuUsageDayRepository.findByBucketBetweenOrderByBucket(from, to),
+                CpuUsageDay::getBucket);
 
         return new CpuUsageDateResponse(returnCpuUsages, adjustedStartDate, endDate);
     }
 
-    private static void validateDateRange(LocalDate startDate, LocalDate endDate) {
+    /**
+     * 지정한 구간 전체의 CPU 사용률 최소/최대/평균/백분위수(p50, p95, p99) 조회
+     * - 일 단위 집계의 합계와 사용률 분포를 병합하므로 원본 분 단위 데이터를 다시 읽지 않음
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @return 구간 요약 통계
+     */
+    @Transactional(readOnly = true)
+    public CpuUsageSummaryResponse getCpuUsageSummary(LocalDate startDate, LocalDate endDate) {
+        validateDateRange(startDate, endDate);
+        LocalDate adjustedStartDate = adjustDate(startDate, 1, ChronoUnit.YEARS);
+
+        // 구간 길이 폭의 버킷(폭 배수 경계에 따라 최대 2개)에 일 단위 집계를 병합 후 하나로 합침
+        List<CpuUsageDay> days = cpuMonitoringMetrics.timeQuery("summary",
+                () -> cpuUsageDayRepository.findByBucketBetweenOrderByBucket(adjustedStartDate, endDate));
+        Duration rangeWidth = Duration.ofDays(Math.max(1, ChronoUnit.DAYS.between(adjustedStartDate, endDate) + 1));
+        CpuUsageBucketAggregator aggregator = new CpuUsageBucketAggregator(
+                adjustedStartDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), rangeWidth, true);
+        CpuUsageBucketStats total = cpuMonitoringMetrics.timeStage("summary.merge", () -> {
+            for (CpuUsageDay day : days) {
+                aggregator.merge(day.getBucket().atStartOfDay().toEpochSecond(ZoneOffset.UTC), day.getMinUsage(),
+                        day.getMaxUsage(), day.getSumUsage(), day.getSampleCount(), day.getHistogram());
+            }
+            return aggregator.total();
+        });
+
+        if (total == null) {
+            return new CpuUsageSummaryResponse(null, 0, adjustedStartDate, endDate);
+        }
+        CpuUsageStats stats = CpuUsageStats.of(total.getMinUsage(), total.getMaxUsage(), total.getSumUsage(),
+                total.getSampleCount(), total.getHistogram());
+        return new CpuUsageSummaryResponse(stats, total.getSampleCount(), adjustedStartDate, endDate);
+    }
+
+    /**
+     * 캐시에 있는 버킷은 캐시에서, 나머지는 저장소에서 조회해 시간 순으로 합침
+     * - 캐시에 없는 첫 버킷 ~ 마지막 버킷 구간을 한 번에 조회
+     * - 조회한 버킷 중 끝난 버킷은 데이터가 없는 경우까지 캐시 (다른 구간 요청과 버킷 단위로 공유)
+     * - 저장소 조회 중 제거된 버킷은 캐시하지 않음 (StatsBucketCache 세대 비교)
+     * - 캐시 조회(name.cache), 저장소 조회(query 태그 name), 통계 변환(name.stats) 시간을 따로 기록
+     * @param name 지표 태그 이름 (hour, day)
+     * @param buckets 요청 구간의 전체 버킷 (오름차순)
+     * @param cache 버킷 캐시
+     * @param closed 더 이상 바뀌지 않는 버킷인지 판단
+     * @param loader 구간 [from, to] 버킷의 집계 조회
+     * @param bucketOf 집계의 버킷
+     * @return 데이터가 있는 버킷의 통계 (오름차순)
+     */
+    private <K extends Comparable<? super K>, R extends CpuUsageRollup> Map<K, CpuUsageStats> loadBuckets(
+            String name, List<K> buckets, StatsBucketCache<K> cache, Predicate<K> closed,
+            BiFunction<K, K, List<R>> loader, Function<R, K> bucketOf) {
+        Map<K, Optional<CpuUsageStats>> cached = cpuMonitoringMetrics.timeStage(name + ".cache",
+                () -> cache.getAll(buckets));
+        Map<K, CpuUsageStats> stats = new TreeMap<>();
+        K firstMissing = null;
+        K lastMissing = null;
+        for (K bucket : buckets) {
+            Optional<CpuUsageStats> cachedStats = cached.get(bucket);
+            if (cachedStats == null) {
+                firstMissing = firstMissing == null ? bucket : firstMissing;
+                lastMissing = bucket;
+            } else {
+                cachedStats.ifPresent(value -> stats.put(bucket, value));
+            }
+        }
+        if (firstMissing == null) {
+            return stats;
+        }
+
+        K from = firstMissing;
+        K to = lastMissing;
+        // 조회 후 저장 전에 늦게 저장된 배치로 제거된 버킷은 캐시하지 않도록 조회 전 세대 기록
+        long generation = cache.generation();
+        List<R> rollups = cpuMonitoringMetrics.timeQuery(name, () -> loader.apply(from, to));
+        Map<K, CpuUsageStats> loaded = cpuMonitoringMetrics.timeStage(name + ".stats", () -> rollups.stream()
+                .collect(Collectors.toMap(bucketOf, CpuUsageRollup::toStats, (first, second) -> first)));
+        stats.putAll(loaded);
+
+        Map<K, Optional<CpuUsageStats>> closedStats = new HashMap<>();
+        for (K bucket : buckets) {
+            if (bucket.compareTo(firstMissing) >= 0 && bucket.compareTo(lastMissing) <= 0 && closed.test(bucket)) {
+                closedStats.put(bucket, Optional.ofNullable(loaded.get(bucket)));
+            }
+        }
+        cache.putAll(closedStats, generation);
+        return stats;
+    }
+
+    static void validateDateRange(LocalDate startDate, LocalDate endDate) {
         // 시작 날짜가 종료 날짜보다 뒤인 경우
         if (startDate.isAfter(endDate)) {
             throw new InvalidDateTimeRangeException();
@@ -134,15 +373,4 @@ public class CpuMonitoringService {
         return date;
     }
 
-    // 구간 CPU 사용률 List 의 최소, 최대, 평균값 구하는 메서드
-    private CpuUsageStats calculateUsageStats(List<CpuUsage> usageList) {
-        DoubleSummaryStatistics stats = usageList.stream()
-                .mapToDouble(usage -> usage.getCpuUsage())
-                .summaryStatistics();
-        double minUsage = stats.getMin();
-        double maxUsage = stats.getMax();
-        double averageUsage = Math.round(stats.getAverage() * 100.0) / 100.0;
-        return new CpuUsageStats(minUsage, maxUsage, averageUsage);
-    }
-
 }
\ No newline at end of file
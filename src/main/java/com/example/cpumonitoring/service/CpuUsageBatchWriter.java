@@ -0,0 +1,35 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CpuUsageBatchWriter {
+    private final CpuUsageStore cpuUsageStore;
+    private final CpuUsageRollupService cpuUsageRollupService;
+    private final CpuMonitoringMetrics cpuMonitoringMetrics;
+
+    /**
+     * 모아둔 사용률을 한 트랜잭션으로 저장
+     * - 시퀀스 id 로 insert 가 JDBC 배치로 묶임 (hibernate.jdbc.batch_size)
+     * @param batch 저장할 사용률
+     */
+    public void writeBatch(List<CpuUsage> batch) {
+        // 시 단위/일 단위 집계 갱신
+        cpuMonitoringMetrics.timeStage("rollup", () -> cpuUsageRollupService.accumulateAll(batch));
+        // 트랜잭션 밖 저장소(embedded)도 저장 실패 시 집계가 롤백되도록 마지막에 저장
+        long start = System.nanoTime();
+        cpuUsageStore.saveAll(batch);
+        cpuMonitoringMetrics.recordSave(System.nanoTime() - start, batch.size());
+    }
+}
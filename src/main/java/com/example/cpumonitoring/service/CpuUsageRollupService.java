@@ -0,0 +1,179 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.CpuUsageChangeTracker;
+import com.example.cpumonitoring.component.CpuUsageStatsCache;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.repository.CpuUsageDayRepository;
+import com.example.cpumonitoring.repository.CpuUsageHourRepository;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CpuUsageRollupService {
+    private final CpuUsageStore cpuUsageStore;
+    private final CpuUsageHourRepository cpuUsageHourRepository;
+    private final CpuUsageDayRepository cpuUsageDayRepository;
+    private final CpuUsageStatsCache cpuUsageStatsCache;
+    private final CpuUsageChangeTracker cpuUsageChangeTracker;
+
+    /**
+     * 저장된 사용률들을 시 단위/일 단위 집계에 반영
+     * - 배치 안에서 버킷별로 먼저 합친 뒤 버킷당 1번만 조회/저장
+     * @param usages 저장된 CPU 사용률
+     */
+    public void accumulateAll(List<CpuUsage> usages) {
+        Map<LocalDateTime, CpuUsageHour> hourDeltas = new TreeMap<>();
+        Map<LocalDate, CpuUsageDay> dayDeltas = new TreeMap<>();
+        for (CpuUsage usage : usages) {
+            LocalDateTime hour = usage.getTimestamp().truncatedTo(ChronoUnit.HOURS);
+            // 고빈도 수집 모드의 분 단위 최소/최대가 있으면 버킷 최소/최대에 반영 (평균은 분 평균 기준)
+            double min = usage.getMinUsage() != null ? usage.getMinUsage() : usage.getCpuUsage();
+            double max = usage.getMaxUsage() != null ? usage.getMaxUsage() : usage.getCpuUsage();
+            CpuUsageHour hourDelta = hourDeltas.computeIfAbsent(hour, CpuUsageHour::new);
+            hourDelta.merge(min, max, usage.getCpuUsage(), 1);
+            hourDelta.addToHistogram(usage.getCpuUsage());
+            CpuUsageDay dayDelta = dayDeltas.computeIfAbsent(hour.toLocalDate(), CpuUsageDay::new);
+            dayDelta.merge(min, max, usage.getCpuUsage(), 1);
+            dayDelta.addToHistogram(usage.getCpuUsage());
+        }
+
+        hourDeltas.forEach((hour, delta) -> {
+            CpuUsageHour hourRollup = cpuUsageHourRepository.findById(hour)
+                    .orElseGet(() -> new CpuUsageHour(hour));
+            hourRollup.merge(delta.getMinUsage(), delta.getMaxUsage(), delta.getSumUsage(), delta.getSampleCount());
+            hourRollup.mergeHistogram(delta.getHistogram());
+            cpuUsageHourRepository.save(hourRollup);
+        });
+        dayDeltas.forEach((day, delta) -> {
+            CpuUsageDay dayRollup = cpuUsageDayRepository.findById(day)
+                    .orElseGet(() -> new CpuUsageDay(day));
+            dayRollup.merge(delta.getMinUsage(), delta.getMaxUsage(), delta.getSumUsage(), delta.getSampleCount());
+            dayRollup.mergeHistogram(delta.getHistogram());
+            cpuUsageDayRepository.save(dayRollup);
+        });
+        // 늦게 저장된 데이터로 끝난 버킷이 바뀐 경우 캐시에서 제거, 조건부 GET 검증값 갱신 (커밋 후)
+        LocalDateTime earliestTimestamp = usages.stream().map(CpuUsage::getTimestamp).min(LocalDateTime::compareTo).orElse(null);
+        LocalDateTime latestTimestamp = usages.stream().map(CpuUsage::getTimestamp).max(LocalDateTime::compareTo).orElse(null);
+        afterCommit(() -> {
+            cpuUsageStatsCache.hours().evictAll(hourDeltas.keySet());
+            cpuUsageStatsCache.days().evictAll(dayDeltas.keySet());
+            if (latestTimestamp != null) {
+                cpuUsageChangeTracker.samplesStored(earliestTimestamp, latestTimestamp);
+            }
+        });
+    }
+
+    /**
+     * 특정 날짜의 시 단위/일 단위 집계를 원본 데이터로 다시 계산
+     * @param date 다시 계산할 날짜
+     * @return 반영된 원본 데이터 수
+     */
+    public long rebuildDay(LocalDate date) {
+        // 저장소에서 시 단위로 그룹핑해 최대 24건만 조회
+        List<CpuUsageBucketStats> hourStats = cpuUsageStore.aggregateByHour(
+                date.atStartOfDay(), date.atTime(LocalTime.MAX));
+        if (hourStats.isEmpty()) {
+            return 0;
+        }
+
+        List<CpuUsageHour> hourRollups = new ArrayList<>(hourStats.size());
+        CpuUsageDay dayRollup = new CpuUsageDay(date);
+        for (CpuUsageBucketStats stats : hourStats) {
+            CpuUsageHour hourRollup = new CpuUsageHour(stats.getBucket());
+            hourRollup.merge(stats.getMinUsage(), stats.getMaxUsage(), stats.getSumUsage(), stats.getSampleCount());
+            hourRollup.mergeHistogram(stats.getHistogram());
+            hourRollups.add(hourRollup);
+            dayRollup.merge(stats.getMinUsage(), stats.getMaxUsage(), stats.getSumUsage(), stats.getSampleCount());
+            dayRollup.mergeHistogram(stats.getHistogram());
+        }
+
+        cpuUsageHourRepository.saveAll(hourRollups);
+        cpuUsageDayRepository.save(dayRollup);
+        afterCommit(() -> {
+            cpuUsageStatsCache.evictDay(date);
+            cpuUsageChangeTracker.changed();
+        });
+        return dayRollup.getSampleCount();
+    }
+
+    /**
+     * 특정 날짜의 일 단위 집계가 없으면 시 단위 집계를 합쳐 생성 (시 단위 집계 삭제 전 보존용)
+     * @param date 대상 날짜
+     */
+    public void rollupDayFromHours(LocalDate date) {
+        if (cpuUsageDayRepository.existsById(date)) {
+            return;
+        }
+        List<CpuUsageHour> hourRollups = cpuUsageHourRepository.findByBucketBetweenOrderByBucket(
+                date.atStartOfDay(), date.atTime(LocalTime.MAX));
+        if (hourRollups.isEmpty()) {
+            return;
+        }
+        CpuUsageDay dayRollup = new CpuUsageDay(date);
+        for (CpuUsageHour hourRollup : hourRollups) {
+            dayRollup.merge(hourRollup.getMinUsage(), hourRollup.getMaxUsage(), hourRollup.getSumUsage(), hourRollup.getSampleCount());
+            dayRollup.mergeHistogram(hourRollup.getHistogram());
+        }
+        cpuUsageDayRepository.save(dayRollup);
+        afterCommit(() -> {
+            cpuUsageStatsCache.evictDay(date);
+            cpuUsageChangeTracker.changed();
+        });
+    }
+
+    // 일 단위 집계가 이미 존재하는지 확인
+    @Transactional(readOnly = true)
+    public boolean hasDayRollup(LocalDate date) {
+        return cpuUsageDayRepository.existsById(date);
+    }
+
+    // 가장 오래된 시 단위 집계의 날짜
+    @Transactional(readOnly = true)
+    public LocalDate findOldestHourRollupDate() {
+        return cpuUsageHourRepository.findFirstByOrderByBucketAsc()
+                .map(hourRollup -> hourRollup.getBucket().toLocalDate())
+                .orElse(null);
+    }
+
+    // 가장 오래된 원본 데이터의 날짜
+    @Transactional(readOnly = true)
+    public LocalDate findOldestSampleDate() {
+        return cpuUsageStore.findOldestTimestamp()
+                .map(LocalDateTime::toLocalDate)
+                .orElse(null);
+    }
+
+    // 트랜잭션 안이면 커밋 후, 아니면 바로 실행 (커밋 전 값이 캐시되거나 검증값에 반영되지 않도록)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,63 +1,171 @@
 package com.example.cpumonitoring.service;
 
+import com.example.cpumonitoring.component.CgroupCpuStats;
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.component.CpuUsageAccumulator;
+import com.example.cpumonitoring.component.CpuUsageBroadcaster;
 import com.example.cpumonitoring.component.CpuUsageCollector;
+import com.example.cpumonitoring.component.CpuUsageRingBuffer;
+import com.example.cpumonitoring.component.CpuUsageWriteBuffer;
+import com.example.cpumonitoring.component.HighFrequencyCpuSampler;
 import com.example.cpumonitoring.entity.CpuUsage;
 import com.example.cpumonitoring.exception.CpuUsageCollectionException;
-import com.example.cpumonitoring.repository.CpuUsageRepository;
-import jakarta.annotation.PostConstruct;
+import com.example.cpumonitoring.storage.CpuUsageStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CpuUsageService {
-    private final CpuUsageRepository cpuUsageRepository;
+    // 시작 직후 수집기 확인 간격과 최대 횟수
+    private static final Duration WARM_UP_INTERVAL = Duration.ofSeconds(1);
+    private static final int WARM_UP_MAX_ATTEMPTS = 10;
+
+    private final CpuUsageStore cpuUsageStore;
     private final CpuUsageCollector cpuUsageCollector;
+    private final CpuUsageRingBuffer cpuUsageRingBuffer;
+    private final CpuUsageWriteBuffer cpuUsageWriteBuffer;
+    private final CpuUsageBroadcaster cpuUsageBroadcaster;
+    private final ObjectProvider<HighFrequencyCpuSampler> highFrequencyCpuSampler;
+    private final TaskScheduler taskScheduler;
+    private final CpuMonitoringMetrics cpuMonitoringMetrics;
+
+    // 시작 준비(링 버퍼 적재, 수집기 확인)가 끝나기 전에는 매 분 수집을 건너뜀
+    private volatile boolean warmedUp;
 
-    @PostConstruct
-    public void init() throws InterruptedException {
-        // 초기화 시점에서 일정 시간 동안 CPU 사용률을 미리 수집
-        collectInitialCpuUsage();
+    /**
+     * 애플리케이션 준비 후 스케쥴러 스레드에서 시작 준비 (시작 스레드와 컨텍스트 초기화를 막지 않음)
+     * - CDS 학습 실행(-Dspring.context.exit=onRefresh)에서는 실행되지 않으므로 DB 조회나 수집 없이 종료
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnReady() {
+        taskScheduler.schedule(this::warmUp, Instant.now());
     }
 
+    void warmUp() {
+        // 분 단위 조회 제공 기한(일주일 전 날짜의 자정)부터의 데이터를 링 버퍼에 적재 (첫 저장 전에 적재해야 누락 없음)
+        try {
+            warmUpRingBuffer();
+        } catch (Exception e) {
+            log.error("Failed to load CPU usage ring buffer, minute queries will read the store: {}", e.getMessage(), e);
+        }
+        // 첫 수집값은 기준값으로만 사용 (OperatingSystemMXBean 첫 호출, /proc/stat, cgroup 은 직전 값 대비 계산)
+        probeCollector(0);
+    }
 
-    //스케쥴러 사용 - 가져온 cpu 사용률 DB에 저장
+    //스케쥴러 사용 - 가져온 cpu 사용률을 저장 대기열에 추가 (DB 저장은 write-behind 저장 스레드가 처리)
     @Scheduled(cron = "0 * * * * *") // 매 분마다 실행
+    public void saveCpuUsageOnSchedule() {
+        if (!warmedUp) {
+            log.debug("CPU usage warm-up in progress, skipping scheduled sample");
+            // 고빈도 수집 모드 : 시작 준비 중 누적된 사용률은 버림 (첫 저장 분에 시작 이후 전체가 섞이지 않도록)
+            HighFrequencyCpuSampler sampler = highFrequencyCpuSampler.getIfAvailable();
+            if (sampler != null) {
+                sampler.drain();
+            }
+            return;
+        }
+        saveCpuUsage();
+    }
+
     public void saveCpuUsage() {
         try {
-            Double cpuUsage = cpuUsageCollector.collectCpuUsage(); // CPU 사용률 수집 로직
-
-            CpuUsage usage = new CpuUsage(formatCpuUsage(cpuUsage), LocalDateTime.now().withNano(0));
+            // 수집 시각은 수집 전에 기록 (수집/저장 지연과 무관하게 스케쥴 시각 유지)
+            LocalDateTime sampledAt = LocalDateTime.now().withNano(0);
+            HighFrequencyCpuSampler sampler = highFrequencyCpuSampler.getIfAvailable();
+            CpuUsage usage = sampler == null ? collectMinuteUsage(sampledAt)
+                    : summarizeMinute(sampler.drain(), sampledAt.truncatedTo(ChronoUnit.MINUTES).minusMinutes(1));
+            if (usage == null) {
+                return;
+            }
+            usage.setCoreUsages(cpuUsageCollector.getCoreUsages());
+            CgroupCpuStats cgroupStats = cpuUsageCollector.takeCgroupStats();
+            if (cgroupStats != null) {
+                usage.setCgroupStats(cgroupStats.getThrottledPeriods(), cgroupStats.getThrottledUsec(), cgroupStats.getCpuPressure());
+            }
 
-            cpuUsageRepository.save(usage);
+            // write-behind 큐에 추가 (막히지 않음, 배치로 저장 후 집계, 링 버퍼 반영)
+            // 큐가 가득 차 overflow 정책으로 사용률을 버린 경우 지표로 기록 (cpumonitoring.store.dropped)
+            if (!cpuUsageWriteBuffer.add(usage)) {
+                cpuMonitoringMetrics.recordDrop();
+            }
+            cpuMonitoringMetrics.markSample();
+            // SSE 구독자에게 즉시 전달 (DB 저장과 무관)
+            cpuUsageBroadcaster.publish(usage);
         } catch (Exception e) {
             throw new CpuUsageCollectionException("Failed to collect CPU usage data", e);
         }
     }
 
-    // 초기 사용률 수집 메서드
-    private void collectInitialCpuUsage() throws InterruptedException {
+    // 분 단위 수집 모드 : 저장 시점의 사용률 1건
+    private CpuUsage collectMinuteUsage(LocalDateTime sampledAt) {
+        Double cpuUsage = cpuUsageCollector.collectCpuUsage(); // CPU 사용률 수집 로직
+        // 수집기가 아직 값을 제공하지 못하는 경우(음수) 저장하지 않음
+        if (!CpuUsageCollector.isValidReading(cpuUsage)) {
+            log.warn("CPU usage collector returned an invalid reading: {}", cpuUsage);
+            return null;
+        }
+        return new CpuUsage(formatCpuUsage(cpuUsage), sampledAt);
+    }
 
-            for (int i = 0; i < 5; i++) {
-                cpuUsageCollector.collectCpuUsage();
-                Thread.sleep(1000); // 1초 대기
-            }
-            saveCpuUsage();
+    // 고빈도 수집 모드 : 끝난 분의 평균을 사용률로, 최소/최대/건수를 요약으로 저장
+    // - 매 분 0초에 꺼내는 누적기는 직전 분 [m-1, m) 구간이므로 분 시작 시각으로 저장 (정시 직전 분이 다음 시 집계에 섞이지 않음)
+    private CpuUsage summarizeMinute(CpuUsageAccumulator minute, LocalDateTime sampledAt) {
+        if (minute.isEmpty()) {
+            log.warn("No CPU usage samples collected during the last minute");
+            return null;
+        }
+        CpuUsage usage = new CpuUsage(formatCpuUsage(minute.getAverageUsage()), sampledAt);
+        usage.summarize(formatCpuUsage(minute.getMinUsage()), formatCpuUsage(minute.getMaxUsage()), minute.getSampleCount());
+        return usage;
+    }
 
+    // 링 버퍼 초기 적재 메서드
+    private void warmUpRingBuffer() {
+        LocalDateTime loadFrom = LocalDate.now().minusWeeks(1).atStartOfDay();
+        List<CpuUsage> recentUsages = cpuUsageStore.findBetween(loadFrom, LocalDateTime.now());
+        cpuUsageRingBuffer.load(recentUsages, loadFrom);
+        log.info("CPU usage ring buffer loaded: {} samples since {}", recentUsages.size(), loadFrom);
+    }
+
+    // 수집기가 유효한 값을 반환하면 준비 완료 (첫 저장은 다음 매 분 수집에서 분 단위 시각으로), 아니면 스레드를 재우지 않고 다음 확인을 예약
+    private void probeCollector(int attempt) {
+        Double reading = null;
+        try {
+            reading = cpuUsageCollector.collectCpuUsage();
+        } catch (Exception e) {
+            log.warn("CPU usage collector not ready (attempt {}): {}", attempt, e.getMessage());
+        }
+        if (attempt > 0 && CpuUsageCollector.isValidReading(reading)) {
+            warmedUp = true;
+            log.info("CPU usage warm-up finished after {} probes", attempt + 1);
+            return;
+        }
+        if (attempt + 1 >= WARM_UP_MAX_ATTEMPTS) {
+            // 이후 매 분 수집에서 유효하지 않은 값은 저장하지 않음
+            warmedUp = true;
+            log.warn("CPU usage collector did not return a valid reading after {} probes", WARM_UP_MAX_ATTEMPTS);
+            return;
+        }
+        taskScheduler.schedule(() -> probeCollector(attempt + 1), Instant.now().plus(WARM_UP_INTERVAL));
     }
 
-    // cpu 사용률 포맷 - 소수점 셋째자리에서 반올림
-    private double formatCpuUsage(double cpuUsage) {
-        BigDecimal newUsage = new BigDecimal(cpuUsage).setScale(2, RoundingMode.HALF_UP);
-        return newUsage.doubleValue();
+    // cpu 사용률 포맷 - 소수점 셋째자리에서 반올림 (BigDecimal 할당 없이, 벤치마크와 호스트 사용률 수신에서 직접 호출)
+    public static double formatCpuUsage(double cpuUsage) {
+        return Math.round(cpuUsage * 100.0) / 100.0;
     }
 }
@@ -0,0 +1,209 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.component.FleetCpuUsageAggregator;
+import com.example.cpumonitoring.component.TopHostsSelector;
+import com.example.cpumonitoring.exception.InvalidIngestRequestException;
+import com.example.cpumonitoring.exception.InvalidRangeParameterException;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+import com.example.cpumonitoring.model.CpuUsageStats;
+import com.example.cpumonitoring.model.FleetCpuUsageHourResponse;
+import com.example.cpumonitoring.model.FleetCpuUsageStats;
+import com.example.cpumonitoring.model.FleetCpuUsageTopResponse;
+import com.example.cpumonitoring.model.HostCpuUsageHourResponse;
+import com.example.cpumonitoring.model.HostCpuUsageIngestResponse;
+import com.example.cpumonitoring.model.HostCpuUsageMinuteResponse;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import com.example.cpumonitoring.repository.HostCpuUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 여러 호스트의 에이전트가 보내는 사용률 수신 및 호스트별/전체 호스트 조회
+ * - 요청 하나의 사용률을 검증 후 한 번의 JDBC 배치로 저장 (host_cpu_usage)
+ * - 전체 호스트 조회는 DB GROUP BY 한 번의 결과 행을 받는 대로 누적 (시 단위 : FleetCpuUsageAggregator, 상위 N : TopHostsSelector)
+ * - 이 인스턴스의 수집/저장 경로(write-behind 큐, 링 버퍼, 시/일 단위 집계)와는 분리
+ */
+@Slf4j
+@Service
+@Transactional
+public class HostCpuUsageService {
+    private static final int MAX_HOST_ID_LENGTH = 100;
+    // 에이전트 시계가 서버보다 빠른 경우 허용 범위
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final int MAX_TOP_HOSTS = 100;
+
+    private final HostCpuUsageRepository hostCpuUsageRepository;
+    private final CpuMonitoringMetrics cpuMonitoringMetrics;
+    private final int maxSamples;
+
+    public HostCpuUsageService(HostCpuUsageRepository hostCpuUsageRepository,
+                               CpuMonitoringMetrics cpuMonitoringMetrics,
+                               @Value("${cpumonitoring.ingest.max-samples:10000}") int maxSamples) {
+        this.hostCpuUsageRepository = hostCpuUsageRepository;
+        this.cpuMonitoringMetrics = cpuMonitoringMetrics;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * 에이전트가 보낸 사용률 저장
+     * - 한 건이라도 잘못되면 전체를 저장하지 않음 (400)
+     * - 시각은 초 단위로 절삭, 사용률은 소수점 셋째자리에서 반올림
+     * @param samples 호스트별 사용률 (여러 호스트 가능)
+     * @return 저장 건수와 호스트 수
+     */
+    public HostCpuUsageIngestResponse ingest(List<HostCpuUsageSample> samples) {
+        if (samples == null || samples.isEmpty()) {
+            throw new InvalidIngestRequestException("At least one sample is required.");
+        }
+        // 컨트롤러는 본문을 읽는 중에 거절, 다른 호출 경로를 위해 한 번 더 확인
+        if (samples.size() > maxSamples) {
+            throw new InvalidIngestRequestException("Too many samples in one request (max " + maxSamples + ").");
+        }
+        LocalDateTime latest = LocalDateTime.now().plus(MAX_CLOCK_SKEW);
+        List<HostCpuUsageSample> rows = new ArrayList<>(samples.size());
+        Set<String> hosts = new HashSet<>();
+        for (int i = 0; i < samples.size(); i++) {
+            HostCpuUsageSample sample = samples.get(i);
+            validateSample(i, sample, latest);
+            rows.add(new HostCpuUsageSample(sample.getHostId(), sample.getTimestamp().withNano(0),
+                    CpuUsageService.formatCpuUsage(sample.getCpuUsage())));
+            hosts.add(sample.getHostId());
+        }
+
+        long start = System.nanoTime();
+        hostCpuUsageRepository.upsertAll(rows);
+        cpuMonitoringMetrics.recordIngest(System.nanoTime() - start, rows.size());
+        log.debug("Ingested {} CPU usage samples from {} hosts", rows.size(), hosts.size());
+        return new HostCpuUsageIngestResponse(rows.size(), hosts.size());
+    }
+
+    private static void validateSample(int index, HostCpuUsageSample sample, LocalDateTime latest) {
+        if (sample == null) {
+            throw new InvalidIngestRequestException("samples[" + index + "] is null.");
+        }
+        String hostId = sample.getHostId();
+        if (hostId == null || hostId.isBlank() || hostId.length() > MAX_HOST_ID_LENGTH) {
+            throw new InvalidIngestRequestException("samples[" + index + "].hostId must be 1 to "
+                    + MAX_HOST_ID_LENGTH + " characters.");
+        }
+        if (sample.getTimestamp() == null || sample.getTimestamp().isAfter(latest)) {
+            throw new InvalidIngestRequestException("samples[" + index + "].timestamp is missing or in the future.");
+        }
+        Double cpuUsage = sample.getCpuUsage();
+        if (cpuUsage == null || cpuUsage.isNaN() || cpuUsage < 0 || cpuUsage > 100) {
+            throw new InvalidIngestRequestException("samples[" + index + "].cpuUsage must be between 0 and 100.");
+        }
+    }
+
+    /**
+     * 호스트의 분 단위 사용률 조회 (제공 기한 : 최근 1주)
+     * @param hostId 호스트 식별자
+     * @param startTime 구간 시작 시각
+     * @param endTime 구간 끝 시각
+     */
+    @Transactional(readOnly = true)
+    public HostCpuUsageMinuteResponse getCpuUsageByMinute(String hostId, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime adjustedStartTime = CpuMonitoringService.adjustMinuteStart(startTime, endTime);
+        List<CpuUsageRangePoint> points = cpuMonitoringMetrics.timeQuery("host.minute",
+                () -> hostCpuUsageRepository.findBetween(hostId, adjustedStartTime, endTime));
+        return new HostCpuUsageMinuteResponse(hostId, points, adjustedStartTime, endTime);
+    }
+
+    /**
+     * 호스트의 시 단위 사용률 최소/최대/평균 조회 (제공 기한 : 최근 3개월)
+     * @param hostId 호스트 식별자
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     */
+    @Transactional(readOnly = true)
+    public HostCpuUsageHourResponse getCpuUsageStatsByHour(String hostId, LocalDate startDate, LocalDate endDate) {
+        LocalDate adjustedStartDate = adjustHourStartDate(startDate, endDate);
+
+        List<CpuUsageBucketStats> buckets = cpuMonitoringMetrics.timeQuery("host.hour",
+                () -> hostCpuUsageRepository.aggregateByHour(hostId, adjustedStartDate.atStartOfDay(),
+                        endDate.atTime(LocalTime.MAX)));
+
+        Map<LocalDateTime, CpuUsageStats> stats = new TreeMap<>();
+        for (CpuUsageBucketStats bucket : buckets) {
+            double average = CpuUsageService.formatCpuUsage(bucket.getAverageUsage());
+            stats.put(bucket.getBucket(), new CpuUsageStats(bucket.getMinUsage(), bucket.getMaxUsage(), average));
+        }
+        return new HostCpuUsageHourResponse(hostId, stats, adjustedStartDate, endDate);
+    }
+
+    /**
+     * 전체 호스트의 시 단위 사용률 (제공 기한 : 최근 3개월)
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @param threshold 호스트 시 평균 임계값 (0~100)
+     * @return 시각별 호스트 수, 호스트 평균의 평균, 최대, 임계값을 넘은 호스트 수
+     */
+    @Transactional(readOnly = true)
+    public FleetCpuUsageHourResponse getFleetCpuUsageByHour(LocalDate startDate, LocalDate endDate, double threshold) {
+        validateThreshold(threshold);
+        LocalDate adjustedStartDate = adjustHourStartDate(startDate, endDate);
+        LocalDateTime rangeStart = adjustedStartDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.atTime(LocalTime.MAX);
+        // 결과 행을 받는 대로 시 번호별 배열에 누적 (호스트별 시계열을 모아두지 않음)
+        FleetCpuUsageAggregator aggregator = new FleetCpuUsageAggregator(rangeStart, rangeEnd, threshold);
+        long start = System.nanoTime();
+        long rows = hostCpuUsageRepository.forEachHostHour(rangeStart, rangeEnd, aggregator::add);
+        cpuMonitoringMetrics.recordQuery("fleet.hour", System.nanoTime() - start, rows);
+        Map<LocalDateTime, FleetCpuUsageStats> stats = aggregator.toStats();
+        return new FleetCpuUsageHourResponse(stats, threshold, adjustedStartDate, endDate);
+    }
+
+    /**
+     * 구간 평균 사용률 상위 호스트 (제공 기한 : 최근 3개월)
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     * @param limit 상위 호스트 수 (1~100)
+     * @param threshold 구간 평균 임계값 (0~100)
+     * @return 상위 호스트, 전체 호스트 수, 임계값을 넘은 호스트 수
+     */
+    @Transactional(readOnly = true)
+    public FleetCpuUsageTopResponse getTopHosts(LocalDate startDate, LocalDate endDate, int limit, double threshold) {
+        if (limit < 1 || limit > MAX_TOP_HOSTS) {
+            throw new InvalidRangeParameterException("limit must be between 1 and " + MAX_TOP_HOSTS + ".");
+        }
+        validateThreshold(threshold);
+        LocalDate adjustedStartDate = adjustHourStartDate(startDate, endDate);
+        // DB 가 호스트별로 묶은 행(호스트당 1행)을 크기 limit 의 힙으로 선택
+        TopHostsSelector selector = new TopHostsSelector(limit, threshold);
+        long start = System.nanoTime();
+        long rows = hostCpuUsageRepository.forEachHost(adjustedStartDate.atStartOfDay(), endDate.atTime(LocalTime.MAX),
+                selector::add);
+        cpuMonitoringMetrics.recordQuery("fleet.top", System.nanoTime() - start, rows);
+        TopHostsSelector.TopHosts top = selector.toTopHosts();
+        return new FleetCpuUsageTopResponse(top.getRanks(), top.getHosts(), top.getHostsAbove(), threshold,
+                adjustedStartDate, endDate);
+    }
+
+    // 시 단위 제공 기한(3개월) 이전 시작 날짜는 제공 기한으로 조절
+    private static LocalDate adjustHourStartDate(LocalDate startDate, LocalDate endDate) {
+        CpuMonitoringService.validateDateRange(startDate, endDate);
+        LocalDate providedLimit = LocalDate.now().minusMonths(3);
+        return startDate.isBefore(providedLimit) ? providedLimit : startDate;
+    }
+
+    private static void validateThreshold(double threshold) {
+        if (Double.isNaN(threshold) || threshold < 0 || threshold > 100) {
+            throw new InvalidRangeParameterException("threshold must be between 0 and 100.");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.MetricSnapshot;
+import com.example.cpumonitoring.component.MetricSource;
+import com.example.cpumonitoring.entity.MetricSample;
+import com.example.cpumonitoring.exception.UnknownMetricException;
+import com.example.cpumonitoring.model.MetricBucketStats;
+import com.example.cpumonitoring.model.MetricStats;
+import com.example.cpumonitoring.model.MetricStatsResponse;
+import com.example.cpumonitoring.repository.MetricSampleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@Transactional
+public class MetricService {
+    private final MetricSampleRepository metricSampleRepository;
+    private final List<String> metricNames;
+
+    public MetricService(MetricSampleRepository metricSampleRepository, List<MetricSource> metricSources) {
+        this.metricSampleRepository = metricSampleRepository;
+        this.metricNames = metricSources.stream().map(MetricSource::getName).sorted().toList();
+    }
+
+    /**
+     * 한 주기에 수집한 지표들을 한 번의 배치로 저장 (수집 실패한 NaN 값은 제외)
+     * @param snapshot 수집 결과
+     */
+    public void saveSnapshot(MetricSnapshot snapshot) {
+        String[] names = snapshot.getNames();
+        double[] values = snapshot.getValues();
+        List<MetricSample> samples = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                samples.add(new MetricSample(names[i], values[i], snapshot.getTimestamp()));
+            }
+        }
+        if (samples.isEmpty()) {
+            return;
+        }
+        metricSampleRepository.saveAll(samples);
+        log.debug("Saved {} metric samples at {}", samples.size(), snapshot.getTimestamp());
+    }
+
+    /**
+     * 등록된 지표 이름 목록
+     */
+    @Transactional(readOnly = true)
+    public List<String> getMetricNames() {
+        return metricNames;
+    }
+
+    /**
+     * 지정한 구간의 시 단위 지표 최소/최대/평균 조회 (최근 3개월)
+     * @param metric 지표 이름
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     */
+    @Transactional(readOnly = true)
+    public MetricStatsResponse<LocalDateTime> getMetricStatsByHour(String metric, LocalDate startDate, LocalDate endDate) {
+        validateMetric(metric);
+        CpuMonitoringService.validateDateRange(startDate, endDate);
+        LocalDate adjustedStartDate = adjustDate(startDate, LocalDate.now().minusMonths(3));
+
+        List<MetricBucketStats> buckets = metricSampleRepository.aggregateByHour(
+                metric, adjustedStartDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+
+        Map<LocalDateTime, MetricStats> stats = new TreeMap<>();
+        for (MetricBucketStats bucket : buckets) {
+            stats.put(bucket.getBucket(), toStats(bucket));
+        }
+        return new MetricStatsResponse<>(metric, stats, adjustedStartDate, endDate);
+    }
+
+    /**
+     * 지정한 구간의 일 단위 지표 최소/최대/평균 조회 (최근 1년)
+     * @param metric 지표 이름
+     * @param startDate 구간 시작 날짜
+     * @param endDate 구간 끝 날짜
+     */
+    @Transactional(readOnly = true)
+    public MetricStatsResponse<LocalDate> getMetricStatsByDay(String metric, LocalDate startDate, LocalDate endDate) {
+        validateMetric(metric);
+        CpuMonitoringService.validateDateRange(startDate, endDate);
+        LocalDate adjustedStartDate = adjustDate(startDate, LocalDate.now().minusYears(1));
+
+        List<MetricBucketStats> buckets = metricSampleRepository.aggregateByDay(
+                metric, adjustedStartDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+
+        Map<LocalDate, MetricStats> stats = new TreeMap<>();
+        for (MetricBucketStats bucket : buckets) {
+            stats.put(bucket.getBucket().toLocalDate(), toStats(bucket));
+        }
+        return new MetricStatsResponse<>(metric, stats, adjustedStartDate, endDate);
+    }
+
+    private void validateMetric(String metric) {
+        if (!metricNames.contains(metric)) {
+            throw new UnknownMetricException(metric);
+        }
+    }
+
+    private static LocalDate adjustDate(LocalDate date, LocalDate providedLimit) {
+        return date.isBefore(providedLimit) ? providedLimit : date;
+    }
+
+    private static MetricStats toStats(MetricBucketStats bucket) {
+        double average = Math.round(bucket.getAverageValue() * 100) / 100.0;
+        return new MetricStats(bucket.getMinValue(), bucket.getMaxValue(), average, bucket.getSampleCount());
+    }
+}
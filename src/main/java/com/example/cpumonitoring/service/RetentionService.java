@@ -0,0 +1,99 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.model.RetentionReport;
+import com.example.cpumonitoring.repository.PurgeRepository;
+import com.example.cpumonitoring.repository.PurgeTarget;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * 조회 제공 기한이 지난 데이터 삭제
+ * - 단계별 보관 기한 : 원본(분 단위) / 시 단위 집계 / 일 단위 집계 / 추가 지표 / 에이전트 호스트 사용률
+ * - 원본, 시 단위 집계를 지우기 전에 상위 집계(시/일 단위)가 있는지 확인하고 없으면 먼저 생성
+ * - 삭제는 chunk-size 건씩 나눠 문장마다 커밋 (클래스 단위 트랜잭션 없음)
+ */
+@Slf4j
+@Service
+public class RetentionService {
+    private final CpuUsageStore cpuUsageStore;
+    private final CpuUsageRollupService cpuUsageRollupService;
+    private final PurgeRepository purgeRepository;
+    private final Period rawRetention;
+    private final Period hourRetention;
+    private final Period dayRetention;
+    private final Period metricRetention;
+    private final Period hostRetention;
+    private final int chunkSize;
+
+    public RetentionService(CpuUsageStore cpuUsageStore,
+                            CpuUsageRollupService cpuUsageRollupService,
+                            PurgeRepository purgeRepository,
+                            @Value("${cpumonitoring.retention.raw:8d}") Period rawRetention,
+                            @Value("${cpumonitoring.retention.hour:3m}") Period hourRetention,
+                            @Value("${cpumonitoring.retention.day:1y}") Period dayRetention,
+                            @Value("${cpumonitoring.retention.metric:1y}") Period metricRetention,
+                            @Value("${cpumonitoring.retention.host:3m}") Period hostRetention,
+                            @Value("${cpumonitoring.retention.chunk-size:5000}") int chunkSize) {
+        this.cpuUsageStore = cpuUsageStore;
+        this.cpuUsageRollupService = cpuUsageRollupService;
+        this.purgeRepository = purgeRepository;
+        this.rawRetention = rawRetention;
+        this.hourRetention = hourRetention;
+        this.dayRetention = dayRetention;
+        this.metricRetention = metricRetention;
+        this.hostRetention = hostRetention;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 보관 기한이 지난 데이터 삭제 (기준 : 오늘 자정 - 보관 기한)
+     * @return 단계별 삭제 건수와 소요 시간
+     */
+    public RetentionReport purgeExpired() {
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        long rawPurged = purgeRaw(today.minus(rawRetention));
+        long hourPurged = purgeHours(today.minus(hourRetention));
+        long dayPurged = purgeRepository.deleteBefore(PurgeTarget.CPU_USAGE_DAY, today.minus(dayRetention), chunkSize);
+        long metricPurged = purgeRepository.deleteBefore(PurgeTarget.METRIC_SAMPLE,
+                today.minus(metricRetention).atStartOfDay(), chunkSize);
+        // 호스트 사용률은 집계 테이블 없이 원본으로 시 단위 조회하므로 시 단위 제공 기간만큼 보관
+        long hostPurged = purgeRepository.deleteBefore(PurgeTarget.HOST_CPU_USAGE,
+                today.minus(hostRetention).atStartOfDay(), chunkSize);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new RetentionReport(rawPurged, hourPurged, dayPurged, metricPurged, hostPurged, elapsedMillis);
+    }
+
+    private long purgeRaw(LocalDate cutoff) {
+        LocalDate oldestDate = cpuUsageRollupService.findOldestSampleDate();
+        if (oldestDate == null || !oldestDate.isBefore(cutoff)) {
+            return 0;
+        }
+        // 삭제할 날짜의 시/일 단위 집계가 없으면 원본으로 먼저 계산
+        for (LocalDate date = oldestDate; date.isBefore(cutoff); date = date.plusDays(1)) {
+            if (!cpuUsageRollupService.hasDayRollup(date)) {
+                cpuUsageRollupService.rebuildDay(date);
+            }
+        }
+        return cpuUsageStore.purgeBefore(cutoff.atStartOfDay(), chunkSize);
+    }
+
+    private long purgeHours(LocalDate cutoff) {
+        LocalDate oldestDate = cpuUsageRollupService.findOldestHourRollupDate();
+        if (oldestDate == null || !oldestDate.isBefore(cutoff)) {
+            return 0;
+        }
+        // 삭제할 날짜의 일 단위 집계가 없으면 시 단위 집계로 먼저 생성
+        for (LocalDate date = oldestDate; date.isBefore(cutoff); date = date.plusDays(1)) {
+            cpuUsageRollupService.rollupDayFromHours(date);
+        }
+        return purgeRepository.deleteBefore(PurgeTarget.CPU_USAGE_HOUR, cutoff.atStartOfDay(), chunkSize);
+    }
+}
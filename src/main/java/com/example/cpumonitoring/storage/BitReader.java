@@ -0,0 +1,39 @@
+package com.example.cpumonitoring.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer 의 지정 위치부터 비트 단위로 읽기 (상위 비트부터, 절대 위치 접근이라 버퍼 공유 가능)
+ */
+final class BitReader {
+    private final ByteBuffer buffer;
+    private final int base;
+    private long bitPosition;
+
+    BitReader(ByteBuffer buffer, int base) {
+        this.buffer = buffer;
+        this.base = base;
+    }
+
+    boolean readBit() {
+        return readBits(1) == 1;
+    }
+
+    long readBits(int bits) {
+        long result = 0;
+        while (bits > 0) {
+            int index = base + (int) (bitPosition >>> 3);
+            int available = 8 - (int) (bitPosition & 7);
+            int n = Math.min(available, bits);
+            int chunk = ((buffer.get(index) & 0xFF) >>> (available - n)) & ((1 << n) - 1);
+            result = (result << n) | chunk;
+            bits -= n;
+            bitPosition += n;
+        }
+        return result;
+    }
+
+    long getBitPosition() {
+        return bitPosition;
+    }
+}
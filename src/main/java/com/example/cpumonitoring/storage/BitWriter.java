@@ -0,0 +1,42 @@
+package com.example.cpumonitoring.storage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer 의 지정 위치부터 비트 단위로 기록 (상위 비트부터)
+ * - 이미 기록된 비트는 변경하지 않으므로 기록 중에도 그 이전 비트는 안전하게 읽을 수 있음
+ */
+final class BitWriter {
+    private final ByteBuffer buffer;
+    private final int base;
+    private long bitPosition;
+
+    BitWriter(ByteBuffer buffer, int base, long bitPosition) {
+        this.buffer = buffer;
+        this.base = base;
+        this.bitPosition = bitPosition;
+    }
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    void writeBits(long value, int bits) {
+        while (bits > 0) {
+            int index = base + (int) (bitPosition >>> 3);
+            int used = (int) (bitPosition & 7);
+            int free = 8 - used;
+            int n = Math.min(free, bits);
+            int chunk = (int) ((value >>> (bits - n)) & ((1 << n) - 1));
+            // 현재 바이트에서 이미 기록된 상위 비트만 유지 (복구 시 남아있던 쓰레기 비트 제거)
+            int current = used == 0 ? 0 : buffer.get(index) & (0xFF << free) & 0xFF;
+            buffer.put(index, (byte) (current | (chunk << (free - n))));
+            bits -= n;
+            bitPosition += n;
+        }
+    }
+
+    long getBitPosition() {
+        return bitPosition;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 분 단위 원본 사용률 저장소
+ * - 기본 : JPA(cpu_monitoring 테이블), embedded 프로필 : 로컬 압축 세그먼트 파일
+ * - 시 단위/일 단위 집계 테이블은 저장소와 무관하게 JPA 사용
+ */
+public interface CpuUsageStore {
+
+    // 저장 후 각 사용률에 id 할당
+    void saveAll(List<CpuUsage> cpuUsages);
+
+    // 구간 사용률 (시각 오름차순)
+    List<CpuUsage> findBetween(LocalDateTime start, LocalDateTime end);
+
+    // 구간 사용률을 전체 List 없이 순차 조회, 반드시 close (try-with-resources)
+    Stream<CpuUsage> streamBetween(LocalDateTime start, LocalDateTime end);
+
+    Optional<LocalDateTime> findOldestTimestamp();
+
+    // 구간 사용률의 시 단위 최소/최대/평균/합계/건수
+    List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end);
+
+    // 기준 시각 이전 사용률 삭제, 삭제한 건수 반환 (chunkSize : 한 번에 삭제할 최대 건수)
+    long purgeBefore(LocalDateTime cutoff, int chunkSize);
+}
@@ -0,0 +1,138 @@
+package com.example.cpumonitoring.storage;
+
+/**
+ * Gorilla 방식 블록 인코딩 (시각 : delta-of-delta, 값 : 이전 값과의 XOR)
+ *
+ * <pre>
+ * 첫 샘플      : 시각 64비트 + 값 64비트
+ * 시각 dod     : 0 → '0' / [-63, 64] → '10'+7 / [-255, 256] → '110'+9 / [-2047, 2048] → '1110'+12 / 그 외 '1111'+64
+ * 값 XOR       : 0 → '0' / 이전 구간 안 → '10'+의미 비트 / 새 구간 → '11'+선행 0 개수 5비트+의미 비트 수 6비트+의미 비트
+ * </pre>
+ * - 인코더와 디코더가 같은 상태(State)를 유지하므로 디코딩 후 상태로 인코딩을 이어갈 수 있음 (재시작 시 블록 복구)
+ */
+final class GorillaCodec {
+    // 샘플당 최대 비트 수 (시각 4 + 64, 값 2 + 5 + 6 + 64)
+    static final int MAX_BITS_PER_SAMPLE = 145;
+    static final int FIRST_SAMPLE_BITS = 128;
+
+    private GorillaCodec() {
+    }
+
+    static int maxBlockBytes(int blockSize) {
+        long bits = FIRST_SAMPLE_BITS + (long) (blockSize - 1) * MAX_BITS_PER_SAMPLE;
+        return (int) ((bits + 7) / 8);
+    }
+
+    static final class State {
+        int count;
+        long previousTimestamp;
+        long previousDelta;
+        long previousValueBits;
+        int previousLeading = -1;
+        int previousTrailing;
+    }
+
+    static void encode(BitWriter writer, State state, long timestamp, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        if (state.count == 0) {
+            writer.writeBits(timestamp, 64);
+            writer.writeBits(valueBits, 64);
+        } else {
+            long delta = timestamp - state.previousTimestamp;
+            encodeDeltaOfDelta(writer, delta - state.previousDelta);
+            state.previousDelta = delta;
+            encodeXor(writer, state, valueBits ^ state.previousValueBits);
+        }
+        state.previousTimestamp = timestamp;
+        state.previousValueBits = valueBits;
+        state.count++;
+    }
+
+    // 샘플 1건 디코딩 후 state 의 previousTimestamp / previousValueBits 가 해당 샘플 값
+    static void decode(BitReader reader, State state) {
+        if (state.count == 0) {
+            state.previousTimestamp = reader.readBits(64);
+            state.previousValueBits = reader.readBits(64);
+        } else {
+            long delta = state.previousDelta + decodeDeltaOfDelta(reader);
+            state.previousTimestamp += delta;
+            state.previousDelta = delta;
+            state.previousValueBits ^= decodeXor(reader, state);
+        }
+        state.count++;
+    }
+
+    private static void encodeDeltaOfDelta(BitWriter writer, long dod) {
+        if (dod == 0) {
+            writer.writeBit(false);
+        } else if (dod >= -63 && dod <= 64) {
+            writer.writeBits(0b10, 2);
+            writer.writeBits(dod + 63, 7);
+        } else if (dod >= -255 && dod <= 256) {
+            writer.writeBits(0b110, 3);
+            writer.writeBits(dod + 255, 9);
+        } else if (dod >= -2047 && dod <= 2048) {
+            writer.writeBits(0b1110, 4);
+            writer.writeBits(dod + 2047, 12);
+        } else {
+            writer.writeBits(0b1111, 4);
+            writer.writeBits(dod, 64);
+        }
+    }
+
+    private static long decodeDeltaOfDelta(BitReader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(7) - 63;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(9) - 255;
+        }
+        if (!reader.readBit()) {
+            return reader.readBits(12) - 2047;
+        }
+        return reader.readBits(64);
+    }
+
+    private static void encodeXor(BitWriter writer, State state, long xor) {
+        if (xor == 0) {
+            writer.writeBit(false);
+            return;
+        }
+        writer.writeBit(true);
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (state.previousLeading >= 0 && leading >= state.previousLeading && trailing >= state.previousTrailing) {
+            // 이전 의미 비트 구간에 들어가면 구간 정보 생략
+            writer.writeBit(false);
+            writer.writeBits(xor >>> state.previousTrailing, 64 - state.previousLeading - state.previousTrailing);
+        } else {
+            int meaningful = 64 - leading - trailing;
+            writer.writeBit(true);
+            writer.writeBits(leading, 5);
+            writer.writeBits(meaningful == 64 ? 0 : meaningful, 6);
+            writer.writeBits(xor >>> trailing, meaningful);
+            state.previousLeading = leading;
+            state.previousTrailing = trailing;
+        }
+    }
+
+    private static long decodeXor(BitReader reader, State state) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (reader.readBit()) {
+            int leading = (int) reader.readBits(5);
+            int meaningful = (int) reader.readBits(6);
+            if (meaningful == 0) {
+                meaningful = 64;
+            }
+            state.previousLeading = leading;
+            state.previousTrailing = 64 - leading - meaningful;
+        }
+        int meaningful = 64 - state.previousLeading - state.previousTrailing;
+        return reader.readBits(meaningful) << state.previousTrailing;
+    }
+}
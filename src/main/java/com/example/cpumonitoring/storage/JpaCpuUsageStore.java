@@ -0,0 +1,58 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.repository.CpuUsageRepository;
+import com.example.cpumonitoring.repository.PurgeRepository;
+import com.example.cpumonitoring.repository.PurgeTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * cpu_monitoring 테이블 저장소 (기본)
+ */
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(name = "cpumonitoring.partitioning.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCpuUsageStore implements CpuUsageStore {
+    private final CpuUsageRepository cpuUsageRepository;
+    private final PurgeRepository purgeRepository;
+
+    @Override
+    public void saveAll(List<CpuUsage> cpuUsages) {
+        cpuUsageRepository.saveAll(cpuUsages);
+    }
+
+    @Override
+    public List<CpuUsage> findBetween(LocalDateTime start, LocalDateTime end) {
+        return cpuUsageRepository.findByTimestampBetweenOrderByTimestampAsc(start, end);
+    }
+
+    @Override
+    public Stream<CpuUsage> streamBetween(LocalDateTime start, LocalDateTime end) {
+        return cpuUsageRepository.streamByTimestampBetween(start, end);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestTimestamp() {
+        return cpuUsageRepository.findFirstByOrderByTimestampAsc().map(CpuUsage::getTimestamp);
+    }
+
+    @Override
+    public List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end) {
+        return cpuUsageRepository.aggregateByHour(start, end);
+    }
+
+    @Override
+    public long purgeBefore(LocalDateTime cutoff, int chunkSize) {
+        return purgeRepository.deleteBefore(PurgeTarget.CPU_USAGE, cutoff, chunkSize);
+    }
+}
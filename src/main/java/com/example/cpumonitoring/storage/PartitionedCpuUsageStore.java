@@ -0,0 +1,163 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.repository.CpuUsagePartition;
+import com.example.cpumonitoring.repository.PartitionGranularity;
+import com.example.cpumonitoring.repository.PartitionedCpuUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * 기간 파티션으로 나눈 cpu_monitoring 저장소 (cpumonitoring.partitioning.enabled: true)
+ * - 구간 조회는 구간과 겹치는 파티션만 읽음
+ * - 보관 기한 삭제는 끝 시각이 기준 시각 이전인 파티션 전체를 DROP (행 수와 무관)
+ * - 파티션은 CpuUsagePartitionMaintenanceJob 이 미리 만들어 두고, 저장 시에는 H2 에서 없는 기간의 테이블만 생성
+ */
+@Slf4j
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(name = "cpumonitoring.partitioning.enabled", havingValue = "true")
+public class PartitionedCpuUsageStore implements CpuUsageStore {
+    private final PartitionedCpuUsageRepository repository;
+    private final PartitionGranularity granularity;
+    private final int ahead;
+
+    // 파티션 시작 시각 → 파티션 (처음 사용할 때 DB 에서 읽고 생성/삭제 시 갱신, 다시 읽을 때는 새 맵으로 교체)
+    private volatile ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> partitions;
+
+    public PartitionedCpuUsageStore(PartitionedCpuUsageRepository repository,
+                                    @Value("${cpumonitoring.partitioning.granularity:DAY}") PartitionGranularity granularity,
+                                    @Value("${cpumonitoring.partitioning.ahead:7}") int ahead) {
+        this.repository = repository;
+        this.granularity = granularity;
+        this.ahead = ahead;
+    }
+
+    @Override
+    public void saveAll(List<CpuUsage> cpuUsages) {
+        Map<LocalDateTime, List<CpuUsage>> byPartition = new TreeMap<>();
+        for (CpuUsage cpuUsage : cpuUsages) {
+            byPartition.computeIfAbsent(granularity.truncate(cpuUsage.getTimestamp()), start -> new ArrayList<>()).add(cpuUsage);
+        }
+        for (Map.Entry<LocalDateTime, List<CpuUsage>> entry : byPartition.entrySet()) {
+            CpuUsagePartition partition = partitions().get(entry.getKey());
+            if (partition == null) {
+                partition = granularity.partitionOf(entry.getKey());
+                // MariaDB 는 p_future 가 받아 두므로 H2 만 저장 전에 테이블 생성
+                if (repository.routesByTable()) {
+                    create(partition);
+                }
+            }
+            repository.insertAll(partition, entry.getValue());
+        }
+    }
+
+    @Override
+    public List<CpuUsage> findBetween(LocalDateTime start, LocalDateTime end) {
+        return repository.findBetween(overlapping(start, end), start, end);
+    }
+
+    @Override
+    public Stream<CpuUsage> streamBetween(LocalDateTime start, LocalDateTime end) {
+        return repository.streamBetween(overlapping(start, end), start, end);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestTimestamp() {
+        return repository.findOldestTimestamp(new ArrayList<>(partitions().values()));
+    }
+
+    @Override
+    public List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end) {
+        return repository.aggregateByHour(overlapping(start, end), start, end);
+    }
+
+    /**
+     * 끝 시각이 기준 시각 이전인 파티션 삭제 (기준 시각이 걸친 파티션은 다음 기간까지 유지)
+     * @return 삭제한 파티션들의 DB 통계 기준 대략적인 행 수
+     */
+    @Override
+    public synchronized long purgeBefore(LocalDateTime cutoff, int chunkSize) {
+        // 행 수 통계를 갱신하기 위해 DB 에서 파티션 목록을 다시 읽어 통째로 교체 (읽는 동안 조회는 이전 목록 사용)
+        ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> reloaded = load();
+        partitions = reloaded;
+        long purged = 0;
+        for (CpuUsagePartition partition : new ArrayList<>(reloaded.headMap(cutoff).values())) {
+            if (partition.getEnd().isAfter(cutoff)) {
+                continue;
+            }
+            repository.dropPartition(partition);
+            reloaded.remove(partition.getStart());
+            purged += partition.getEstimatedRows();
+            log.info("Dropped cpu_monitoring partition {} (~{} rows)", partition.getName(), partition.getEstimatedRows());
+        }
+        return purged;
+    }
+
+    /**
+     * 현재 기간과 그 뒤 ahead 개 기간까지 파티션을 이어서 생성
+     * @return 새로 만든 파티션 수
+     */
+    public synchronized int createAhead(LocalDateTime now) {
+        LocalDateTime until = granularity.truncate(now);
+        for (int i = 0; i < ahead; i++) {
+            until = granularity.next(until);
+        }
+        // 마지막 파티션 다음 기간부터 빈틈 없이 생성 (MariaDB RANGE 파티션은 뒤에만 추가 가능)
+        Map.Entry<LocalDateTime, CpuUsagePartition> last = partitions().lastEntry();
+        LocalDateTime start = last == null ? granularity.truncate(now) : last.getValue().getEnd();
+        int created = 0;
+        for (; !start.isAfter(until); start = granularity.next(start)) {
+            create(granularity.partitionOf(start));
+            created++;
+        }
+        return created;
+    }
+
+    private synchronized void create(CpuUsagePartition partition) {
+        if (partitions().containsKey(partition.getStart())) {
+            return;
+        }
+        repository.createPartition(partition);
+        partitions().put(partition.getStart(), partition);
+        log.info("Created cpu_monitoring partition {} [{}, {})", partition.getName(), partition.getStart(), partition.getEnd());
+    }
+
+    private List<CpuUsagePartition> overlapping(LocalDateTime start, LocalDateTime end) {
+        return partitions().values().stream()
+                .filter(partition -> partition.overlaps(start, end))
+                .toList();
+    }
+
+    private ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> partitions() {
+        ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> current = partitions;
+        if (current == null) {
+            synchronized (this) {
+                if (partitions == null) {
+                    partitions = load();
+                }
+                current = partitions;
+            }
+        }
+        return current;
+    }
+
+    private ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> load() {
+        ConcurrentSkipListMap<LocalDateTime, CpuUsagePartition> loaded = new ConcurrentSkipListMap<>();
+        repository.findPartitions().forEach(partition -> loaded.put(partition.getStart(), partition));
+        return loaded;
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.component.CpuUsageBucketAggregator;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 세그먼트 파일 저장소 (embedded 프로필)
+ * - 고정 크기 세그먼트 파일을 메모리 매핑해 블록 단위로 추가 기록
+ * - 블록 : 헤더(건수, 비트 길이, 첫 id, 최소/최대 시각) + Gorilla 압축 시각/사용률
+ * - 블록 헤더의 시각 범위를 메모리 색인으로 유지해 구간 조회 시 해당 블록만 디코딩
+ * - 사용률과 시각만 저장 (코어별 사용률, cgroup 통계, 분 단위 최소/최대 요약은 저장하지 않음)
+ * - 시각은 로컬 시각을 UTC 로 간주한 epoch second (초 미만 절삭)
+ * - 보관 기한 삭제는 세그먼트 단위 (모든 블록이 기한 이전인 세그먼트 파일 삭제)
+ * - 배치 저장 중 실패하면 배치 시작 위치로 되돌려 재시도 시 같은 사용률이 두 번 기록되지 않음
+ */
+@Slf4j
+@Component
+@Profile("embedded")
+public class SegmentFileCpuUsageStore implements CpuUsageStore, Closeable {
+    private static final int SEGMENT_MAGIC = 0x43505553; // "CPUS"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 8;
+
+    private static final int BLOCK_MAGIC = 0x43505542; // "CPUB"
+    private static final int BLOCK_HEADER_BYTES = 40;
+    private static final int BLOCK_COUNT = 4;
+    private static final int BLOCK_BIT_LENGTH = 8;
+    private static final int BLOCK_FIRST_ID = 16;
+    private static final int BLOCK_MIN_TIMESTAMP = 24;
+    private static final int BLOCK_MAX_TIMESTAMP = 32;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int blockSize;
+    private final int blockReserveBytes;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<BlockRef> sealedBlocks = new ArrayList<>();
+    private ActiveBlock activeBlock;
+    private long nextId = 1;
+
+    public SegmentFileCpuUsageStore(@Value("${cpumonitoring.storage.embedded.path:./data/cpu-usage}") String directory,
+                                    @Value("${cpumonitoring.storage.embedded.segment-size:8388608}") int segmentSize,
+                                    @Value("${cpumonitoring.storage.embedded.block-size:720}") int blockSize) throws IOException {
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.blockSize = blockSize;
+        this.blockReserveBytes = BLOCK_HEADER_BYTES + GorillaCodec.maxBlockBytes(blockSize);
+        if (SEGMENT_HEADER_BYTES + blockReserveBytes > segmentSize) {
+            throw new IllegalArgumentException("segment-size " + segmentSize + " is too small for block-size " + blockSize);
+        }
+        Files.createDirectories(this.directory);
+        recover();
+    }
+
+    @Override
+    public void saveAll(List<CpuUsage> cpuUsages) {
+        lock.writeLock().lock();
+        AppendMark mark = new AppendMark();
+        try {
+            for (CpuUsage cpuUsage : cpuUsages) {
+                ActiveBlock block = ensureActiveBlock();
+                long timestamp = toEpochSecond(cpuUsage.getTimestamp());
+                GorillaCodec.encode(block.writer, block.state, timestamp, cpuUsage.getCpuUsage());
+                block.minTimestamp = Math.min(block.minTimestamp, timestamp);
+                block.maxTimestamp = Math.max(block.maxTimestamp, timestamp);
+                block.writeHeader();
+                cpuUsage.assignId(nextId++);
+                if (block.state.count == blockSize) {
+                    sealActiveBlock();
+                }
+            }
+            // 배치가 걸친 세그먼트(시작 시점의 마지막 세그먼트 이후) 모두 디스크에 반영
+            if (!cpuUsages.isEmpty()) {
+                for (Segment segment : segments.subList(Math.max(0, mark.segmentCount - 1), segments.size())) {
+                    segment.buffer.force();
+                }
+            }
+        } catch (IOException e) {
+            truncateTo(mark);
+            throw new UncheckedIOException("Failed to append CPU usage to segment files", e);
+        } catch (UncheckedIOException e) {
+            truncateTo(mark);
+            throw new UncheckedIOException("Failed to append CPU usage to segment files", e.getCause());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<CpuUsage> findBetween(LocalDateTime start, LocalDateTime end) {
+        try (Stream<CpuUsage> cpuUsages = streamBetween(start, end)) {
+            return cpuUsages.toList();
+        }
+    }
+
+    @Override
+    public Stream<CpuUsage> streamBetween(LocalDateTime start, LocalDateTime end) {
+        long from = toEpochSecond(start);
+        long to = toEpochSecond(end);
+        // 블록 색인 스냅샷만 잠금 안에서 만들고, 디코딩은 잠금 없이 블록 단위로 지연 처리
+        return blocksOverlapping(from, to).stream()
+                .flatMap(block -> decode(block, from, to).stream());
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestTimestamp() {
+        OptionalLong oldest = blocksOverlapping(Long.MIN_VALUE, Long.MAX_VALUE).stream()
+                .mapToLong(BlockRef::minTimestamp)
+                .min();
+        return oldest.isPresent() ? Optional.of(toLocalDateTime(oldest.getAsLong())) : Optional.empty();
+    }
+
+    @Override
+    public List<CpuUsageBucketStats> aggregateByHour(LocalDateTime start, LocalDateTime end) {
+        long from = toEpochSecond(start);
+        long to = toEpochSecond(end);
+        // 블록을 CpuUsage 객체로 만들지 않고 epoch second 와 사용률을 바로 시간 버킷에 누적
+        CpuUsageBucketAggregator hours = new CpuUsageBucketAggregator(start, end, Duration.ofHours(1), true);
+        for (BlockRef block : blocksOverlapping(from, to)) {
+            BitReader reader = new BitReader(block.buffer, block.offset + BLOCK_HEADER_BYTES);
+            GorillaCodec.State state = new GorillaCodec.State();
+            for (int i = 0; i < block.count; i++) {
+                GorillaCodec.decode(reader, state);
+                if (state.previousTimestamp >= from && state.previousTimestamp <= to) {
+                    double usage = Double.longBitsToDouble(state.previousValueBits);
+                    hours.add(state.previousTimestamp, usage, usage, usage);
+                }
+            }
+        }
+        return hours.toBucketStats();
+    }
+
+    @Override
+    public long purgeBefore(LocalDateTime cutoff, int chunkSize) {
+        long before = toEpochSecond(cutoff);
+        lock.writeLock().lock();
+        try {
+            long purged = 0;
+            // 기록 중인 마지막 세그먼트는 제외하고 오래된 세그먼트부터 확인
+            while (segments.size() > 1) {
+                Segment segment = segments.get(0);
+                List<BlockRef> blocks = sealedBlocks.stream()
+                        .filter(block -> block.buffer() == segment.buffer)
+                        .toList();
+                if (blocks.stream().anyMatch(block -> block.maxTimestamp() >= before)
+                        || (activeBlock != null && activeBlock.segment == segment)) {
+                    break;
+                }
+                sealedBlocks.removeAll(blocks);
+                segments.remove(0);
+                segment.channel.close();
+                Files.deleteIfExists(segmentPath(segment.number));
+                purged += blocks.stream().mapToLong(BlockRef::count).sum();
+            }
+            return purged;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete expired segment files", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<BlockRef> blocksOverlapping(long from, long to) {
+        lock.readLock().lock();
+        try {
+            List<BlockRef> blocks = new ArrayList<>();
+            for (BlockRef block : sealedBlocks) {
+                if (block.maxTimestamp >= from && block.minTimestamp <= to) {
+                    blocks.add(block);
+                }
+            }
+            if (activeBlock != null && activeBlock.state.count > 0
+                    && activeBlock.maxTimestamp >= from && activeBlock.minTimestamp <= to) {
+                blocks.add(activeBlock.snapshot());
+            }
+            return blocks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<CpuUsage> decode(BlockRef block, long from, long to) {
+        BitReader reader = new BitReader(block.buffer, block.offset + BLOCK_HEADER_BYTES);
+        GorillaCodec.State state = new GorillaCodec.State();
+        List<CpuUsage> cpuUsages = new ArrayList<>();
+        for (int i = 0; i < block.count; i++) {
+            GorillaCodec.decode(reader, state);
+            if (state.previousTimestamp >= from && state.previousTimestamp <= to) {
+                cpuUsages.add(new CpuUsage(block.firstId + i,
+                        Double.longBitsToDouble(state.previousValueBits),
+                        toLocalDateTime(state.previousTimestamp)));
+            }
+        }
+        return cpuUsages;
+    }
+
+    private ActiveBlock ensureActiveBlock() throws IOException {
+        if (activeBlock != null) {
+            return activeBlock;
+        }
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.writeOffset + blockReserveBytes > segmentSize) {
+            segment = createSegment(segment == null ? 1 : segment.number + 1);
+        }
+        activeBlock = new ActiveBlock(segment, segment.writeOffset, nextId, new GorillaCodec.State(), 0);
+        return activeBlock;
+    }
+
+    private void sealActiveBlock() {
+        ActiveBlock block = activeBlock;
+        sealedBlocks.add(block.snapshot());
+        block.segment.writeOffset = block.offset + BLOCK_HEADER_BYTES + (int) ((block.writer.getBitPosition() + 7) / 8);
+        activeBlock = null;
+    }
+
+    // 배치 시작 위치로 되돌림 : 새로 시작한 블록은 magic 을 지우고, 이어 쓰던 블록은 헤더를 되돌리고, 새 세그먼트 파일은 삭제
+    private void truncateTo(AppendMark mark) {
+        List<BlockRef> appended = new ArrayList<>(sealedBlocks.subList(mark.sealedCount, sealedBlocks.size()));
+        if (activeBlock != null) {
+            appended.add(activeBlock.snapshot());
+        }
+        for (BlockRef block : appended) {
+            if (mark.active == null || block.buffer() != mark.active.buffer() || block.offset() != mark.active.offset()) {
+                block.buffer().putInt(block.offset(), 0);
+            }
+        }
+        sealedBlocks.subList(mark.sealedCount, sealedBlocks.size()).clear();
+        activeBlock = null;
+        if (mark.active != null) {
+            activeBlock = resume(mark.activeSegment, mark.active, mark.activeBitLength);
+            activeBlock.writeHeader();
+        }
+        if (mark.lastSegment != null) {
+            mark.lastSegment.writeOffset = mark.lastSegmentWriteOffset;
+        }
+        while (segments.size() > mark.segmentCount) {
+            Segment segment = segments.remove(segments.size() - 1);
+            try {
+                segment.channel.close();
+                Files.deleteIfExists(segmentPath(segment.number));
+            } catch (IOException e) {
+                log.warn("Failed to delete segment file {} after failed append: {}", segment.number, e.getMessage());
+            }
+        }
+        nextId = mark.nextId;
+        log.warn("Segment append failed, truncated back to id {}", mark.nextId);
+    }
+
+    // 세그먼트 파일들의 블록 헤더를 읽어 색인 재구성, 마지막 미완성 블록은 인코더 상태를 복구해 이어서 기록
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().matches("segment-\\d{8}\\.seg"))
+                    .sorted()
+                    .toList();
+        }
+        long samples = 0;
+        for (Path file : files) {
+            int number = Integer.parseInt(file.getFileName().toString().substring(8, 16));
+            Segment segment = openSegment(file, number);
+            segments.add(segment);
+
+            int offset = SEGMENT_HEADER_BYTES;
+            while (offset + BLOCK_HEADER_BYTES <= segmentSize && segment.buffer.getInt(offset) == BLOCK_MAGIC) {
+                int count = segment.buffer.getInt(offset + BLOCK_COUNT);
+                long bitLength = segment.buffer.getLong(offset + BLOCK_BIT_LENGTH);
+                long firstId = segment.buffer.getLong(offset + BLOCK_FIRST_ID);
+                long minTimestamp = segment.buffer.getLong(offset + BLOCK_MIN_TIMESTAMP);
+                long maxTimestamp = segment.buffer.getLong(offset + BLOCK_MAX_TIMESTAMP);
+                BlockRef block = new BlockRef(segment.buffer, offset, count, firstId, minTimestamp, maxTimestamp);
+                nextId = Math.max(nextId, firstId + count);
+                samples += count;
+                // 뒤에 블록이 더 있으면 앞의 미완성 블록은 더 이상 기록하지 않음
+                if (activeBlock != null) {
+                    sealedBlocks.add(activeBlock.snapshot());
+                    activeBlock = null;
+                }
+                if (count < blockSize) {
+                    activeBlock = resume(segment, block, bitLength);
+                } else {
+                    sealedBlocks.add(block);
+                }
+                offset += BLOCK_HEADER_BYTES + (int) ((bitLength + 7) / 8);
+                segment.writeOffset = offset;
+            }
+        }
+        log.info("Embedded CPU usage store opened: {} segments, {} samples in {}", segments.size(), samples, directory);
+    }
+
+    private ActiveBlock resume(Segment segment, BlockRef block, long bitLength) {
+        BitReader reader = new BitReader(segment.buffer, block.offset + BLOCK_HEADER_BYTES);
+        GorillaCodec.State state = new GorillaCodec.State();
+        for (int i = 0; i < block.count; i++) {
+            GorillaCodec.decode(reader, state);
+        }
+        ActiveBlock active = new ActiveBlock(segment, block.offset, block.firstId, state, bitLength);
+        active.minTimestamp = block.minTimestamp;
+        active.maxTimestamp = block.maxTimestamp;
+        return active;
+    }
+
+    private Segment createSegment(int number) throws IOException {
+        Segment segment = openSegment(segmentPath(number), number);
+        segment.buffer.putInt(0, SEGMENT_MAGIC);
+        segment.buffer.putInt(4, SEGMENT_VERSION);
+        segments.add(segment);
+        return segment;
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("segment-%08d.seg", number));
+    }
+
+    private Segment openSegment(Path file, int number) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        if (channel.size() > SEGMENT_HEADER_BYTES && buffer.getInt(0) != 0 && buffer.getInt(0) != SEGMENT_MAGIC) {
+            channel.close();
+            throw new IOException("Not a CPU usage segment file: " + file);
+        }
+        return new Segment(number, channel, buffer);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static final class Segment {
+        private final int number;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writeOffset = SEGMENT_HEADER_BYTES;
+
+        private Segment(int number, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    // 배치 시작 시점의 기록 위치
+    private final class AppendMark {
+        private final int segmentCount = segments.size();
+        private final int sealedCount = sealedBlocks.size();
+        private final long nextId = SegmentFileCpuUsageStore.this.nextId;
+        private final Segment lastSegment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        private final int lastSegmentWriteOffset = lastSegment == null ? 0 : lastSegment.writeOffset;
+        private final Segment activeSegment = activeBlock == null ? null : activeBlock.segment;
+        private final BlockRef active = activeBlock == null ? null : activeBlock.snapshot();
+        private final long activeBitLength = activeBlock == null ? 0 : activeBlock.writer.getBitPosition();
+    }
+
+    // 봉인된 블록 또는 기록 중인 블록의 특정 시점 스냅샷 (불변)
+    private record BlockRef(MappedByteBuffer buffer, int offset, int count, long firstId,
+                            long minTimestamp, long maxTimestamp) {
+    }
+
+    private static final class ActiveBlock {
+        private final Segment segment;
+        private final int offset;
+        private final long firstId;
+        private final GorillaCodec.State state;
+        private final BitWriter writer;
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+
+        private ActiveBlock(Segment segment, int offset, long firstId, GorillaCodec.State state, long bitLength) {
+            this.segment = segment;
+            this.offset = offset;
+            this.firstId = firstId;
+            this.state = state;
+            this.writer = new BitWriter(segment.buffer, offset + BLOCK_HEADER_BYTES, bitLength);
+        }
+
+        // 본문 기록 후 헤더 갱신, magic 은 마지막에 기록해 본문 없는 블록이 보이지 않도록 함
+        private void writeHeader() {
+            segment.buffer.putInt(offset + BLOCK_COUNT, state.count);
+            segment.buffer.putLong(offset + BLOCK_BIT_LENGTH, writer.getBitPosition());
+            segment.buffer.putLong(offset + BLOCK_FIRST_ID, firstId);
+            segment.buffer.putLong(offset + BLOCK_MIN_TIMESTAMP, minTimestamp);
+            segment.buffer.putLong(offset + BLOCK_MAX_TIMESTAMP, maxTimestamp);
+            segment.buffer.putInt(offset, BLOCK_MAGIC);
+        }
+
+        private BlockRef snapshot() {
+            return new BlockRef(segment.buffer, offset, state.count, firstId, minTimestamp, maxTimestamp);
+        }
+    }
+}
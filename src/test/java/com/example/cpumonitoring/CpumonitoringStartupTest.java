@@ -0,0 +1,90 @@
+package com.example.cpumonitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 시작 시간 회귀 확인
+ * - 빈 초기화 중 블로킹 작업(수집 대기, DB 적재)이 다시 들어오면 해당 빈의 자체 초기화 시간이 기준을 넘음
+ * - 컨텍스트 준비(ApplicationStartedEvent) 후 run 반환까지 (runner, 모든 ApplicationReadyEvent 리스너)도 막지 않아야 함
+ *   (ready 리스너끼리는 실행 순서가 정해져 있지 않으므로 리스너 안이 아닌 run 반환 시각으로 측정, 부하가 있는 CI 를 고려해 넉넉한 기준)
+ * - 전체 시작 시간(run 반환까지)은 단일 코어 CI 환경(약 20초)을 기준으로 확인
+ */
+@Slf4j
+class CpumonitoringStartupTest {
+    private static final Duration MAX_BEAN_SELF_TIME = Duration.ofSeconds(1);
+    private static final Duration MAX_STARTED_TO_READY = Duration.ofSeconds(5);
+    private static final Duration MAX_TIME_TO_READY = Duration.ofSeconds(25);
+
+    @Test
+    @DisplayName("시작 시간 - 빈 초기화가 시작 스레드를 막지 않음")
+    void testStartupTime() {
+        // Given
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(20000);
+        SpringApplication application = new SpringApplication(CpumonitoringApplication.class);
+        application.setApplicationStartup(applicationStartup);
+        AtomicLong contextStartedAt = new AtomicLong();
+        application.addListeners((ApplicationListener<ApplicationStartedEvent>) event ->
+                contextStartedAt.set(System.nanoTime()));
+
+        // When
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = application.run("--server.port=0")) {
+            // run 은 모든 ApplicationReadyEvent 리스너가 끝난 뒤 반환
+            long readyAt = System.nanoTime();
+            Duration timeToReady = Duration.ofNanos(readyAt - startedAt);
+            Duration startedToReady = Duration.ofNanos(readyAt - contextStartedAt.get());
+            List<StartupTimeline.TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+            log.info("Time to ready: {} ms ({} ms after context started)", timeToReady.toMillis(), startedToReady.toMillis());
+
+            // Then
+            for (String beanName : List.of("cpuUsageService", "cpuUsageWriteBuffer", "cpuUsageCollector")) {
+                Duration selfTime = beanSelfTime(events, beanName);
+                log.info("Bean {} initialized in {} ms (excluding dependencies)", beanName, selfTime.toMillis());
+                assertTrue(selfTime.compareTo(MAX_BEAN_SELF_TIME) < 0,
+                        beanName + " took " + selfTime.toMillis() + " ms to initialize");
+            }
+            assertTrue(startedToReady.compareTo(MAX_STARTED_TO_READY) < 0,
+                    "runners and ready listeners took " + startedToReady.toMillis() + " ms");
+            assertTrue(timeToReady.compareTo(MAX_TIME_TO_READY) < 0,
+                    "application took " + timeToReady.toMillis() + " ms to become ready");
+        }
+    }
+
+    // 빈 생성 단계 시간에서 그 안에서 생성된 의존 빈 시간을 뺀 값
+    private static Duration beanSelfTime(List<StartupTimeline.TimelineEvent> events, String beanName) {
+        StartupTimeline.TimelineEvent bean = events.stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .filter(event -> beanName.equals(tag(event.getStartupStep(), "beanName")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("bean not instantiated: " + beanName));
+        Duration children = events.stream()
+                .filter(event -> Long.valueOf(bean.getStartupStep().getId()).equals(event.getStartupStep().getParentId()))
+                .map(StartupTimeline.TimelineEvent::getDuration)
+                .reduce(Duration.ZERO, Duration::plus);
+        return bean.getDuration().minus(children);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> key.equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+}
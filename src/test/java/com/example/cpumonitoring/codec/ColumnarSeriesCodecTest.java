@@ -0,0 +1,64 @@
+package com.example.cpumonitoring.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.example.cpumonitoring.codec.ColumnarSeriesFormat.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarSeriesCodecTest {
+
+    @Test
+    @DisplayName("시각, 사용률 컬럼 기록 후 읽기")
+    void testWriteAndRead() throws IOException {
+        // Given
+        long[] timestamps = {1_716_703_860L, 1_716_703_920L, 1_716_703_980L, 1_716_704_045L, 1_716_704_100L};
+        double[] usages = {4.67, 9.41, 0.0, 100.0, 21.4};
+        double[] minUsages = {1.5, Double.NaN, 0.0, 99.99, 700.0};
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarSeriesWriter writer = new ColumnarSeriesWriter(out);
+        writer.writeHeader(KIND_MINUTE, 1_716_703_800L, 1_716_704_400L, timestamps.length, 2);
+        writer.writeTimestamps(timestamps, timestamps.length);
+        writer.writeColumn(COLUMN_USAGE, usages, usages.length);
+        writer.writeColumn(COLUMN_MIN, minUsages, minUsages.length);
+
+        ColumnarSeries series = new ColumnarSeriesReader(new ByteArrayInputStream(out.toByteArray())).read();
+
+        // Then
+        assertEquals(KIND_MINUTE, series.getKind());
+        assertEquals(1_716_703_800L, series.getRangeStart());
+        assertEquals(1_716_704_400L, series.getRangeEnd());
+        assertArrayEquals(timestamps, series.getEpochSeconds());
+        assertArrayEquals(usages, series.getColumns().get(COLUMN_USAGE), 1e-9);
+        double[] decodedMin = series.getColumns().get(COLUMN_MIN);
+        assertEquals(1.5, decodedMin[0]);
+        assertTrue(Double.isNaN(decodedMin[1]));
+        assertEquals(655.34, decodedMin[4]); // 범위 밖 값은 최대값으로 제한
+    }
+
+    @Test
+    @DisplayName("일정 간격 시각 : 세 번째 값부터 1바이트")
+    void testWriteTimestamps_regularIntervalIsCompact() throws IOException {
+        // Given
+        int count = 10_080; // 1주 분 단위
+        long[] timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            timestamps[i] = 1_716_681_600L + i * 60L;
+        }
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ColumnarSeriesWriter(out).writeTimestamps(timestamps, count);
+
+        // Then : 첫 시각(5바이트) + 첫 간격(1바이트) + 나머지 간격 변화량(각 1바이트)
+        assertEquals(5 + 1 + (count - 2), out.size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.cpumonitoring.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CgroupCpuReaderTest {
+
+    @TempDir
+    Path cgroupRoot;
+
+    @Test
+    @DisplayName("가짜 cgroup v2 트리로 사용률, throttling, PSI 계산")
+    void testReadAndTakeStats() throws Exception {
+        // Given : 0.5 CPU 할당
+        Files.writeString(cgroupRoot.resolve("cpu.max"), "50000 100000\n");
+        writeCpuStat(1_000_000, 10, 200_000);
+        writeCpuPressure(5_000_000);
+
+        try (CgroupCpuReader reader = new CgroupCpuReader(cgroupRoot.toString())) {
+            // When : 첫 수집은 비교 대상이 없음
+            assertEquals(-1, reader.read());
+            assertNull(reader.takeStats());
+
+            Thread.sleep(20);
+            writeCpuStat(1_005_000, 13, 250_000);
+            writeCpuPressure(5_001_000);
+            double usage = reader.read();
+            CgroupCpuStats stats = reader.takeStats();
+
+            // Then
+            assertTrue(usage > 0);
+            assertNotNull(stats);
+            assertEquals(3, stats.getThrottledPeriods());
+            assertEquals(50_000, stats.getThrottledUsec());
+            assertNotNull(stats.getCpuPressure());
+            assertTrue(stats.getCpuPressure() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("cpu.pressure 가 없으면 PSI 는 null")
+    void testWithoutPressure() throws Exception {
+        // Given : 할당량 제한 없음
+        Files.writeString(cgroupRoot.resolve("cpu.max"), "max 100000\n");
+        writeCpuStat(1_000, 0, 0);
+
+        try (CgroupCpuReader reader = new CgroupCpuReader(cgroupRoot.toString())) {
+            // When
+            reader.read();
+            reader.takeStats();
+            writeCpuStat(2_000, 0, 0);
+            reader.read();
+            CgroupCpuStats stats = reader.takeStats();
+
+            // Then
+            assertEquals(0, stats.getThrottledPeriods());
+            assertNull(stats.getCpuPressure());
+        }
+    }
+
+    private void writeCpuStat(long usageUsec, long nrThrottled, long throttledUsec) throws Exception {
+        Files.writeString(cgroupRoot.resolve("cpu.stat"),
+                "usage_usec " + usageUsec + "\n" +
+                "user_usec " + usageUsec / 2 + "\n" +
+                "system_usec " + usageUsec / 2 + "\n" +
+                "nr_periods 100\n" +
+                "nr_throttled " + nrThrottled + "\n" +
+                "throttled_usec " + throttledUsec + "\n");
+    }
+
+    private void writeCpuPressure(long someTotal) throws Exception {
+        Files.writeString(cgroupRoot.resolve("cpu.pressure"),
+                "some avg10=1.50 avg60=0.80 avg300=0.20 total=" + someTotal + "\n" +
+                "full avg10=0.00 avg60=0.00 avg300=0.00 total=0\n");
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpuUsageBroadcasterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CpuUsageBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 구독자 : 버퍼가 가득 차면 가장 오래된 이벤트를 버리고 최신 이벤트만 전달")
+    void testPublishDropsOldestWhenBufferFull() throws Exception {
+        // Given
+        broadcaster = new CpuUsageBroadcaster(objectMapper, 2, 60_000, 1, 60_000);
+        RecordingEmitter emitter = new RecordingEmitter(true);
+        broadcaster.subscribe(emitter);
+        broadcaster.publish(newCpuUsage(1));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 2; i <= 5; i++) {
+            broadcaster.publish(newCpuUsage(i));
+        }
+        emitter.release.countDown();
+
+        // Then
+        awaitUntil(() -> emitter.eventIds().size() == 3);
+        assertEquals(List.of("1", "4", "5"), emitter.eventIds());
+        assertEquals(5, broadcaster.getStats().getPublishedEvents());
+        assertEquals(2, broadcaster.getStats().getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("전송 실패(연결 끊김) 구독자는 구독 해제")
+    void testPublishRemovesDisconnectedSubscriber() {
+        // Given
+        broadcaster = new CpuUsageBroadcaster(objectMapper, 2, 60_000, 1, 60_000);
+        broadcaster.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        broadcaster.subscribe(healthy);
+
+        // When
+        broadcaster.publish(newCpuUsage(1));
+
+        // Then
+        awaitUntil(() -> broadcaster.getStats().getConnectedClients() == 1);
+        awaitUntil(() -> healthy.eventIds().size() == 1);
+        assertEquals(0, broadcaster.getStats().getStalledClients());
+    }
+
+    @Test
+    @DisplayName("전송이 send-timeout 넘게 막힌 구독자는 끊고, 전송 스레드를 돌려받아 다른 구독자에게 계속 전달")
+    void testEvictStalledSubscribers() throws Exception {
+        // Given : 전송 스레드 1개를 막힌 구독자가 잡고 있음
+        broadcaster = new CpuUsageBroadcaster(objectMapper, 2, 60_000, 1, 50);
+        RecordingEmitter stalled = new RecordingEmitter(true);
+        broadcaster.subscribe(stalled);
+        broadcaster.publish(newCpuUsage(1));
+        assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        broadcaster.subscribe(healthy);
+        broadcaster.publish(newCpuUsage(2));
+        Thread.sleep(100);
+
+        // When
+        broadcaster.evictStalledSubscribers();
+
+        // Then
+        assertTrue(stalled.interrupted.await(5, TimeUnit.SECONDS));
+        awaitUntil(() -> healthy.eventIds().size() == 1);
+        assertEquals(List.of("2"), healthy.eventIds());
+        assertEquals(1, broadcaster.getStats().getConnectedClients());
+        assertEquals(1, broadcaster.getStats().getStalledClients());
+    }
+
+    private static CpuUsage newCpuUsage(int minute) {
+        return new CpuUsage(10.0 + minute, LocalDateTime.of(2024, 5, 26, 0, minute));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    // 전송한 이벤트를 기록, blocking 이면 첫 전송을 release 까지 막음 (소켓 쓰기가 막힌 느린 클라이언트)
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        RecordingEmitter(boolean blocking) {
+            this.release = new CountDownLatch(blocking ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                if (!release.await(10, TimeUnit.SECONDS)) {
+                    throw new IOException("send timed out");
+                }
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("send interrupted", e);
+            }
+            events.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        List<String> eventIds() {
+            return events.stream()
+                    .map(event -> event.substring("id:".length(), event.indexOf('\n')))
+                    .collect(Collectors.toList());
+        }
+    }
+}
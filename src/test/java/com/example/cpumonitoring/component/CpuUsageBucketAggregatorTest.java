@@ -0,0 +1,112 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.UsageHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpuUsageBucketAggregatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 26, 6, 0);
+
+    @Test
+    @DisplayName("시간 버킷별 최소/최대/평균/건수와 사용률 분포")
+    void testAdd_hourBuckets() {
+        // Given
+        CpuUsageBucketAggregator aggregator = new CpuUsageBucketAggregator(
+                START.plusMinutes(30), START.plusHours(3), Duration.ofHours(1), true);
+        aggregator.add(new CpuUsage(10, START.plusMinutes(40)));
+        aggregator.add(new CpuUsage(30, START.plusMinutes(59)));
+        aggregator.add(new CpuUsage(80, START.plusHours(2).plusMinutes(1)));
+
+        // When
+        List<CpuUsageBucketStats> stats = aggregator.toBucketStats();
+
+        // Then : 시작 시각은 정시로 내림, 사용률이 없는 07시 버킷은 제외
+        assertEquals(2, stats.size());
+        assertEquals(START, stats.get(0).getBucket());
+        assertEquals(10, stats.get(0).getMinUsage());
+        assertEquals(30, stats.get(0).getMaxUsage());
+        assertEquals(20, stats.get(0).getAverageUsage());
+        assertEquals(40, stats.get(0).getSumUsage());
+        assertEquals(2, stats.get(0).getSampleCount());
+        assertEquals(2, stats.get(0).getHistogram().getTotal());
+        assertEquals(START.plusHours(2), stats.get(1).getBucket());
+        assertEquals(80, stats.get(1).getAverageUsage());
+    }
+
+    @Test
+    @DisplayName("분 단위 최소/최대 요약은 버킷 최소/최대에 반영")
+    void testAdd_minuteSummary() {
+        // Given
+        CpuUsageBucketAggregator aggregator = new CpuUsageBucketAggregator(
+                START, START.plusMinutes(59), Duration.ofMinutes(15), false);
+        CpuUsage minute = new CpuUsage(50, START.plusMinutes(1));
+        minute.summarize(5, 95, 60);
+        aggregator.add(minute);
+        aggregator.add(new CpuUsage(30, START.plusMinutes(2)));
+
+        // When
+        List<CpuUsageBucketStats> stats = aggregator.toBucketStats();
+
+        // Then
+        assertEquals(1, stats.size());
+        assertEquals(5, stats.get(0).getMinUsage());
+        assertEquals(95, stats.get(0).getMaxUsage());
+        assertEquals(40, stats.get(0).getAverageUsage());
+        assertNull(stats.get(0).getHistogram());
+    }
+
+    @Test
+    @DisplayName("구간 밖 사용률은 버림")
+    void testAdd_outOfRange() {
+        // Given
+        CpuUsageBucketAggregator aggregator = new CpuUsageBucketAggregator(
+                START, START.plusHours(1).minusSeconds(1), Duration.ofHours(1), false);
+
+        // When & Then
+        assertFalse(aggregator.add(new CpuUsage(10, START.minusSeconds(1))));
+        assertFalse(aggregator.add(new CpuUsage(10, START.plusHours(1))));
+        assertTrue(aggregator.add(new CpuUsage(10, START.plusMinutes(59))));
+        assertEquals(1, aggregator.toBucketStats().size());
+    }
+
+    @Test
+    @DisplayName("집계된 값 병합 후 전체 합치기 : 최소/최대/합계/건수와 사용률 분포")
+    void testMergeAndTotal() {
+        // Given
+        CpuUsageBucketAggregator aggregator = new CpuUsageBucketAggregator(
+                START, START.plusDays(2), Duration.ofDays(1), true);
+        UsageHistogram first = new UsageHistogram();
+        first.add(10);
+        first.add(30);
+        UsageHistogram second = new UsageHistogram();
+        second.add(90);
+
+        // When
+        assertTrue(aggregator.merge(START.toEpochSecond(ZoneOffset.UTC), 10, 30, 40, 2, first));
+        assertTrue(aggregator.merge(START.plusDays(1).toEpochSecond(ZoneOffset.UTC), 90, 90, 90, 1, second));
+        assertFalse(aggregator.merge(START.plusDays(1).toEpochSecond(ZoneOffset.UTC), 0, 0, 0, 0, null));
+        CpuUsageBucketStats total = aggregator.total();
+
+        // Then
+        assertEquals(START.toLocalDate().atStartOfDay(), total.getBucket());
+        assertEquals(10, total.getMinUsage());
+        assertEquals(90, total.getMaxUsage());
+        assertEquals(130, total.getSumUsage());
+        assertEquals(3, total.getSampleCount());
+        assertEquals(3, total.getHistogram().getTotal());
+        assertNull(new CpuUsageBucketAggregator(START, START.plusDays(2), Duration.ofDays(1), true).total());
+    }
+}
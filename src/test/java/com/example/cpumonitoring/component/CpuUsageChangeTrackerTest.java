@@ -0,0 +1,63 @@
+package com.example.cpumonitoring.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CpuUsageChangeTrackerTest {
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 26);
+
+    private final CpuUsageChangeTracker tracker = new CpuUsageChangeTracker();
+
+    @Test
+    @DisplayName("끝난 구간 : 새 사용률이 저장되어도 ETag 유지")
+    void testETag_closedRangeStable() {
+        // Given
+        tracker.samplesStored(TODAY.atTime(10, 0), TODAY.atTime(10, 0));
+        String eTag = tracker.eTag("hour", TODAY.minusDays(3), TODAY.minusDays(1));
+
+        // When
+        tracker.samplesStored(TODAY.atTime(10, 1), TODAY.atTime(10, 1));
+
+        // Then
+        assertEquals(eTag, tracker.eTag("hour", TODAY.minusDays(3), TODAY.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("오늘이 포함된 구간 : 새 사용률마다 ETag 변경")
+    void testETag_openRangeChanges() {
+        // Given
+        tracker.samplesStored(TODAY.atTime(10, 0), TODAY.atTime(10, 0));
+        String eTag = tracker.eTag("hour", TODAY, TODAY);
+
+        // When
+        tracker.samplesStored(TODAY.atTime(10, 1), TODAY.atTime(10, 1));
+
+        // Then
+        assertNotEquals(eTag, tracker.eTag("hour", TODAY, TODAY));
+        assertNotEquals(tracker.eTag("hour", TODAY, TODAY), tracker.eTag("day", TODAY, TODAY));
+    }
+
+    @Test
+    @DisplayName("최신 사용률 이전 시각의 늦은 저장, 집계 다시 계산 : 끝난 구간 ETag 도 변경")
+    void testETag_lateSamplesAndRebuildChangeClosedRange() {
+        // Given
+        LocalDateTime yesterday = TODAY.minusDays(1).atTime(23, 59);
+        tracker.samplesStored(TODAY.atTime(10, 0), TODAY.atTime(10, 0));
+        String eTag = tracker.eTag("day", TODAY.minusDays(3), TODAY.minusDays(1));
+
+        // When
+        tracker.samplesStored(yesterday, TODAY.atTime(10, 1));
+
+        // Then
+        String afterLateSample = tracker.eTag("day", TODAY.minusDays(3), TODAY.minusDays(1));
+        assertNotEquals(eTag, afterLateSample);
+        tracker.changed();
+        assertNotEquals(afterLateSample, tracker.eTag("day", TODAY.minusDays(3), TODAY.minusDays(1)));
+    }
+}
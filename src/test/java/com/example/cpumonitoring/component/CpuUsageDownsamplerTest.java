@@ -0,0 +1,84 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageRangePoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpuUsageDownsamplerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 26, 6, 0);
+
+    @Test
+    @DisplayName("step : step 배수 시각 버킷별 최소/최대/평균")
+    void testStepDownsampler() {
+        // Given
+        StepDownsampler downsampler = new StepDownsampler(Duration.ofMinutes(5));
+        double[] usages = {10, 20, 30, 40, 50, 60, 70};
+        for (int i = 0; i < usages.length; i++) {
+            downsampler.accept(new CpuUsage(usages[i], START.plusMinutes(3 + i)));
+        }
+
+        // When
+        List<CpuUsageRangePoint> points = downsampler.finish();
+
+        // Then : 06:03 ~ 06:04 -> 06:00 버킷, 06:05 ~ 06:09 -> 06:05 버킷
+        assertEquals(2, points.size());
+        assertEquals(START, points.get(0).getTimestamp());
+        assertEquals(15, points.get(0).getCpuUsage());
+        assertEquals(2, points.get(0).getSampleCount());
+        assertEquals(START.plusMinutes(5), points.get(1).getTimestamp());
+        assertEquals(50, points.get(1).getCpuUsage());
+        assertEquals(30, points.get(1).getMinUsage());
+        assertEquals(70, points.get(1).getMaxUsage());
+    }
+
+    @Test
+    @DisplayName("LTTB : 최대 포인트 수 이내, 첫/마지막 포함, 급등 지점 보존")
+    void testLttbDownsampler_keepsSpikes() {
+        // Given
+        int minutes = 7 * 24 * 60;
+        LocalDateTime end = START.plusMinutes(minutes - 1);
+        LttbDownsampler downsampler = new LttbDownsampler(START, end, 100);
+        for (int i = 0; i < minutes; i++) {
+            double usage = i == 5000 ? 97.5 : 10 + (i % 7);
+            downsampler.accept(new CpuUsage(usage, START.plusMinutes(i)));
+        }
+
+        // When
+        List<CpuUsageRangePoint> points = downsampler.finish();
+
+        // Then
+        assertTrue(points.size() <= 100);
+        assertEquals(START, points.get(0).getTimestamp());
+        assertEquals(end, points.get(points.size() - 1).getTimestamp());
+        assertTrue(points.stream().anyMatch(point -> point.getCpuUsage() == 97.5));
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i - 1).getTimestamp().isBefore(points.get(i).getTimestamp()));
+        }
+    }
+
+    @Test
+    @DisplayName("LTTB : 포인트 수보다 적은 데이터는 그대로 반환")
+    void testLttbDownsampler_fewSamples() {
+        // Given
+        LttbDownsampler downsampler = new LttbDownsampler(START, START.plusMinutes(10), 100);
+        downsampler.accept(new CpuUsage(5, START));
+        downsampler.accept(new CpuUsage(15, START.plusMinutes(5)));
+        downsampler.accept(new CpuUsage(25, START.plusMinutes(10)));
+
+        // When
+        List<CpuUsageRangePoint> points = downsampler.finish();
+
+        // Then
+        assertEquals(3, points.size());
+        assertEquals(15, points.get(1).getCpuUsage());
+    }
+}
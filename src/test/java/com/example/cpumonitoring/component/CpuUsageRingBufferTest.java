@@ -0,0 +1,72 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CpuUsageRingBufferTest {
+    private final LocalDateTime base = LocalDateTime.of(2024, 5, 27, 0, 0);
+
+    @Test
+    @DisplayName("초기 적재 후 구간 조회")
+    void testFindBetween() {
+        // Given
+        CpuUsageRingBuffer ringBuffer = new CpuUsageRingBuffer(10);
+        ringBuffer.load(samples(0, 5), base);
+
+        // When
+        List<CpuUsage> result = ringBuffer.findBetween(base.plusMinutes(1), base.plusMinutes(3));
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(base.plusMinutes(1), result.get(0).getTimestamp());
+        assertEquals(base.plusMinutes(3), result.get(2).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("적재 구간 이전은 버퍼에서 응답하지 않음")
+    void testNotCoveredBeforeLoad() {
+        // Given
+        CpuUsageRingBuffer ringBuffer = new CpuUsageRingBuffer(10);
+        ringBuffer.load(samples(0, 5), base);
+
+        // When, Then
+        assertNull(ringBuffer.findBetween(base.minusMinutes(1), base.plusMinutes(3)));
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 가장 오래된 데이터 덮어씀")
+    void testAppendWrapsAround() {
+        // Given
+        CpuUsageRingBuffer ringBuffer = new CpuUsageRingBuffer(4);
+        ringBuffer.load(new ArrayList<>(), base);
+
+        // When
+        for (CpuUsage usage : samples(0, 6)) {
+            ringBuffer.append(usage);
+        }
+
+        // Then
+        assertNull(ringBuffer.findBetween(base.plusMinutes(1), base.plusMinutes(5)));
+        List<CpuUsage> result = ringBuffer.findBetween(base.plusMinutes(2), base.plusMinutes(10));
+        assertEquals(4, result.size());
+        assertEquals(base.plusMinutes(2), result.get(0).getTimestamp());
+        assertEquals(5.0, result.get(3).getCpuUsage());
+    }
+
+    private List<CpuUsage> samples(int from, int count) {
+        List<CpuUsage> samples = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            samples.add(new CpuUsage((long) i + 1, i, base.plusMinutes(i)));
+        }
+        return samples;
+    }
+}
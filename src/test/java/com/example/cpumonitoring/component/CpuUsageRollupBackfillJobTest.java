@@ -0,0 +1,76 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.service.CpuUsageRollupService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CpuUsageRollupBackfillJobTest {
+    @Mock
+    private CpuUsageRollupService cpuUsageRollupService;
+
+    @Mock
+    private CpuUsageWriteBuffer cpuUsageWriteBuffer;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private CpuUsageRollupBackfillJob cpuUsageRollupBackfillJob;
+
+    @Test
+    @DisplayName("시작 시 다시 계산은 스케쥴러 스레드에 맡기고 시작 스레드에서는 실행하지 않음")
+    void testBackfillOnStartup_runsOffThread() {
+        // Given
+        ReflectionTestUtils.setField(cpuUsageRollupBackfillJob, "backfillOnStartup", true);
+
+        // When
+        cpuUsageRollupBackfillJob.backfillOnStartup();
+
+        // Then
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(cpuUsageRollupService);
+    }
+
+    @Test
+    @DisplayName("집계가 없는 지난 날짜만 다시 계산, 오늘은 저장 스레드를 멈춘 상태에서 다시 계산")
+    @SuppressWarnings("unchecked")
+    void testBackfill() {
+        // Given
+        LocalDate today = LocalDate.now();
+        when(cpuUsageRollupService.findOldestSampleDate()).thenReturn(today.minusDays(2));
+        when(cpuUsageRollupService.hasDayRollup(today.minusDays(2))).thenReturn(true);
+        when(cpuUsageRollupService.hasDayRollup(today.minusDays(1))).thenReturn(false);
+        when(cpuUsageWriteBuffer.whileWriterPaused(any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(0)).get());
+
+        // When
+        cpuUsageRollupBackfillJob.backfill();
+
+        // Then
+        verify(cpuUsageRollupService, never()).rebuildDay(today.minusDays(2));
+        InOrder order = inOrder(cpuUsageRollupService, cpuUsageWriteBuffer);
+        order.verify(cpuUsageRollupService).rebuildDay(today.minusDays(1));
+        order.verify(cpuUsageWriteBuffer).whileWriterPaused(any(Supplier.class));
+        order.verify(cpuUsageRollupService).rebuildDay(today);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.service.CpuUsageBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CpuUsageWriteBufferTest {
+    @Mock
+    private CpuUsageBatchWriter cpuUsageBatchWriter;
+
+    @Mock
+    private CpuUsageRingBuffer cpuUsageRingBuffer;
+
+    private CpuUsageWriteBuffer cpuUsageWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        // 저장 스레드를 시작하지 않고 flush 를 직접 호출
+        cpuUsageWriteBuffer = newBuffer(4, CpuUsageWriteBuffer.OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test
+    @DisplayName("추가는 저장을 기다리지 않고, flush 에서 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void testAddDoesNotWrite() {
+        // When
+        cpuUsageWriteBuffer.add(new CpuUsage(1.0, LocalDateTime.now()));
+        cpuUsageWriteBuffer.add(new CpuUsage(2.0, LocalDateTime.now()));
+        cpuUsageWriteBuffer.add(new CpuUsage(3.0, LocalDateTime.now()));
+        verify(cpuUsageBatchWriter, never()).writeBatch(anyList());
+        cpuUsageWriteBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter, times(1)).writeBatch(batchCaptor.capture());
+        assertEquals(3, batchCaptor.getValue().size());
+        verify(cpuUsageRingBuffer, times(3)).append(any(CpuUsage.class));
+        assertEquals(0, cpuUsageWriteBuffer.getStats().getQueued());
+        assertEquals(3, cpuUsageWriteBuffer.getStats().getPersisted());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 다음 flush 에서 재시도")
+    @SuppressWarnings("unchecked")
+    void testRetryAfterFailure() {
+        // Given
+        doThrow(new RuntimeException("db down")).doNothing().when(cpuUsageBatchWriter).writeBatch(anyList());
+        cpuUsageWriteBuffer.add(new CpuUsage(1.0, LocalDateTime.now()));
+
+        // When
+        cpuUsageWriteBuffer.flush();
+        verify(cpuUsageRingBuffer, never()).append(any(CpuUsage.class));
+        cpuUsageWriteBuffer.add(new CpuUsage(2.0, LocalDateTime.now()));
+        cpuUsageWriteBuffer.flush();
+
+        // Then
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter, times(2)).writeBatch(batchCaptor.capture());
+        assertEquals(2, batchCaptor.getValue().size());
+        verify(cpuUsageRingBuffer, times(2)).append(any(CpuUsage.class));
+        assertEquals(1, cpuUsageWriteBuffer.getStats().getFailedBatches());
+    }
+
+    @Test
+    @DisplayName("DB 장애로 가득 찬 경우 - DROP_OLDEST : 가장 오래된 대기 사용률을 버림")
+    @SuppressWarnings("unchecked")
+    void testDropOldestWhenFull() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(cpuUsageWriteBuffer.add(new CpuUsage(i, now.plusMinutes(i))));
+        }
+
+        // When
+        boolean accepted = cpuUsageWriteBuffer.add(new CpuUsage(4, now.plusMinutes(4)));
+        cpuUsageWriteBuffer.flush();
+
+        // Then
+        assertFalse(accepted);
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter).writeBatch(batchCaptor.capture());
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0), batchCaptor.getValue().stream().map(CpuUsage::getCpuUsage).toList());
+        assertEquals(1, cpuUsageWriteBuffer.getStats().getDropped());
+        assertEquals(1, cpuUsageWriteBuffer.getStats().getBackpressureEvents());
+    }
+
+    @Test
+    @DisplayName("DB 장애로 재시도 대기만 남은 경우 - DROP_OLDEST : 재시도 대기의 가장 오래된 사용률을 버림")
+    @SuppressWarnings("unchecked")
+    void testDropOldestFromRetryBacklog() {
+        // Given
+        doThrow(new RuntimeException("db down")).doNothing().when(cpuUsageBatchWriter).writeBatch(anyList());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            cpuUsageWriteBuffer.add(new CpuUsage(i, now.plusMinutes(i)));
+        }
+        cpuUsageWriteBuffer.flush();
+
+        // When
+        boolean accepted = cpuUsageWriteBuffer.add(new CpuUsage(4, now.plusMinutes(4)));
+        cpuUsageWriteBuffer.flush();
+
+        // Then
+        assertFalse(accepted);
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter, times(2)).writeBatch(batchCaptor.capture());
+        assertEquals(List.of(1.0, 2.0, 3.0, 4.0), batchCaptor.getValue().stream().map(CpuUsage::getCpuUsage).toList());
+        assertEquals(1, cpuUsageWriteBuffer.getStats().getDropped());
+        assertEquals(0, cpuUsageWriteBuffer.getStats().getQueued());
+    }
+
+    @Test
+    @DisplayName("DB 장애로 가득 찬 경우 - DROP_NEWEST : 새 사용률을 버림, 재시도 대기도 용량에 포함")
+    @SuppressWarnings("unchecked")
+    void testDropNewestWhenFull() {
+        // Given
+        cpuUsageWriteBuffer = newBuffer(4, CpuUsageWriteBuffer.OverflowPolicy.DROP_NEWEST);
+        doThrow(new RuntimeException("db down")).doNothing().when(cpuUsageBatchWriter).writeBatch(anyList());
+        LocalDateTime now = LocalDateTime.now();
+        cpuUsageWriteBuffer.add(new CpuUsage(0, now));
+        cpuUsageWriteBuffer.add(new CpuUsage(1, now.plusMinutes(1)));
+        cpuUsageWriteBuffer.flush();
+
+        // When
+        cpuUsageWriteBuffer.add(new CpuUsage(2, now.plusMinutes(2)));
+        cpuUsageWriteBuffer.add(new CpuUsage(3, now.plusMinutes(3)));
+        boolean accepted = cpuUsageWriteBuffer.add(new CpuUsage(4, now.plusMinutes(4)));
+        cpuUsageWriteBuffer.flush();
+
+        // Then
+        assertFalse(accepted);
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter, times(2)).writeBatch(batchCaptor.capture());
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0), batchCaptor.getValue().stream().map(CpuUsage::getCpuUsage).toList());
+        assertEquals(1, cpuUsageWriteBuffer.getStats().getDropped());
+        assertEquals(0, cpuUsageWriteBuffer.getStats().getQueued());
+    }
+
+    @Test
+    @DisplayName("DB 장애가 계속되어도 재시도 대기는 용량을 넘지 않음")
+    @SuppressWarnings("unchecked")
+    void testRetryBacklogBoundedByCapacity() {
+        // Given
+        cpuUsageWriteBuffer = newBuffer(4, CpuUsageWriteBuffer.OverflowPolicy.DROP_NEWEST);
+        doThrow(new RuntimeException("db down")).when(cpuUsageBatchWriter).writeBatch(anyList());
+        LocalDateTime now = LocalDateTime.now();
+
+        // When : 장애 중 10분 동안 매 분 추가 후 flush
+        for (int i = 0; i < 10; i++) {
+            cpuUsageWriteBuffer.add(new CpuUsage(i, now.plusMinutes(i)));
+            cpuUsageWriteBuffer.flush();
+        }
+
+        // Then
+        ArgumentCaptor<List<CpuUsage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cpuUsageBatchWriter, times(10)).writeBatch(batchCaptor.capture());
+        assertEquals(4, batchCaptor.getValue().size());
+        assertEquals(4, cpuUsageWriteBuffer.getStats().getQueued());
+        assertEquals(6, cpuUsageWriteBuffer.getStats().getDropped());
+    }
+
+    @Test
+    @DisplayName("whileWriterPaused 작업 중에는 배치 저장이 끝나기를 기다림, 수집(add)은 막지 않음")
+    void testWhileWriterPaused() throws Exception {
+        // Given
+        cpuUsageWriteBuffer.add(new CpuUsage(1.0, LocalDateTime.now()));
+        Thread flusher = new Thread(cpuUsageWriteBuffer::flush);
+
+        // When
+        long rebuilt = cpuUsageWriteBuffer.whileWriterPaused(() -> {
+            flusher.start();
+            try {
+                flusher.join(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertTrue(flusher.isAlive());
+            assertTrue(cpuUsageWriteBuffer.add(new CpuUsage(2.0, LocalDateTime.now())));
+            verify(cpuUsageBatchWriter, never()).writeBatch(anyList());
+            return 42L;
+        });
+        flusher.join(5000);
+
+        // Then
+        assertEquals(42L, rebuilt);
+        assertFalse(flusher.isAlive());
+        verify(cpuUsageBatchWriter, times(1)).writeBatch(anyList());
+        assertEquals(2, cpuUsageWriteBuffer.getStats().getPersisted());
+    }
+
+    private CpuUsageWriteBuffer newBuffer(int capacity, CpuUsageWriteBuffer.OverflowPolicy overflowPolicy) {
+        return new CpuUsageWriteBuffer(cpuUsageBatchWriter, cpuUsageRingBuffer, 3, capacity, 0.75, overflowPolicy, 10000);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.cpumonitoring.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DropOldestBufferTest {
+
+    @Test
+    @DisplayName("용량 이내 : 순서대로 꺼냄")
+    void testOfferAndPoll() {
+        // Given
+        DropOldestBuffer<Integer> buffer = new DropOldestBuffer<>(3);
+
+        // When
+        assertFalse(buffer.offer(1));
+        assertFalse(buffer.offer(2));
+
+        // Then
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("가득 찬 경우 : 가장 오래된 항목을 버림")
+    void testOffer_dropOldestWhenFull() {
+        // Given
+        DropOldestBuffer<Integer> buffer = new DropOldestBuffer<>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        // When
+        boolean dropped = buffer.offer(3);
+
+        // Then
+        assertTrue(dropped);
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+        assertNull(buffer.poll());
+    }
+}
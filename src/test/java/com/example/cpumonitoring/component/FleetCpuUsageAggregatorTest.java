@@ -0,0 +1,60 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.FleetCpuUsageStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FleetCpuUsageAggregatorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 26, 0, 0);
+
+    @Test
+    @DisplayName("시 단위 전체 호스트 통계 : 호스트 평균의 평균, 최대, 임계값을 넘은 호스트 수 (행 순서 무관)")
+    void testAdd_hourStats() {
+        // Given
+        FleetCpuUsageAggregator aggregator = new FleetCpuUsageAggregator(START, START.plusHours(2).minusSeconds(1), 80);
+
+        // When : (호스트, 시) 행별 시, 최대, 합계, 건수
+        aggregator.add(START.plusHours(1), 99, 85 * 60, 60);   // web-02
+        aggregator.add(START, 95, 90 * 60, 60);                // db-01
+        aggregator.add(START, 30, 10 * 60, 60);                // web-01
+        aggregator.add(START.plusHours(1), 70, 60 * 60, 60);   // db-01
+        aggregator.add(START, 40, 20 * 30, 30);                // web-02
+        Map<LocalDateTime, FleetCpuUsageStats> stats = aggregator.toStats();
+
+        // Then
+        assertEquals(2, stats.size());
+        FleetCpuUsageStats first = stats.get(START);
+        assertEquals(3, first.getHosts());
+        assertEquals(40, first.getAverageUsage());
+        assertEquals(95, first.getMaxUsage());
+        assertEquals(1, first.getHostsAbove());
+        FleetCpuUsageStats second = stats.get(START.plusHours(1));
+        assertEquals(2, second.getHosts());
+        assertEquals(72.5, second.getAverageUsage());
+        assertEquals(99, second.getMaxUsage());
+        assertEquals(1, second.getHostsAbove());
+    }
+
+    @Test
+    @DisplayName("구간 밖이거나 건수가 없는 행은 버림, 호스트가 없는 시각은 결과에서 제외")
+    void testAdd_outOfRange() {
+        // Given
+        FleetCpuUsageAggregator aggregator = new FleetCpuUsageAggregator(START, START.plusHours(3).minusSeconds(1), 80);
+
+        // When & Then
+        assertFalse(aggregator.add(START.minusHours(1), 50, 50, 1));
+        assertFalse(aggregator.add(START.plusHours(3), 50, 50, 1));
+        assertFalse(aggregator.add(START, 50, 0, 0));
+        assertTrue(aggregator.add(START.plusHours(2), 50, 50, 1));
+        assertEquals(1, aggregator.toStats().size());
+        assertEquals(1, aggregator.toStats().get(START.plusHours(2)).getHosts());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.cpumonitoring.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HighFrequencyCpuSamplerTest {
+    @Mock
+    private CpuUsageCollector cpuUsageCollector;
+
+    @InjectMocks
+    private HighFrequencyCpuSampler highFrequencyCpuSampler;
+
+    @Test
+    @DisplayName("유효하지 않은 값(음수, null, NaN)은 분 누적에서 제외")
+    void testSampleSkipsInvalidReadings() {
+        // Given
+        when(cpuUsageCollector.collectCpuUsage()).thenReturn(10.0, -1.0, null, Double.NaN, 30.0);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            highFrequencyCpuSampler.sample();
+        }
+        CpuUsageAccumulator minute = highFrequencyCpuSampler.drain();
+
+        // Then
+        assertEquals(2, minute.getSampleCount());
+        assertEquals(10.0, minute.getMinUsage());
+        assertEquals(30.0, minute.getMaxUsage());
+        assertEquals(20.0, minute.getAverageUsage());
+        assertEquals(30.0, minute.getLastUsage());
+        assertTrue(highFrequencyCpuSampler.drain().isEmpty());
+    }
+}
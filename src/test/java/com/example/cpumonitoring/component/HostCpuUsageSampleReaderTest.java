@@ -0,0 +1,70 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.exception.InvalidIngestRequestException;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HostCpuUsageSampleReaderTest {
+    private static final String SAMPLE = "{\"hostId\": \"web-01\", \"timestamp\": \"2024-05-26T06:00:00\", \"cpuUsage\": 12.5}";
+
+    private final HostCpuUsageSampleReader reader = new HostCpuUsageSampleReader(
+            new ObjectMapper().findAndRegisterModules(), 3);
+
+    @Test
+    @DisplayName("JSON 배열의 사용률을 순서대로 읽음 (null 원소는 서비스 검증용으로 유지)")
+    void testRead() throws IOException {
+        // Given
+        InputStream body = body("[" + SAMPLE + ", null]");
+
+        // When
+        List<HostCpuUsageSample> samples = reader.read(body);
+
+        // Then
+        assertEquals(2, samples.size());
+        assertEquals("web-01", samples.get(0).getHostId());
+        assertEquals(LocalDateTime.of(2024, 5, 26, 6, 0), samples.get(0).getTimestamp());
+        assertEquals(12.5, samples.get(0).getCpuUsage());
+        assertNull(samples.get(1));
+    }
+
+    @Test
+    @DisplayName("최대 건수(3)를 넘으면 나머지 본문을 읽지 않고 거절")
+    void testRead_tooManySamples() {
+        // Given : 4번째 원소 뒤는 잘못된 JSON 이지만 읽기 전에 거절되어야 함
+        InputStream body = body("[" + SAMPLE + "," + SAMPLE + "," + SAMPLE + "," + SAMPLE + ", {{{");
+
+        // When
+        InvalidIngestRequestException e = assertThrows(InvalidIngestRequestException.class, () -> reader.read(body));
+
+        // Then
+        assertEquals("Too many samples in one request (max 3).", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("배열이 아니거나 잘못된 JSON 은 400 용 예외로 거절")
+    void testRead_malformedBody() {
+        // When & Then
+        assertThrows(InvalidIngestRequestException.class, () -> reader.read(body(SAMPLE)));
+        assertThrows(InvalidIngestRequestException.class, () -> reader.read(body("")));
+        assertThrows(InvalidIngestRequestException.class, () -> reader.read(body("[" + SAMPLE + ",")));
+        assertThrows(InvalidIngestRequestException.class,
+                () -> reader.read(body("[{\"hostId\": \"web-01\", \"cpuUsage\": \"high\"}]")));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
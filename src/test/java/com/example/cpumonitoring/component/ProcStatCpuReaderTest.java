@@ -0,0 +1,53 @@
+package com.example.cpumonitoring.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProcStatCpuReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("/proc/stat 증가분으로 전체 및 코어별 사용률 계산")
+    void testRead() throws Exception {
+        // Given
+        Path procStat = tempDir.resolve("stat");
+        Files.writeString(procStat,
+                "cpu  100 0 100 800 0 0 0 0 0 0\n" +
+                "cpu0 50 0 50 400 0 0 0 0 0 0\n" +
+                "cpu1 50 0 50 400 0 0 0 0 0 0\n" +
+                "intr 12345 0 0\n" +
+                "ctxt 6789\n");
+
+        try (ProcStatCpuReader reader = new ProcStatCpuReader(procStat.toString())) {
+            // When : 첫 수집은 비교 대상이 없음
+            double first = reader.read();
+
+            // Then
+            assertEquals(-1, first);
+            assertNull(reader.getCoreUsages());
+
+            // When : cpu0 은 100 jiffies 모두 사용, cpu1 은 iowait 포함 모두 유휴
+            Files.writeString(procStat,
+                    "cpu  160 10 130 880 20 0 0 0 0 0\n" +
+                    "cpu0 110 10 80 400 0 0 0 0 0 0\n" +
+                    "cpu1 50 0 50 480 20 0 0 0 0 0\n" +
+                    "intr 12399 0 0\n" +
+                    "ctxt 7000\n");
+            double second = reader.read();
+
+            // Then
+            assertEquals(50.0, second);
+            assertArrayEquals(new double[]{100.0, 0.0}, reader.getCoreUsages());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.CpuUsageStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsBucketCacheTest {
+    private static final Optional<CpuUsageStats> STATS = Optional.of(new CpuUsageStats(10.0, 30.0, 20.0));
+
+    @Test
+    @DisplayName("저장소 조회 후 캐시에 넣기 전에 제거된 버킷은 캐시하지 않음, 다른 버킷은 캐시")
+    void testPutAll_skipsBucketsEvictedDuringLoad() {
+        // Given
+        StatsBucketCache<Integer> cache = new StatsBucketCache<>(10);
+        long generation = cache.generation();
+
+        // When : 조회 중 늦게 저장된 배치가 커밋되어 버킷 1 제거
+        cache.evictAll(List.of(1));
+        cache.putAll(Map.of(1, Optional.empty(), 2, STATS), generation);
+
+        // Then
+        Map<Integer, Optional<CpuUsageStats>> cached = cache.getAll(List.of(1, 2));
+        assertEquals(1, cached.size());
+        assertEquals(STATS, cached.get(2));
+
+        // 제거 후 다시 조회한 값은 캐시
+        cache.putAll(Map.of(1, STATS), cache.generation());
+        assertEquals(STATS, cache.getAll(List.of(1)).get(1));
+    }
+
+    @Test
+    @DisplayName("제거 기록이 용량을 넘어 밀려나면 그 이전 세대에 조회한 값은 캐시하지 않음")
+    void testPutAll_prunedEvictionHistory() {
+        // Given
+        StatsBucketCache<Integer> cache = new StatsBucketCache<>(2);
+        long generation = cache.generation();
+
+        // When : 버킷 1 의 제거 기록이 밀려남
+        cache.evictAll(List.of(1));
+        cache.evictAll(List.of(2));
+        cache.evictAll(List.of(3));
+        cache.putAll(Map.of(1, STATS), generation);
+
+        // Then
+        assertTrue(cache.getAll(List.of(1)).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cpumonitoring.component;
+
+import com.example.cpumonitoring.model.HostCpuUsageRank;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopHostsSelectorTest {
+
+    @Test
+    @DisplayName("구간 평균 상위 N 호스트 : 내림차순, 전체/임계값 초과 호스트 수")
+    void testToTopHosts() {
+        // Given
+        TopHostsSelector selector = new TopHostsSelector(3, 30);
+
+        // When : 호스트별 구간 최대, 합계, 건수 (평균 i * 2)
+        for (int i = 0; i < 20; i++) {
+            selector.add(String.format("host-%02d", i), i * 5, i * 4 * 60, 120);
+        }
+        TopHostsSelector.TopHosts top = selector.toTopHosts();
+
+        // Then
+        List<HostCpuUsageRank> ranks = top.getRanks();
+        assertEquals(3, ranks.size());
+        assertEquals("host-19", ranks.get(0).getHostId());
+        assertEquals(38, ranks.get(0).getAverageUsage());
+        assertEquals(95, ranks.get(0).getMaxUsage());
+        assertEquals(120, ranks.get(0).getSampleCount());
+        assertEquals("host-18", ranks.get(1).getHostId());
+        assertEquals("host-17", ranks.get(2).getHostId());
+        assertEquals(20, top.getHosts());
+        // 구간 평균 i * 2 > 30 : host-16 ~ host-19
+        assertEquals(4, top.getHostsAbove());
+    }
+
+    @Test
+    @DisplayName("평균이 같으면 호스트 이름 순, 건수가 없는 호스트는 제외")
+    void testToTopHosts_tiesAndEmptyHosts() {
+        // Given
+        TopHostsSelector selector = new TopHostsSelector(2, 80);
+
+        // When
+        selector.add("web-03", 50, 500, 10);
+        selector.add("web-01", 50, 500, 10);
+        selector.add("web-02", 50, 500, 10);
+        selector.add("web-04", 0, 0, 0);
+        TopHostsSelector.TopHosts top = selector.toTopHosts();
+
+        // Then
+        assertEquals(List.of("web-01", "web-02"), top.getRanks().stream().map(HostCpuUsageRank::getHostId).toList());
+        assertEquals(3, top.getHosts());
+        assertEquals(0, top.getHostsAbove());
+    }
+}
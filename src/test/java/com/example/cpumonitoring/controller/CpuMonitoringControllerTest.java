@@ -1,5 +1,8 @@
 package com.example.cpumonitoring.controller;
 
+import com.example.cpumonitoring.codec.ColumnarSeries;
+import com.example.cpumonitoring.codec.ColumnarSeriesFormat;
+import com.example.cpumonitoring.codec.ColumnarSeriesReader;
 import com.example.cpumonitoring.entity.CpuUsage;
 import com.example.cpumonitoring.model.CpuUsageDateResponse;
 import com.example.cpumonitoring.model.CpuUsageHourResponse;
@@ -16,20 +19,32 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -105,6 +120,58 @@ class CpuMonitoringControllerTest {
                 .andExpect(jsonPath("$.cpuUsage[1].cpuUsage").value(40.0));
     }
 
+    @Test
+    @DisplayName("분 단위 스트리밍 조회 - NDJSON 한 줄에 사용률 한 건")
+    void testStreamCpuUsageByMinute() throws Exception {
+        // Given
+        LocalDateTime first = startTime.plusMinutes(1).withSecond(0).withNano(0);
+        Mockito.when(cpuMonitoringService.adjustMinuteRange(any(), any())).thenReturn(startTime);
+        Mockito.doAnswer(invocation -> {
+            Consumer<CpuUsage> action = invocation.getArgument(2);
+            action.accept(new CpuUsage(30.0, first));
+            action.accept(new CpuUsage(40.0, first.plusMinutes(1)));
+            return null;
+        }).when(cpuMonitoringService).forEachCpuUsageByMinute(any(), any(), any());
+
+        // When
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/minute/stream")
+                        .param("startTime", startTime.toString())
+                        .param("endTime", endTime.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"cpuUsage\":30.0"));
+        assertTrue(lines[1].startsWith("{") && lines[1].contains("\"cpuUsage\":40.0"));
+    }
+
+    @Test
+    @DisplayName("분 단위 스트리밍 조회 - 구간에 사용률이 없으면 빈 본문")
+    void testStreamCpuUsageByMinute_emptyRange() throws Exception {
+        // Given
+        Mockito.when(cpuMonitoringService.adjustMinuteRange(any(), any())).thenReturn(startTime);
+
+        // When
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/minute/stream")
+                        .param("startTime", startTime.toString())
+                        .param("endTime", endTime.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(""));
+        Mockito.verify(cpuMonitoringService).forEachCpuUsageByMinute(any(), any(), any());
+    }
+
     @Test
     @DisplayName("시 단위 조회")
     void testGetCpuUsageStatsByHour() throws Exception {
@@ -129,6 +196,51 @@ class CpuMonitoringControllerTest {
     }
 
 
+    @Test
+    @DisplayName("시 단위 조회 - 컬럼 기반 바이너리 응답")
+    void testGetCpuUsageStatsByHourColumnar() throws Exception {
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/hour")
+                        .param("startDate", date.toString())
+                        .param("endDate", date.toString())
+                        .accept(ColumnarSeriesFormat.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ColumnarSeriesFormat.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ColumnarSeries series = new ColumnarSeriesReader(new ByteArrayInputStream(body)).read();
+        long startOfDay = date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        assertArrayEquals(new long[]{startOfDay, startOfDay + 3600, startOfDay + 7200}, series.getEpochSeconds());
+        assertArrayEquals(new double[]{10.0, 10.0, 10.0}, series.getColumns().get(ColumnarSeriesFormat.COLUMN_MIN));
+        assertArrayEquals(new double[]{20.0, 30.0, 40.0}, series.getColumns().get(ColumnarSeriesFormat.COLUMN_MAX));
+        assertArrayEquals(new double[]{15.0, 20.0, 25.0}, series.getColumns().get(ColumnarSeriesFormat.COLUMN_AVERAGE));
+    }
+
+    @Test
+    @DisplayName("시 단위 조회 - ETag 가 같으면 조회 없이 304")
+    void testGetCpuUsageStatsByHourNotModified() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/hour")
+                        .param("startDate", date.toString())
+                        .param("endDate", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/hour")
+                        .param("startDate", date.toString())
+                        .param("endDate", date.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 다른 구간은 다른 ETag
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/cpumonitoring/hour")
+                        .param("startDate", date.minusDays(1).toString())
+                        .param("endDate", date.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+
+        Mockito.verify(cpuMonitoringService, Mockito.times(2)).getCpuUsageStatsByHour(any(), any());
+    }
 
     @Test
     @DisplayName("일 단위 조회")
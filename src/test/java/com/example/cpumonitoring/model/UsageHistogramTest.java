@@ -0,0 +1,67 @@
+package com.example.cpumonitoring.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsageHistogramTest {
+
+    @Test
+    @DisplayName("백분위수 : 구간 폭(0.5%p) 이내 근사")
+    void testQuantile() {
+        // Given
+        UsageHistogram histogram = new UsageHistogram();
+        for (int usage = 1; usage <= 100; usage++) {
+            histogram.add(usage);
+        }
+
+        // When & Then
+        assertEquals(50, histogram.quantile(0.50, 1, 100), UsageHistogram.BIN_WIDTH);
+        assertEquals(95, histogram.quantile(0.95, 1, 100), UsageHistogram.BIN_WIDTH);
+        assertEquals(99, histogram.quantile(0.99, 1, 100), UsageHistogram.BIN_WIDTH);
+        // 실제 최소/최대 범위로 제한
+        assertEquals(1, histogram.quantile(0, 1, 100));
+        assertEquals(100, histogram.quantile(1, 1, 100));
+    }
+
+    @Test
+    @DisplayName("병합 : 두 분포를 합친 결과는 전체를 한 번에 넣은 분포와 같음")
+    void testMerge() {
+        // Given
+        UsageHistogram first = new UsageHistogram();
+        UsageHistogram second = new UsageHistogram();
+        UsageHistogram whole = new UsageHistogram();
+        for (int i = 0; i < 1000; i++) {
+            double usage = (i * 7.3) % 100;
+            (i % 2 == 0 ? first : second).add(usage);
+            whole.add(usage);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertEquals(whole, first);
+        assertEquals(1000, first.getTotal());
+    }
+
+    @Test
+    @DisplayName("DB 컬럼 형식 : encode -> decode 결과 동일, 빈 구간은 생략")
+    void testEncodeAndDecode() {
+        // Given
+        UsageHistogram histogram = new UsageHistogram();
+        histogram.add(3.2);
+        histogram.add(3.4);
+        histogram.add(87.9);
+        histogram.add(UsageHistogram.BINS - 1, 300);
+
+        // When
+        byte[] encoded = histogram.encode();
+
+        // Then
+        assertEquals(histogram, UsageHistogram.decode(encoded));
+        assertTrue(encoded.length < 16);
+    }
+}
@@ -1,29 +1,64 @@
 package com.example.cpumonitoring.service;
 
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.component.CpuUsageRingBuffer;
+import com.example.cpumonitoring.component.CpuUsageStatsCache;
 import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import com.example.cpumonitoring.exception.InvalidRangeParameterException;
+import com.example.cpumonitoring.model.CpuUsageRangeResponse;
 import com.example.cpumonitoring.model.CpuUsageStats;
-import com.example.cpumonitoring.repository.CpuUsageRepository;
+import com.example.cpumonitoring.model.CpuUsageSummaryResponse;
+import com.example.cpumonitoring.model.DownsampleMode;
+import com.example.cpumonitoring.repository.CpuUsageDayRepository;
+import com.example.cpumonitoring.repository.CpuUsageHourRepository;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CpuMonitoringServiceTest {
 
     @Mock
-    private CpuUsageRepository cpuUsageRepository;
+    private CpuUsageStore cpuUsageStore;
+
+    @Mock
+    private CpuUsageHourRepository cpuUsageHourRepository;
+
+    @Mock
+    private CpuUsageDayRepository cpuUsageDayRepository;
+
+    @Mock
+    private CpuUsageRingBuffer cpuUsageRingBuffer;
+
+    @Spy
+    private CpuUsageStatsCache cpuUsageStatsCache = new CpuUsageStatsCache(2400, 400, 120);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CpuMonitoringMetrics cpuMonitoringMetrics = new CpuMonitoringMetrics(meterRegistry);
 
     @InjectMocks
     private CpuMonitoringService cpuMonitoringService;
@@ -44,13 +79,100 @@ class CpuMonitoringServiceTest {
                 new CpuUsage(60, LocalDateTime.now().minusMinutes(15)),
                 new CpuUsage(70, LocalDateTime.now().minusMinutes(10))
         );
-        when(cpuUsageRepository.findByTimestampBetween(startTime, endTime)).thenReturn(fakeData);
+        when(cpuUsageRingBuffer.findBetween(startTime, endTime)).thenReturn(null);
+        when(cpuUsageStore.findBetween(startTime, endTime)).thenReturn(fakeData);
 
         // When
         List<CpuUsage> result = cpuMonitoringService.getCpuUsageByMinute(startTime, endTime).getCpuUsage();
 
         // Then
         assertEquals(3, result.size());
+        // 저장소 조회 시간과 조회 건수 기록
+        assertEquals(1, meterRegistry.get("cpumonitoring.store.query").tag("query", "minute").timer().count());
+        assertEquals(3, meterRegistry.get("cpumonitoring.store.query.rows").tag("query", "minute").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("분 단위 조회 - 링 버퍼 응답")
+    void testGetCpuUsageByMinuteFromRingBuffer() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime endTime = LocalDateTime.now();
+        when(cpuUsageRingBuffer.findBetween(startTime, endTime))
+                .thenReturn(List.of(new CpuUsage(1L, 50, LocalDateTime.now().minusMinutes(20))));
+
+        // When
+        List<CpuUsage> result = cpuMonitoringService.getCpuUsageByMinute(startTime, endTime).getCpuUsage();
+
+        // Then
+        assertEquals(1, result.size());
+        verify(cpuUsageStore, never()).findBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("분 단위 스트리밍 조회 - DB 커서")
+    void testForEachCpuUsageByMinute() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime endTime = LocalDateTime.now();
+        when(cpuUsageRingBuffer.findBetween(startTime, endTime)).thenReturn(null);
+        when(cpuUsageStore.streamBetween(startTime, endTime)).thenReturn(Stream.of(
+                new CpuUsage(1L, 50, LocalDateTime.now().minusMinutes(20)),
+                new CpuUsage(2L, 60, LocalDateTime.now().minusMinutes(15))));
+
+        // When
+        List<CpuUsage> result = new ArrayList<>();
+        cpuMonitoringService.forEachCpuUsageByMinute(startTime, endTime, result::add);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(60, result.get(1).getCpuUsage());
+        verify(cpuUsageStore, never()).findBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+        assertEquals(2, meterRegistry.get("cpumonitoring.store.query.rows").tag("query", "minute.stream").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("구간 조회 - maxPoints 만 지정하면 포인트 수 이하가 되는 분 단위 step 으로 집계")
+    void testGetCpuUsageRangeWithMaxPoints() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().withSecond(0).withNano(0);
+        LocalDateTime startTime = endTime.minusMinutes(119);
+        List<CpuUsage> cpuUsages = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            cpuUsages.add(new CpuUsage((long) i, i % 10, startTime.plusMinutes(i)));
+        }
+        when(cpuUsageRingBuffer.findBetween(startTime, endTime)).thenReturn(cpuUsages);
+
+        // When
+        CpuUsageRangeResponse result = cpuMonitoringService.getCpuUsageRange(startTime, endTime, null, 12, DownsampleMode.AVERAGE);
+
+        // Then
+        assertEquals(Duration.ofMinutes(11), result.getStep());
+        assertTrue(result.getCpuUsage().size() <= 12);
+        assertEquals(120, result.getCpuUsage().stream().mapToInt(point -> point.getSampleCount()).sum());
+    }
+
+    @Test
+    @DisplayName("구간 조회 - 잘못된 step / maxPoints")
+    void testGetCpuUsageRangeInvalidParameters() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now();
+        LocalDateTime startTime = endTime.minusHours(1);
+
+        // When & Then
+        assertThrows(InvalidRangeParameterException.class,
+                () -> cpuMonitoringService.getCpuUsageRange(startTime, endTime, null, null, DownsampleMode.AVERAGE));
+        assertThrows(InvalidRangeParameterException.class,
+                () -> cpuMonitoringService.getCpuUsageRange(startTime, endTime, "30s", null, DownsampleMode.AVERAGE));
+        assertThrows(InvalidRangeParameterException.class,
+                () -> cpuMonitoringService.getCpuUsageRange(startTime, endTime, "five", null, DownsampleMode.AVERAGE));
+        assertThrows(InvalidRangeParameterException.class,
+                () -> cpuMonitoringService.getCpuUsageRange(startTime, endTime, null, 2, DownsampleMode.LTTB));
+        // LTTB 는 step 을 사용하지 않음
+        assertThrows(InvalidRangeParameterException.class,
+                () -> cpuMonitoringService.getCpuUsageRange(startTime, endTime, "5m", 100, DownsampleMode.LTTB));
+        assertEquals(Duration.ofMinutes(15), CpuMonitoringService.parseStep("15m"));
+        assertEquals(Duration.ofMinutes(15), CpuMonitoringService.parseStep("PT15M"));
     }
 
     @Test
@@ -58,18 +180,23 @@ class CpuMonitoringServiceTest {
     void testGetCpuUsageStatsByHour() {
         // Given
         LocalDate date = LocalDate.now();
-        List<CpuUsage> fakeData = Arrays.asList(
-                new CpuUsage(50, LocalDateTime.now().minusHours(2)),
-                new CpuUsage(60, LocalDateTime.now().minusHours(1)),
-                new CpuUsage(70, LocalDateTime.now())
+        LocalDateTime startOfDay = date.atStartOfDay();
+        List<CpuUsageHour> fakeData = Arrays.asList(
+                hourRollup(startOfDay, 50, 55),
+                hourRollup(startOfDay.plusHours(1), 60),
+                hourRollup(startOfDay.plusHours(2), 70)
         );
-        when(cpuUsageRepository.findByTimestampBetween(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(fakeData);
+        when(cpuUsageHourRepository.findByBucketBetweenOrderByBucket(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(fakeData);
 
         // When
         Map<LocalDateTime, CpuUsageStats> result = cpuMonitoringService.getCpuUsageStatsByHour(date, date).getCpuUsage();
 
         // Then
         assertEquals(3, result.size());
+        CpuUsageStats firstHour = result.get(date.atStartOfDay());
+        assertEquals(50, firstHour.getMinUsage());
+        assertEquals(55, firstHour.getMaxUsage());
+        assertEquals(52.5, firstHour.getAverageUsage());
     }
 
     @Test
@@ -78,17 +205,85 @@ class CpuMonitoringServiceTest {
         // Given
         LocalDate startDate = LocalDate.now().minusDays(1);
         LocalDate endDate = LocalDate.now();
-        List<CpuUsage> fakeData = Arrays.asList(
-                new CpuUsage(50, LocalDateTime.now().minusDays(1).plusHours(2)),
-                new CpuUsage(60, LocalDateTime.now().minusDays(1).plusHours(3)),
-                new CpuUsage(70, LocalDateTime.now().minusDays(1).plusHours(4))
-        );
-        when(cpuUsageRepository.findByTimestampBetween(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(fakeData);
+        CpuUsageDay dayRollup = new CpuUsageDay(startDate);
+        dayRollup.accumulate(50);
+        dayRollup.accumulate(60);
+        dayRollup.accumulate(70);
+        when(cpuUsageDayRepository.findByBucketBetweenOrderByBucket(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(dayRollup));
 
         // When
         Map<LocalDate, CpuUsageStats> result = cpuMonitoringService.getCpuUsageStatsByDay(startDate, endDate).getCpuUsage();
 
         // Then
         assertEquals(1, result.size());
+        assertEquals(60, result.get(startDate).getAverageUsage());
+    }
+
+    @Test
+    @DisplayName("일 단위 조회 - 끝난 날짜는 캐시에서 응답하고 오늘만 다시 조회")
+    void testGetCpuUsageStatsByDayCachesClosedDays() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = today.minusDays(2);
+        CpuUsageDay dayRollup = new CpuUsageDay(startDate);
+        dayRollup.accumulate(40);
+        when(cpuUsageDayRepository.findByBucketBetweenOrderByBucket(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(dayRollup));
+
+        // When
+        cpuMonitoringService.getCpuUsageStatsByDay(startDate, today);
+        Map<LocalDate, CpuUsageStats> result = cpuMonitoringService.getCpuUsageStatsByDay(startDate.minusDays(1), today.minusDays(1)).getCpuUsage();
+
+        // Then
+        verify(cpuUsageDayRepository).findByBucketBetweenOrderByBucket(startDate, today);
+        // 두 번째 요청은 캐시에 없는 앞 날짜만 조회 (데이터가 없던 어제는 빈 버킷으로 캐시)
+        verify(cpuUsageDayRepository).findByBucketBetweenOrderByBucket(startDate.minusDays(1), startDate.minusDays(1));
+        assertEquals(1, result.size());
+        assertEquals(40, result.get(startDate).getAverageUsage());
+        assertEquals(2, cpuUsageStatsCache.getStats().getDay().getHits());
+    }
+
+    @Test
+    @DisplayName("구간 요약 조회 - 일 단위 집계와 사용률 분포를 병합해 백분위수 계산")
+    void testGetCpuUsageSummary() {
+        // Given
+        LocalDate startDate = LocalDate.now().minusDays(1);
+        LocalDate endDate = LocalDate.now();
+        CpuUsageDay yesterday = new CpuUsageDay(startDate);
+        CpuUsageDay today = new CpuUsageDay(endDate);
+        for (int usage = 1; usage <= 100; usage++) {
+            (usage <= 50 ? yesterday : today).accumulate(usage);
+        }
+        when(cpuUsageDayRepository.findByBucketBetweenOrderByBucket(startDate, endDate)).thenReturn(List.of(yesterday, today));
+
+        // When
+        CpuUsageSummaryResponse result = cpuMonitoringService.getCpuUsageSummary(startDate, endDate);
+
+        // Then
+        assertEquals(100, result.getSampleCount());
+        assertEquals(1, result.getCpuUsage().getMinUsage());
+        assertEquals(100, result.getCpuUsage().getMaxUsage());
+        assertEquals(50.5, result.getCpuUsage().getAverageUsage());
+        assertEquals(95, result.getCpuUsage().getP95(), 1);
+        assertEquals(99, result.getCpuUsage().getP99(), 1);
+    }
+
+    @Test
+    @DisplayName("구간 요약 조회 - 데이터가 없으면 통계 없이 건수 0")
+    void testGetCpuUsageSummaryWithoutData() {
+        LocalDate today = LocalDate.now();
+        when(cpuUsageDayRepository.findByBucketBetweenOrderByBucket(today, today)).thenReturn(List.of());
+
+        CpuUsageSummaryResponse result = cpuMonitoringService.getCpuUsageSummary(today, today);
+
+        assertEquals(0, result.getSampleCount());
+        assertNull(result.getCpuUsage());
+    }
+
+    private CpuUsageHour hourRollup(LocalDateTime bucket, double... usages) {
+        CpuUsageHour rollup = new CpuUsageHour(bucket);
+        for (double usage : usages) {
+            rollup.accumulate(usage);
+        }
+        return rollup;
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.CpuUsageChangeTracker;
+import com.example.cpumonitoring.component.CpuUsageStatsCache;
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.entity.CpuUsageDay;
+import com.example.cpumonitoring.entity.CpuUsageHour;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.repository.CpuUsageDayRepository;
+import com.example.cpumonitoring.repository.CpuUsageHourRepository;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CpuUsageRollupServiceTest {
+    @Mock
+    private CpuUsageStore cpuUsageStore;
+
+    @Mock
+    private CpuUsageHourRepository cpuUsageHourRepository;
+
+    @Mock
+    private CpuUsageDayRepository cpuUsageDayRepository;
+
+    @Spy
+    private CpuUsageStatsCache cpuUsageStatsCache = new CpuUsageStatsCache(2400, 400, 120);
+
+    @Spy
+    private CpuUsageChangeTracker cpuUsageChangeTracker = new CpuUsageChangeTracker();
+
+    @InjectMocks
+    private CpuUsageRollupService cpuUsageRollupService;
+
+    @Test
+    @DisplayName("저장 시 시 단위/일 단위 집계 갱신")
+    void testAccumulateAll() {
+        // Given
+        LocalDateTime hour = LocalDateTime.of(2024, 5, 27, 3, 0);
+        CpuUsageHour hourRollup = new CpuUsageHour(hour);
+        hourRollup.accumulate(10.0);
+        when(cpuUsageHourRepository.findById(hour)).thenReturn(Optional.of(hourRollup));
+        when(cpuUsageDayRepository.findById(hour.toLocalDate())).thenReturn(Optional.empty());
+
+        // When
+        cpuUsageRollupService.accumulateAll(Arrays.asList(
+                new CpuUsage(30.0, hour.plusMinutes(15)),
+                new CpuUsage(50.0, hour.plusMinutes(16))
+        ));
+
+        // Then
+        assertEquals(3, hourRollup.getSampleCount());
+        assertEquals(10.0, hourRollup.getMinUsage());
+        assertEquals(50.0, hourRollup.getMaxUsage());
+        assertEquals(30.0, hourRollup.toStats().getAverageUsage());
+        verify(cpuUsageHourRepository, times(1)).findById(hour);
+
+        ArgumentCaptor<CpuUsageDay> dayCaptor = ArgumentCaptor.forClass(CpuUsageDay.class);
+        verify(cpuUsageDayRepository).save(dayCaptor.capture());
+        assertEquals(2, dayCaptor.getValue().getSampleCount());
+        assertEquals(50.0, dayCaptor.getValue().getMaxUsage());
+        // 조건부 GET 검증값 갱신
+        assertEquals(hour.plusMinutes(16), cpuUsageChangeTracker.getLatestSampleTimestamp());
+    }
+
+    @Test
+    @DisplayName("DB 그룹핑 결과로 하루치 집계 재계산")
+    @SuppressWarnings("unchecked")
+    void testRebuildDay() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 5, 27);
+        when(cpuUsageStore.aggregateByHour(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(
+                        new CpuUsageBucketStats(date.atTime(1, 0), 5.0, 15.0, 10.0, 20.0, 2),
+                        new CpuUsageBucketStats(date.atTime(2, 0), 40.0, 40.0, 40.0, 40.0, 1)
+                ));
+
+        // When
+        long rebuilt = cpuUsageRollupService.rebuildDay(date);
+
+        // Then
+        assertEquals(3, rebuilt);
+        ArgumentCaptor<Collection<CpuUsageHour>> hourCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(cpuUsageHourRepository).saveAll(hourCaptor.capture());
+        assertEquals(2, hourCaptor.getValue().size());
+
+        ArgumentCaptor<CpuUsageDay> dayCaptor = ArgumentCaptor.forClass(CpuUsageDay.class);
+        verify(cpuUsageDayRepository).save(dayCaptor.capture());
+        assertEquals(20.0, dayCaptor.getValue().toStats().getAverageUsage());
+        assertEquals(5.0, dayCaptor.getValue().getMinUsage());
+    }
+}
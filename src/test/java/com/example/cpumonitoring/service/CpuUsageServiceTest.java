@@ -1,38 +1,65 @@
 package com.example.cpumonitoring.service;
 
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.component.CpuUsageAccumulator;
+import com.example.cpumonitoring.component.CpuUsageBroadcaster;
 import com.example.cpumonitoring.component.CpuUsageCollector;
+import com.example.cpumonitoring.component.CpuUsageRingBuffer;
+import com.example.cpumonitoring.component.CpuUsageWriteBuffer;
+import com.example.cpumonitoring.component.HighFrequencyCpuSampler;
 import com.example.cpumonitoring.entity.CpuUsage;
-import com.example.cpumonitoring.repository.CpuUsageRepository;
+import com.example.cpumonitoring.storage.CpuUsageStore;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
 import uk.org.lidalia.slf4jtest.LoggingEvent;
 import uk.org.lidalia.slf4jtest.TestLogger;
 import uk.org.lidalia.slf4jtest.TestLoggerFactory;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 
-import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @Slf4j
 class CpuUsageServiceTest {
     @Mock
-    private CpuUsageRepository cpuUsageRepository;
+    private CpuUsageStore cpuUsageStore;
 
     @Mock
     private CpuUsageCollector cpuUsageCollector;
 
+    @Mock
+    private CpuUsageRingBuffer cpuUsageRingBuffer;
+
+    @Mock
+    private CpuUsageWriteBuffer cpuUsageWriteBuffer;
+
+    @Mock
+    private CpuUsageBroadcaster cpuUsageBroadcaster;
+
+    @Mock
+    private ObjectProvider<HighFrequencyCpuSampler> highFrequencyCpuSampler;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private CpuMonitoringMetrics cpuMonitoringMetrics;
+
     @InjectMocks
     private CpuUsageService cpuUsageService;
     private TestLogger logger = TestLoggerFactory.getTestLogger(CpuUsageService.class);
@@ -44,57 +71,128 @@ class CpuUsageServiceTest {
     }
 
     @Test
-    @DisplayName("DB 저장")
-    void testSaveCpuUsage() {
+    @DisplayName("cpu 사용률 수집 및 저장")
+    void testSaveCpuUsage_success() {
         // Given
-        CpuUsage cpuUsage = new CpuUsage(7.93, LocalDateTime.now());
-        when(cpuUsageRepository.save(cpuUsage)).thenReturn(cpuUsage);
+        Double mockCpuUsage = 7.928;
+        when(cpuUsageCollector.collectCpuUsage()).thenReturn(mockCpuUsage);
+        when(cpuUsageWriteBuffer.add(any(CpuUsage.class))).thenReturn(true);
 
         // When
-        CpuUsage savedCpuUsage = cpuUsageRepository.save(cpuUsage);
+        cpuUsageService.saveCpuUsage();
 
         // Then
-        assertNotNull(savedCpuUsage);
-        assertEquals(7.93, savedCpuUsage.getCpuUsage());
-        verify(cpuUsageRepository, times(1)).save(cpuUsage);
+        verify(cpuUsageCollector, times(1)).collectCpuUsage();
+        ArgumentCaptor<CpuUsage> usageCaptor = ArgumentCaptor.forClass(CpuUsage.class);
+        verify(cpuUsageWriteBuffer, times(1)).add(usageCaptor.capture());
+        assertEquals(7.93, usageCaptor.getValue().getCpuUsage());
+        verify(cpuUsageBroadcaster, times(1)).publish(usageCaptor.getValue());
+        verify(cpuMonitoringMetrics, times(1)).markSample();
+        verify(cpuMonitoringMetrics, never()).recordDrop();
+        verify(cpuUsageStore, never()).saveAll(anyList());
+
     }
 
     @Test
-    @DisplayName("지정한 구간 DB 조회")
-    void testFindByTimestampBetween() {
+    @DisplayName("저장 대기열이 가득 차 사용률을 버린 경우 지표로 기록")
+    void testSaveCpuUsage_dropped() {
         // Given
-        LocalDateTime start = LocalDateTime.now().minusDays(1);
-        LocalDateTime end = LocalDateTime.now();
-        CpuUsage cpuUsage1 = new CpuUsage(7.93, start.plusHours(1));
-        CpuUsage cpuUsage2 = new CpuUsage(6.75, start.plusHours(2));
-        List<CpuUsage> expectedUsages = Arrays.asList(cpuUsage1, cpuUsage2);
-
-        when(cpuUsageRepository.findByTimestampBetween(start, end)).thenReturn(expectedUsages);
+        when(cpuUsageCollector.collectCpuUsage()).thenReturn(7.928);
+        when(cpuUsageWriteBuffer.add(any(CpuUsage.class))).thenReturn(false);
 
         // When
-        List<CpuUsage> foundUsages = cpuUsageRepository.findByTimestampBetween(start, end);
+        cpuUsageService.saveCpuUsage();
 
         // Then
-        assertEquals(2, foundUsages.size());
-        assertEquals(7.93, foundUsages.get(0).getCpuUsage());
-        assertEquals(6.75, foundUsages.get(1).getCpuUsage());
-        verify(cpuUsageRepository, times(1)).findByTimestampBetween(start, end);
+        verify(cpuMonitoringMetrics, times(1)).recordDrop();
+        verify(cpuUsageBroadcaster, times(1)).publish(any(CpuUsage.class));
     }
 
-
     @Test
-    @DisplayName("cpu 사용률 수집 및 저장")
-    void testSaveCpuUsage_success() {
+    @DisplayName("고빈도 수집 모드 - 끝난 분의 요약 저장")
+    void testSaveCpuUsage_highFrequency() {
         // Given
-        Double mockCpuUsage = 7.928;
-        when(cpuUsageCollector.collectCpuUsage()).thenReturn(mockCpuUsage);
+        CpuUsageAccumulator minute = new CpuUsageAccumulator();
+        minute.add(10.0);
+        minute.add(90.123);
+        minute.add(20.0);
+        HighFrequencyCpuSampler sampler = mock(HighFrequencyCpuSampler.class);
+        when(sampler.drain()).thenReturn(minute);
+        when(highFrequencyCpuSampler.getIfAvailable()).thenReturn(sampler);
 
         // When
         cpuUsageService.saveCpuUsage();
 
         // Then
-        verify(cpuUsageCollector, times(1)).collectCpuUsage();
-        verify(cpuUsageRepository, times(1)).save(any(CpuUsage.class));
+        ArgumentCaptor<CpuUsage> usageCaptor = ArgumentCaptor.forClass(CpuUsage.class);
+        verify(cpuUsageWriteBuffer, times(1)).add(usageCaptor.capture());
+        CpuUsage saved = usageCaptor.getValue();
+        assertEquals(40.04, saved.getCpuUsage());
+        assertEquals(10.0, saved.getMinUsage());
+        assertEquals(90.12, saved.getMaxUsage());
+        assertEquals(3, saved.getSampleCount());
+        // 끝난 분 [m-1, m) 의 시작 시각으로 저장
+        assertEquals(0, saved.getTimestamp().getSecond());
+        assertTrue(saved.getTimestamp().isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES)));
+        verify(cpuUsageCollector, never()).collectCpuUsage();
+    }
 
+    @Test
+    @DisplayName("시작 준비 - 유효한 값이 나올 때까지 확인만 하고, 첫 저장은 다음 매 분 수집에서")
+    void testWarmUpDefersFirstSample() {
+        // Given : 예약한 작업을 바로 실행
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        when(cpuUsageCollector.collectCpuUsage()).thenReturn(0.0, -100.0, 12.345, 23.456);
+        when(cpuUsageWriteBuffer.add(any(CpuUsage.class))).thenReturn(true);
+
+        // When
+        cpuUsageService.saveCpuUsageOnSchedule();
+        verify(cpuUsageWriteBuffer, never()).add(any(CpuUsage.class));
+        cpuUsageService.warmUpOnReady();
+        verify(cpuUsageWriteBuffer, never()).add(any(CpuUsage.class));
+        cpuUsageService.saveCpuUsageOnSchedule();
+
+        // Then : 링 버퍼 적재 후 수집기 확인 3회 (확인 값은 저장하지 않음), 첫 저장은 다음 매 분 수집
+        verify(cpuUsageRingBuffer).load(anyList(), any(LocalDateTime.class));
+        verify(cpuUsageCollector, times(4)).collectCpuUsage();
+        ArgumentCaptor<CpuUsage> usageCaptor = ArgumentCaptor.forClass(CpuUsage.class);
+        verify(cpuUsageWriteBuffer, times(1)).add(usageCaptor.capture());
+        assertEquals(23.46, usageCaptor.getValue().getCpuUsage());
+    }
+
+    @Test
+    @DisplayName("고빈도 수집 모드 - 시작 준비 중 누적된 사용률은 버리고, 첫 저장은 준비 후 1분의 요약만")
+    void testWarmUpDiscardsHighFrequencySamples() {
+        // Given : 시작 준비 중 누적된 사용률
+        CpuUsageAccumulator duringWarmUp = new CpuUsageAccumulator();
+        duringWarmUp.add(95.0);
+        CpuUsageAccumulator afterWarmUp = new CpuUsageAccumulator();
+        afterWarmUp.add(10.0);
+        afterWarmUp.add(20.0);
+        HighFrequencyCpuSampler sampler = mock(HighFrequencyCpuSampler.class);
+        when(sampler.drain()).thenReturn(duringWarmUp, afterWarmUp);
+        when(highFrequencyCpuSampler.getIfAvailable()).thenReturn(sampler);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        when(cpuUsageCollector.collectCpuUsage()).thenReturn(12.0);
+        when(cpuUsageWriteBuffer.add(any(CpuUsage.class))).thenReturn(true);
+
+        // When
+        cpuUsageService.saveCpuUsageOnSchedule();
+        cpuUsageService.warmUpOnReady();
+        cpuUsageService.saveCpuUsageOnSchedule();
+
+        // Then
+        verify(sampler, times(2)).drain();
+        ArgumentCaptor<CpuUsage> usageCaptor = ArgumentCaptor.forClass(CpuUsage.class);
+        verify(cpuUsageWriteBuffer, times(1)).add(usageCaptor.capture());
+        assertEquals(15.0, usageCaptor.getValue().getCpuUsage());
+        assertEquals(20.0, usageCaptor.getValue().getMaxUsage());
+        assertEquals(2, usageCaptor.getValue().getSampleCount());
     }
-}
\ No newline at end of file
+}
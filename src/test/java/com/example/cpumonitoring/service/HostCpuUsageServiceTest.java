@@ -0,0 +1,191 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.CpuMonitoringMetrics;
+import com.example.cpumonitoring.exception.InvalidDateTimeRangeException;
+import com.example.cpumonitoring.exception.InvalidIngestRequestException;
+import com.example.cpumonitoring.exception.InvalidRangeParameterException;
+import com.example.cpumonitoring.model.FleetCpuUsageHourResponse;
+import com.example.cpumonitoring.model.FleetCpuUsageTopResponse;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import com.example.cpumonitoring.model.HostCpuUsageHourResponse;
+import com.example.cpumonitoring.model.HostCpuUsageIngestResponse;
+import com.example.cpumonitoring.model.HostCpuUsageSample;
+import com.example.cpumonitoring.repository.HostCpuUsageRepository;
+import com.example.cpumonitoring.repository.HostCpuUsageRepository.HostConsumer;
+import com.example.cpumonitoring.repository.HostCpuUsageRepository.HostHourConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HostCpuUsageServiceTest {
+    @Mock
+    private HostCpuUsageRepository hostCpuUsageRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HostCpuUsageService hostCpuUsageService;
+
+    @BeforeEach
+    void setUp() {
+        hostCpuUsageService = new HostCpuUsageService(hostCpuUsageRepository, new CpuMonitoringMetrics(meterRegistry), 3);
+    }
+
+    @Test
+    @DisplayName("여러 호스트의 사용률을 한 번의 배치로 저장 (시각 초 단위 절삭, 사용률 반올림)")
+    void testIngest() {
+        // Given
+        LocalDateTime timestamp = LocalDateTime.now().minusMinutes(1).withSecond(0).withNano(0);
+        List<HostCpuUsageSample> samples = List.of(
+                new HostCpuUsageSample("web-01", timestamp.withNano(500_000_000), 12.345),
+                new HostCpuUsageSample("web-01", timestamp.plusSeconds(30), 14.0),
+                new HostCpuUsageSample("db-01", timestamp, 63.1));
+
+        // When
+        HostCpuUsageIngestResponse response = hostCpuUsageService.ingest(samples);
+
+        // Then
+        assertEquals(3, response.getAccepted());
+        assertEquals(2, response.getHosts());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HostCpuUsageSample>> captor = ArgumentCaptor.forClass(List.class);
+        verify(hostCpuUsageRepository, times(1)).upsertAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(timestamp, captor.getValue().get(0).getTimestamp());
+        assertEquals(12.35, captor.getValue().get(0).getCpuUsage());
+        assertEquals(3, meterRegistry.get("cpumonitoring.ingest.rows").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("잘못된 사용률이 하나라도 있으면 전체를 저장하지 않음")
+    void testIngest_invalidSamples() {
+        // Given
+        LocalDateTime timestamp = LocalDateTime.now().minusMinutes(1);
+        HostCpuUsageSample sample = new HostCpuUsageSample("web-01", timestamp, 12.0);
+
+        // When & Then
+        assertThrows(InvalidIngestRequestException.class, () -> hostCpuUsageService.ingest(List.of()));
+        assertThrows(InvalidIngestRequestException.class, () -> hostCpuUsageService.ingest(List.of(
+                new HostCpuUsageSample("web-01", timestamp, 12.0),
+                new HostCpuUsageSample("web-01", timestamp, 101.0))));
+        assertThrows(InvalidIngestRequestException.class, () -> hostCpuUsageService.ingest(List.of(
+                new HostCpuUsageSample(" ", timestamp, 12.0))));
+        assertThrows(InvalidIngestRequestException.class, () -> hostCpuUsageService.ingest(List.of(
+                new HostCpuUsageSample("web-01", LocalDateTime.now().plusHours(1), 12.0))));
+        // 요청당 최대 건수(3) 초과
+        assertThrows(InvalidIngestRequestException.class,
+                () -> hostCpuUsageService.ingest(List.of(sample, sample, sample, sample)));
+        verify(hostCpuUsageRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("호스트 시 단위 조회 : 제공 기한(3개월) 조절, 평균 반올림")
+    void testGetCpuUsageStatsByHour() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDateTime bucket = today.atTime(6, 0);
+        when(hostCpuUsageRepository.aggregateByHour(eq("web-01"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(new CpuUsageBucketStats(bucket, 10, 30, 20.456, 1227.36, 60)));
+
+        // When
+        HostCpuUsageHourResponse response = hostCpuUsageService.getCpuUsageStatsByHour(
+                "web-01", today.minusYears(1), today);
+
+        // Then
+        assertEquals("web-01", response.getHostId());
+        assertEquals(today.minusMonths(3), response.getStartDate());
+        assertEquals(20.46, response.getCpuUsage().get(bucket).getAverageUsage());
+    }
+
+    @Test
+    @DisplayName("전체 호스트 시 단위 조회 : 제공 기한(3개월) 조절, 조회 결과 행을 시각별로 누적")
+    void testGetFleetCpuUsageByHour() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDateTime bucket = today.atTime(6, 0);
+        doAnswer(invocation -> {
+            HostHourConsumer consumer = invocation.getArgument(2);
+            consumer.accept(bucket, 95, 90 * 60, 60);
+            consumer.accept(bucket, 30, 10 * 60, 60);
+            return 2L;
+        }).when(hostCpuUsageRepository).forEachHostHour(eq(today.minusMonths(3).atStartOfDay()),
+                any(LocalDateTime.class), any(HostHourConsumer.class));
+
+        // When
+        FleetCpuUsageHourResponse response = hostCpuUsageService.getFleetCpuUsageByHour(today.minusYears(1), today, 80);
+
+        // Then
+        assertEquals(today.minusMonths(3), response.getStartDate());
+        assertEquals(1, response.getCpuUsage().size());
+        assertEquals(2, response.getCpuUsage().get(bucket).getHosts());
+        assertEquals(50, response.getCpuUsage().get(bucket).getAverageUsage());
+        assertEquals(1, response.getCpuUsage().get(bucket).getHostsAbove());
+        assertEquals(2, meterRegistry.get("cpumonitoring.store.query.rows").tag("query", "fleet.hour").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("상위 호스트 조회 : 제공 기한(3개월) 조절, 호스트 단위 조회 결과에서 상위 N 선택")
+    void testGetTopHosts() {
+        // Given
+        LocalDate today = LocalDate.now();
+        doAnswer(invocation -> {
+            HostConsumer consumer = invocation.getArgument(2);
+            consumer.accept("web-01", 40, 20 * 60, 60);
+            consumer.accept("db-01", 99, 90 * 60, 60);
+            consumer.accept("web-02", 70, 60 * 60, 60);
+            return 3L;
+        }).when(hostCpuUsageRepository).forEachHost(eq(today.minusMonths(3).atStartOfDay()),
+                any(LocalDateTime.class), any(HostConsumer.class));
+
+        // When
+        FleetCpuUsageTopResponse response = hostCpuUsageService.getTopHosts(today.minusYears(1), today, 2, 50);
+
+        // Then
+        assertEquals(today.minusMonths(3), response.getStartDate());
+        assertEquals(2, response.getTopHosts().size());
+        assertEquals("db-01", response.getTopHosts().get(0).getHostId());
+        assertEquals("web-02", response.getTopHosts().get(1).getHostId());
+        assertEquals(3, response.getHosts());
+        assertEquals(2, response.getHostsAbove());
+    }
+
+    @Test
+    @DisplayName("전체 호스트 조회 : 잘못된 limit, threshold, 날짜 구간은 조회 없이 거절")
+    void testFleetInvalidParameters() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        // When & Then
+        assertThrows(InvalidRangeParameterException.class, () -> hostCpuUsageService.getTopHosts(today, today, 0, 80));
+        assertThrows(InvalidRangeParameterException.class, () -> hostCpuUsageService.getTopHosts(today, today, 101, 80));
+        assertThrows(InvalidRangeParameterException.class, () -> hostCpuUsageService.getTopHosts(today, today, 10, -1));
+        assertThrows(InvalidRangeParameterException.class, () -> hostCpuUsageService.getTopHosts(today, today, 10, Double.NaN));
+        assertThrows(InvalidRangeParameterException.class, () -> hostCpuUsageService.getFleetCpuUsageByHour(today, today, 100.5));
+        assertThrows(InvalidDateTimeRangeException.class,
+                () -> hostCpuUsageService.getFleetCpuUsageByHour(today, today.minusDays(1), 80));
+        assertThrows(InvalidDateTimeRangeException.class,
+                () -> hostCpuUsageService.getTopHosts(today, today.plusDays(1), 10, 80));
+        verifyNoInteractions(hostCpuUsageRepository);
+    }
+}
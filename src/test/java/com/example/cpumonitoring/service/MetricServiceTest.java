@@ -0,0 +1,136 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.component.MetricSnapshot;
+import com.example.cpumonitoring.component.MetricSource;
+import com.example.cpumonitoring.entity.MetricSample;
+import com.example.cpumonitoring.exception.UnknownMetricException;
+import com.example.cpumonitoring.model.MetricBucketStats;
+import com.example.cpumonitoring.model.MetricStatsResponse;
+import com.example.cpumonitoring.repository.MetricSampleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricServiceTest {
+    @Mock
+    private MetricSampleRepository metricSampleRepository;
+
+    private MetricService metricService;
+
+    @BeforeEach
+    void setUp() {
+        metricService = new MetricService(metricSampleRepository,
+                List.of(source("system.memory.usage"), source("system.load.average.1m")));
+    }
+
+    @Test
+    @DisplayName("한 주기 지표 저장 : NaN 값을 제외하고 한 번에 저장")
+    void testSaveSnapshot() {
+        // Given
+        LocalDateTime timestamp = LocalDateTime.of(2024, 5, 26, 6, 0);
+        MetricSnapshot snapshot = new MetricSnapshot(timestamp,
+                new String[]{"system.memory.usage", "system.load.average.1m"},
+                new double[]{42.5, Double.NaN});
+
+        // When
+        metricService.saveSnapshot(snapshot);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MetricSample>> captor = ArgumentCaptor.forClass(List.class);
+        verify(metricSampleRepository).saveAll(captor.capture());
+        List<MetricSample> saved = new ArrayList<>(captor.getValue());
+        assertEquals(1, saved.size());
+        assertEquals("system.memory.usage", saved.get(0).getMetric());
+        assertEquals(42.5, saved.get(0).getValue());
+        assertEquals(timestamp, saved.get(0).getTimestamp());
+    }
+
+    @Test
+    @DisplayName("한 주기 지표 저장 : 모두 수집 실패한 경우 저장 안 함")
+    void testSaveSnapshot_allNaN() {
+        // Given
+        MetricSnapshot snapshot = new MetricSnapshot(LocalDateTime.now(),
+                new String[]{"system.memory.usage"}, new double[]{Double.NaN});
+
+        // When
+        metricService.saveSnapshot(snapshot);
+
+        // Then
+        verify(metricSampleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("시 단위 지표 조회 : 버킷별 통계")
+    void testGetMetricStatsByHour() {
+        // Given
+        LocalDate date = LocalDate.now();
+        LocalDateTime bucket = date.atTime(6, 0);
+        when(metricSampleRepository.aggregateByHour(eq("system.load.average.1m"), any(), any()))
+                .thenReturn(List.of(new MetricBucketStats(bucket, 0.5, 1.5, 0.8333, 3)));
+
+        // When
+        MetricStatsResponse<LocalDateTime> response = metricService.getMetricStatsByHour("system.load.average.1m", date, date);
+
+        // Then
+        assertEquals("system.load.average.1m", response.getMetric());
+        assertEquals(1, response.getStats().size());
+        assertEquals(0.5, response.getStats().get(bucket).getMinValue());
+        assertEquals(1.5, response.getStats().get(bucket).getMaxValue());
+        assertEquals(0.83, response.getStats().get(bucket).getAverageValue());
+        assertEquals(3, response.getStats().get(bucket).getSampleCount());
+    }
+
+    @Test
+    @DisplayName("일 단위 지표 조회 : 등록되지 않은 지표")
+    void testGetMetricStatsByDay_unknownMetric() {
+        // Given
+        LocalDate date = LocalDate.now();
+
+        // When & Then
+        assertThrows(UnknownMetricException.class,
+                () -> metricService.getMetricStatsByDay("system.disk.usage", date, date));
+    }
+
+    @Test
+    @DisplayName("지표 목록 : 이름순 정렬")
+    void testGetMetricNames() {
+        // When
+        List<String> names = metricService.getMetricNames();
+
+        // Then
+        assertEquals(List.of("system.load.average.1m", "system.memory.usage"), names);
+    }
+
+    private static MetricSource source(String name) {
+        return new MetricSource() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public double sample() {
+                return 0;
+            }
+        };
+    }
+}
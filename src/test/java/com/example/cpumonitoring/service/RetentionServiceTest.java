@@ -0,0 +1,89 @@
+package com.example.cpumonitoring.service;
+
+import com.example.cpumonitoring.model.RetentionReport;
+import com.example.cpumonitoring.repository.PurgeRepository;
+import com.example.cpumonitoring.repository.PurgeTarget;
+import com.example.cpumonitoring.storage.CpuUsageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+    @Mock
+    private CpuUsageStore cpuUsageStore;
+
+    @Mock
+    private CpuUsageRollupService cpuUsageRollupService;
+
+    @Mock
+    private PurgeRepository purgeRepository;
+
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        retentionService = new RetentionService(cpuUsageStore, cpuUsageRollupService, purgeRepository,
+                Period.ofDays(8), Period.ofMonths(3), Period.ofYears(1), Period.ofYears(1), Period.ofMonths(3), 5000);
+    }
+
+    @Test
+    @DisplayName("보관 기한 삭제 전 집계가 없는 날짜만 다시 계산")
+    void testPurgeExpiredRebuildsMissingRollups() {
+        // Given
+        LocalDate rawCutoff = LocalDate.now().minusDays(8);
+        LocalDate hourCutoff = LocalDate.now().minusMonths(3);
+        when(cpuUsageRollupService.findOldestSampleDate()).thenReturn(rawCutoff.minusDays(2));
+        when(cpuUsageRollupService.hasDayRollup(rawCutoff.minusDays(2))).thenReturn(true);
+        when(cpuUsageRollupService.hasDayRollup(rawCutoff.minusDays(1))).thenReturn(false);
+        when(cpuUsageStore.purgeBefore(rawCutoff.atStartOfDay(), 5000)).thenReturn(2880L);
+        when(cpuUsageRollupService.findOldestHourRollupDate()).thenReturn(hourCutoff.minusDays(1));
+        when(purgeRepository.deleteBefore(PurgeTarget.CPU_USAGE_HOUR, hourCutoff.atStartOfDay(), 5000)).thenReturn(24L);
+        when(purgeRepository.deleteBefore(eq(PurgeTarget.CPU_USAGE_DAY), any(), anyInt())).thenReturn(1L);
+        when(purgeRepository.deleteBefore(eq(PurgeTarget.METRIC_SAMPLE), any(), anyInt())).thenReturn(0L);
+
+        // When
+        RetentionReport report = retentionService.purgeExpired();
+
+        // Then
+        verify(cpuUsageRollupService, never()).rebuildDay(rawCutoff.minusDays(2));
+        verify(cpuUsageRollupService, times(1)).rebuildDay(rawCutoff.minusDays(1));
+        verify(cpuUsageRollupService, times(1)).rollupDayFromHours(hourCutoff.minusDays(1));
+        assertEquals(2880L, report.getRawPurged());
+        assertEquals(24L, report.getHourPurged());
+        assertEquals(1L, report.getDayPurged());
+        assertEquals(2905L, report.getTotalPurged());
+    }
+
+    @Test
+    @DisplayName("보관 기한이 지난 데이터가 없으면 원본, 시 단위 집계 삭제 생략")
+    void testPurgeExpiredNothingToPurge() {
+        // Given
+        when(cpuUsageRollupService.findOldestSampleDate()).thenReturn(LocalDate.now().minusDays(3));
+        when(cpuUsageRollupService.findOldestHourRollupDate()).thenReturn(null);
+
+        // When
+        RetentionReport report = retentionService.purgeExpired();
+
+        // Then
+        verify(cpuUsageStore, never()).purgeBefore(any(), anyInt());
+        verify(purgeRepository, never()).deleteBefore(eq(PurgeTarget.CPU_USAGE_HOUR), any(), anyInt());
+        assertEquals(0L, report.getRawPurged());
+        assertEquals(0L, report.getHourPurged());
+    }
+}
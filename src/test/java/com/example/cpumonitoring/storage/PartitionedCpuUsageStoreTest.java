@@ -0,0 +1,134 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.repository.CpuUsagePartition;
+import com.example.cpumonitoring.repository.PartitionGranularity;
+import com.example.cpumonitoring.repository.PartitionedCpuUsageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedCpuUsageStoreTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 26, 0, 0);
+
+    @Mock
+    private PartitionedCpuUsageRepository repository;
+
+    @Test
+    @DisplayName("저장 시 기간별로 나눠 저장, 없는 기간의 테이블은 생성 (H2)")
+    void testSaveAll_routesByPartition() {
+        // Given
+        PartitionedCpuUsageStore store = new PartitionedCpuUsageStore(repository, PartitionGranularity.DAY, 7);
+        when(repository.findPartitions()).thenReturn(List.of(PartitionGranularity.DAY.partitionOf(START)));
+        when(repository.routesByTable()).thenReturn(true);
+
+        // When
+        store.saveAll(new ArrayList<>(List.of(
+                new CpuUsage(10.0, START.plusHours(23).plusMinutes(59)),
+                new CpuUsage(20.0, START.plusDays(1)),
+                new CpuUsage(30.0, START.plusDays(1).plusMinutes(1)))));
+
+        // Then
+        ArgumentCaptor<CpuUsagePartition> created = ArgumentCaptor.forClass(CpuUsagePartition.class);
+        verify(repository, times(1)).createPartition(created.capture());
+        assertEquals("p20240527", created.getValue().getName());
+        verify(repository, times(2)).insertAll(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("구간과 겹치는 파티션만 조회")
+    void testFindBetween_overlappingPartitions() {
+        // Given
+        PartitionedCpuUsageStore store = new PartitionedCpuUsageStore(repository, PartitionGranularity.DAY, 7);
+        CpuUsagePartition first = PartitionGranularity.DAY.partitionOf(START);
+        CpuUsagePartition second = PartitionGranularity.DAY.partitionOf(START.plusDays(1));
+        CpuUsagePartition third = PartitionGranularity.DAY.partitionOf(START.plusDays(2));
+        when(repository.findPartitions()).thenReturn(List.of(first, second, third));
+
+        // When
+        store.findBetween(START.plusDays(1).plusHours(3), START.plusDays(1).plusHours(5));
+
+        // Then
+        verify(repository).findBetween(eq(List.of(second)), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관 기한 삭제 : 기간이 모두 지난 파티션만 삭제")
+    void testPurgeBefore_dropsExpiredPartitions() {
+        // Given
+        PartitionedCpuUsageStore store = new PartitionedCpuUsageStore(repository, PartitionGranularity.DAY, 7);
+        CpuUsagePartition expired = new CpuUsagePartition("p20240526", START, START.plusDays(1), 1440);
+        CpuUsagePartition straddling = new CpuUsagePartition("p20240527", START.plusDays(1), START.plusDays(2), 1440);
+        when(repository.findPartitions()).thenReturn(List.of(expired, straddling));
+
+        // When
+        long purged = store.purgeBefore(START.plusDays(1).plusHours(12), 5000);
+
+        // Then
+        assertEquals(1440, purged);
+        verify(repository).dropPartition(expired);
+        verify(repository, never()).dropPartition(straddling);
+    }
+
+    @Test
+    @DisplayName("보관 기한 삭제 : 파티션 목록을 다시 읽는 동안에도 조회는 이전 목록 사용")
+    void testPurgeBefore_readersKeepPartitionsDuringReload() {
+        // Given
+        PartitionedCpuUsageStore store = new PartitionedCpuUsageStore(repository, PartitionGranularity.DAY, 7);
+        CpuUsagePartition expired = new CpuUsagePartition("p20240526", START, START.plusDays(1), 1440);
+        CpuUsagePartition current = new CpuUsagePartition("p20240527", START.plusDays(1), START.plusDays(2), 1440);
+        LocalDateTime from = START.plusDays(1).plusHours(3);
+        LocalDateTime to = START.plusDays(1).plusHours(5);
+        when(repository.findPartitions())
+                .thenReturn(List.of(expired, current))
+                .thenAnswer(invocation -> {
+                    // DB 에서 다시 읽는 중 다른 스레드의 조회
+                    store.findBetween(from, to);
+                    return List.of(expired, current);
+                });
+        store.findBetween(from, to);
+
+        // When
+        store.purgeBefore(START.plusDays(1).plusHours(12), 5000);
+
+        // Then
+        verify(repository, times(2)).findBetween(eq(List.of(current)), eq(from), eq(to));
+        verify(repository).dropPartition(expired);
+    }
+
+    @Test
+    @DisplayName("마지막 파티션 다음 기간부터 현재 기간 + ahead 개 기간까지 이어서 생성")
+    void testCreateAhead_contiguous() {
+        // Given
+        PartitionedCpuUsageStore store = new PartitionedCpuUsageStore(repository, PartitionGranularity.MONTH, 2);
+        when(repository.findPartitions()).thenReturn(List.of(PartitionGranularity.MONTH.partitionOf(START)));
+
+        // When
+        int created = store.createAhead(START.plusDays(10));
+
+        // Then
+        ArgumentCaptor<CpuUsagePartition> captor = ArgumentCaptor.forClass(CpuUsagePartition.class);
+        verify(repository, times(3)).createPartition(captor.capture());
+        assertEquals(3, created);
+        assertEquals("p202406", captor.getAllValues().get(0).getName());
+        assertEquals("p202408", captor.getAllValues().get(2).getName());
+        assertEquals(START.withMonth(9).withDayOfMonth(1), captor.getAllValues().get(2).getEnd());
+    }
+}
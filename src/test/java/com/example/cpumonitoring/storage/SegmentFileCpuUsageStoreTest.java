@@ -0,0 +1,155 @@
+package com.example.cpumonitoring.storage;
+
+import com.example.cpumonitoring.entity.CpuUsage;
+import com.example.cpumonitoring.model.CpuUsageBucketStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentFileCpuUsageStoreTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 26, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장 후 구간 조회 : 값, 시각, id 복원")
+    void testSaveAllAndFindBetween() throws IOException {
+        // Given
+        List<CpuUsage> usages = minuteUsages(300);
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 64 * 1024, 100)) {
+            store.saveAll(usages);
+
+            // When
+            List<CpuUsage> found = store.findBetween(START, START.plusDays(1));
+
+            // Then
+            assertEquals(300, found.size());
+            for (int i = 0; i < usages.size(); i++) {
+                assertEquals(i + 1L, found.get(i).getId());
+                assertEquals(usages.get(i).getCpuUsage(), found.get(i).getCpuUsage());
+                assertEquals(usages.get(i).getTimestamp(), found.get(i).getTimestamp());
+            }
+            assertEquals(10, store.findBetween(START.plusMinutes(150), START.plusMinutes(159)).size());
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 : 미완성 블록에 이어서 기록, 세그먼트 여러 개")
+    void testSaveAll_reopenAndContinue() throws IOException {
+        // Given
+        List<CpuUsage> usages = minuteUsages(1000);
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            store.saveAll(usages.subList(0, 550));
+        }
+
+        // When
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            store.saveAll(usages.subList(550, 1000));
+            assertEquals(1000L, usages.get(999).getId());
+        }
+
+        // Then
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            List<CpuUsage> found = store.findBetween(START, START.plusDays(1));
+            assertEquals(1000, found.size());
+            assertEquals(usages.get(999).getCpuUsage(), found.get(999).getCpuUsage());
+            assertEquals(START, store.findOldestTimestamp().orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기한 삭제 : 기한 이전 블록만 있는 세그먼트 파일 삭제")
+    void testPurgeBefore() throws IOException {
+        // Given
+        List<CpuUsage> usages = minuteUsages(1000);
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            store.saveAll(usages);
+            LocalDateTime cutoff = START.plusMinutes(700);
+
+            // When
+            long purged = store.purgeBefore(cutoff, 5000);
+
+            // Then
+            List<CpuUsage> found = store.findBetween(START, START.plusDays(1));
+            assertTrue(purged > 0);
+            assertEquals(1000 - purged, found.size());
+            assertTrue(found.get(0).getTimestamp().isBefore(cutoff));
+            assertEquals(usages.get(999).getCpuUsage(), found.get(found.size() - 1).getCpuUsage());
+        }
+    }
+
+    @Test
+    @DisplayName("시 단위 집계")
+    void testAggregateByHour() throws IOException {
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 64 * 1024, 100)) {
+            // Given
+            store.saveAll(new ArrayList<>(List.of(
+                    new CpuUsage(10.0, START.plusMinutes(1)),
+                    new CpuUsage(30.0, START.plusMinutes(2)),
+                    new CpuUsage(50.0, START.plusHours(1)))));
+
+            // When
+            List<CpuUsageBucketStats> stats = store.aggregateByHour(START, START.plusHours(2));
+
+            // Then
+            assertEquals(2, stats.size());
+            assertEquals(START, stats.get(0).getBucket());
+            assertEquals(10.0, stats.get(0).getMinUsage());
+            assertEquals(30.0, stats.get(0).getMaxUsage());
+            assertEquals(20.0, stats.get(0).getAverageUsage());
+            assertEquals(2, stats.get(0).getSampleCount());
+            assertEquals(50.0, stats.get(1).getSumUsage());
+        }
+    }
+
+    @Test
+    @DisplayName("배치 저장 중 새 세그먼트를 만들지 못하면 배치 시작 위치로 되돌려 재시도 시 중복 없음")
+    void testSaveAll_truncateOnFailure() throws IOException {
+        List<CpuUsage> usages = minuteUsages(1000);
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            // Given : 두 번째 세그먼트 파일 자리에 디렉터리가 있어 세그먼트를 만들 수 없음
+            store.saveAll(usages.subList(0, 50));
+            Path blocked = Files.createDirectory(directory.resolve("segment-00000002.seg"));
+
+            // When
+            assertThrows(UncheckedIOException.class, () -> store.saveAll(usages.subList(50, 1000)));
+
+            // Then : 실패한 배치는 보이지 않고, 재시도하면 이어서 한 번씩만 기록
+            assertEquals(50, store.findBetween(START, START.plusDays(1)).size());
+            Files.delete(blocked);
+            store.saveAll(usages.subList(50, 1000));
+            assertEquals(1000L, usages.get(999).getId());
+        }
+        try (SegmentFileCpuUsageStore store = new SegmentFileCpuUsageStore(directory.toString(), 4096, 100)) {
+            List<CpuUsage> found = store.findBetween(START, START.plusDays(1));
+            assertEquals(1000, found.size());
+            for (int i = 0; i < found.size(); i++) {
+                assertEquals(i + 1L, found.get(i).getId());
+                assertEquals(usages.get(i).getTimestamp(), found.get(i).getTimestamp());
+            }
+        }
+    }
+
+    // 분 단위 사용률 (가끔 수집 지연으로 몇 초 늦은 시각 포함)
+    private static List<CpuUsage> minuteUsages(int count) {
+        List<CpuUsage> usages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double usage = Math.round((Math.sin(i / 10.0) * 40 + 50) * 100) / 100.0;
+            usages.add(new CpuUsage(usage, START.plusMinutes(i).plusSeconds(i % 7 == 3 ? 2 : 0)));
+        }
+        return usages;
+    }
+}